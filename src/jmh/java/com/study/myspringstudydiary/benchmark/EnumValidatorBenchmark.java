@@ -0,0 +1,76 @@
+package com.study.myspringstudydiary.benchmark;
+
+import com.study.myspringstudydiary.study_log.entity.Category;
+import com.study.myspringstudydiary.study_log.entity.EnumValid;
+import com.study.myspringstudydiary.study_log.entity.EnumValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EnumValidator.isValid 벤치마크
+ *
+ * 대소문자 구분 / 무시 설정 각각에 대해 유효한 값과 유효하지 않은 값을 측정합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnumValidatorBenchmark {
+
+    // 어노테이션 인스턴스를 얻기 위한 필드 (Bean Validation이 넘겨주는 것과 같은 값)
+    static class Target {
+        @EnumValid(enumClass = Category.class)
+        String exact;
+
+        @EnumValid(enumClass = Category.class, ignoreCase = true)
+        String ignoreCase;
+    }
+
+    private EnumValidator exactValidator;
+    private EnumValidator ignoreCaseValidator;
+
+    @Setup
+    public void setUp() throws NoSuchFieldException {
+        exactValidator = validatorFor("exact");
+        ignoreCaseValidator = validatorFor("ignoreCase");
+    }
+
+    @Benchmark
+    public boolean exactValid() {
+        return exactValidator.isValid("SPRING", null);
+    }
+
+    @Benchmark
+    public boolean exactInvalid() {
+        return exactValidator.isValid("spring", null);
+    }
+
+    @Benchmark
+    public boolean ignoreCaseValid() {
+        return ignoreCaseValidator.isValid("spring", null);
+    }
+
+    @Benchmark
+    public boolean ignoreCaseInvalid() {
+        return ignoreCaseValidator.isValid("kotlin", null);
+    }
+
+    private static EnumValidator validatorFor(String fieldName) throws NoSuchFieldException {
+        EnumValid annotation = Target.class.getDeclaredField(fieldName).getAnnotation(EnumValid.class);
+        EnumValidator validator = new EnumValidator();
+        validator.initialize(annotation);
+        return validator;
+    }
+}
@@ -0,0 +1,99 @@
+package com.study.myspringstudydiary.benchmark;
+
+import com.study.myspringstudydiary.common.Page;
+import com.study.myspringstudydiary.common.PagingMode;
+import com.study.myspringstudydiary.study_log.dao.InMemoryStudyLogDao;
+import com.study.myspringstudydiary.study_log.dao.StudyLogCursor;
+import com.study.myspringstudydiary.study_log.dao.StudyLogField;
+import com.study.myspringstudydiary.study_log.entity.StudyLog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * InMemoryStudyLogDao 페이징 / 검색 벤치마크
+ *
+ * - rows: 1천 / 10만 / 100만 건
+ * - 첫 페이지와 깊은 페이지(전체의 중간)를 OFFSET / 커서 방식으로 각각 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class InMemoryStudyLogDaoBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int LOAD_CHUNK = 10_000;
+
+    @Param({"1000", "100000", "1000000"})
+    public int rows;
+
+    private InMemoryStudyLogDao dao;
+    private int deepPage;
+    private StudyLogCursor deepCursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dao = new InMemoryStudyLogDao();
+        for (int from = 0; from < rows; from += LOAD_CHUNK) {
+            dao.saveAll(StudyLogFixtures.studyLogs(from, Math.min(rows, from + LOAD_CHUNK)));
+        }
+
+        deepPage = rows / PAGE_SIZE / 2;
+        Page<StudyLog> page = dao.findAllWithPaging(deepPage, 1, PagingMode.SLICE, StudyLogField.ALL);
+        deepCursor = StudyLogCursor.of(page.getContent().get(0));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dao.deleteAll();
+    }
+
+    @Benchmark
+    public Page<StudyLog> findAllFirstPage() {
+        return dao.findAllWithPaging(0, PAGE_SIZE, PagingMode.TOTAL, StudyLogField.ALL);
+    }
+
+    @Benchmark
+    public Page<StudyLog> findAllDeepPageOffset() {
+        return dao.findAllWithPaging(deepPage, PAGE_SIZE, PagingMode.SLICE, StudyLogField.ALL);
+    }
+
+    @Benchmark
+    public Page<StudyLog> findAllDeepPageCursor() {
+        return dao.findAllAfter(deepCursor, PAGE_SIZE, PagingMode.SLICE, StudyLogField.ALL);
+    }
+
+    @Benchmark
+    public Page<StudyLog> findByCategoryFirstPage() {
+        return dao.findByCategoryWithPaging("SPRING", 0, PAGE_SIZE, PagingMode.TOTAL, StudyLogField.ALL);
+    }
+
+    @Benchmark
+    public Page<StudyLog> searchKeywordAndCategory() {
+        return dao.searchWithPaging("Spring", "SPRING", null, null,
+                0, PAGE_SIZE, PagingMode.TOTAL, StudyLogField.ALL);
+    }
+
+    @Benchmark
+    public Page<StudyLog> searchDateRange() {
+        LocalDate end = StudyLogFixtures.BASE_DATE;
+        return dao.searchWithPaging(null, null, end.minusDays(30), end,
+                0, PAGE_SIZE, PagingMode.TOTAL, StudyLogField.ALL);
+    }
+}
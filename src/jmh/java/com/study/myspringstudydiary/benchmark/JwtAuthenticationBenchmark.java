@@ -0,0 +1,88 @@
+package com.study.myspringstudydiary.benchmark;
+
+import com.study.myspringstudydiary.global.security.jwt.JwtAuthenticationFilter;
+import com.study.myspringstudydiary.global.security.jwt.JwtAuthenticator;
+import com.study.myspringstudydiary.global.security.jwt.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter 요청당 오버헤드 벤치마크
+ *
+ * - noToken: 토큰 없는 요청 (헤더 확인만)
+ * - cachedToken: 이미 검증된 토큰 (캐시 조회)
+ * - uncachedToken: 서명 검증 + 클레임 파싱을 매번 수행 (캐시가 없을 때의 비용)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-for-jwt-token-generation-longer-than-256-bits";
+
+    private static final FilterChain NOOP_CHAIN = (request, response) -> { };
+
+    private JwtTokenProvider tokenProvider;
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest noTokenRequest;
+    private MockHttpServletRequest tokenRequest;
+    private MockHttpServletResponse response;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        tokenProvider = new JwtTokenProvider(SECRET, 1800, 604800);
+        filter = new JwtAuthenticationFilter(new JwtAuthenticator(tokenProvider, 10_000));
+        token = tokenProvider.createAccessToken("tester", "USER");
+
+        noTokenRequest = new MockHttpServletRequest("POST", "/api/v1/logs");
+        tokenRequest = new MockHttpServletRequest("POST", "/api/v1/logs");
+        tokenRequest.addHeader("Authorization", "Bearer " + token);
+        response = new MockHttpServletResponse();
+
+        // 캐시 채우기
+        filter.doFilter(tokenRequest, response, NOOP_CHAIN);
+    }
+
+    @Benchmark
+    public Authentication noToken() throws Exception {
+        return runFilter(noTokenRequest);
+    }
+
+    @Benchmark
+    public Authentication cachedToken() throws Exception {
+        return runFilter(tokenRequest);
+    }
+
+    @Benchmark
+    public Claims uncachedToken() {
+        return tokenProvider.parseClaims(token);
+    }
+
+    private Authentication runFilter(MockHttpServletRequest request) throws Exception {
+        // OncePerRequestFilter가 이미 처리한 요청으로 보고 건너뛰지 않도록 표시 제거
+        request.removeAttribute(filter.getClass().getName() + ".FILTERED");
+        SecurityContextHolder.clearContext();
+        filter.doFilter(request, response, NOOP_CHAIN);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
@@ -0,0 +1,157 @@
+package com.study.myspringstudydiary.benchmark;
+
+import com.study.myspringstudydiary.common.Page;
+import com.study.myspringstudydiary.common.PagingMode;
+import com.study.myspringstudydiary.study_log.dao.MySQLStudyLogDaoImpl;
+import com.study.myspringstudydiary.study_log.dao.StudyLogCursor;
+import com.study.myspringstudydiary.study_log.dao.StudyLogField;
+import com.study.myspringstudydiary.study_log.entity.StudyLog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MySQLStudyLogDaoImpl 조회 벤치마크 (내장 H2, MySQL 모드)
+ *
+ * 실제 MySQL과 실행 계획이 다르므로 절대값보다는 변경 전/후 비교 용도로 사용합니다.
+ * 100만 건은 H2 적재 시간이 길어 10만 건까지만 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class MySQLStudyLogDaoBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int LOAD_CHUNK = 5_000;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO study_logs (title, content, category, understanding, study_time, study_date) "
+          + "VALUES (?, ?, ?, ?, ?, ?)";
+
+    // db/schema.sql의 롤업 백필과 같은 쿼리
+    private static final String ROLLUP_SQL =
+            "INSERT INTO study_log_daily_stats (study_date, category, log_count, total_study_time, "
+          + "very_good_count, good_count, normal_count, bad_count, very_bad_count) "
+          + "SELECT study_date, category, COUNT(*), SUM(study_time), "
+          + "SUM(CASE WHEN understanding = 'VERY_GOOD' THEN 1 ELSE 0 END), "
+          + "SUM(CASE WHEN understanding = 'GOOD' THEN 1 ELSE 0 END), "
+          + "SUM(CASE WHEN understanding = 'NORMAL' THEN 1 ELSE 0 END), "
+          + "SUM(CASE WHEN understanding = 'BAD' THEN 1 ELSE 0 END), "
+          + "SUM(CASE WHEN understanding = 'VERY_BAD' THEN 1 ELSE 0 END) "
+          + "FROM study_logs GROUP BY study_date, category";
+
+    @Param({"1000", "100000"})
+    public int rows;
+
+    private JdbcTemplate jdbcTemplate;
+    private MySQLStudyLogDaoImpl dao;
+    private int deepPage;
+    private StudyLogCursor deepCursor;
+    private long existingId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:bench_" + rows + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "sa", "");
+        dataSource.setDriverClassName("org.h2.Driver");
+        new ResourceDatabasePopulator(new ClassPathResource("benchmark-schema.sql")).execute(dataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        // 벤치마크에서는 변경 이벤트를 받을 곳이 없으므로 버림
+        dao = new MySQLStudyLogDaoImpl(jdbcTemplate, event -> { });
+
+        for (int from = 0; from < rows; from += LOAD_CHUNK) {
+            insert(StudyLogFixtures.studyLogs(from, Math.min(rows, from + LOAD_CHUNK)));
+        }
+        jdbcTemplate.update(ROLLUP_SQL);
+
+        deepPage = rows / PAGE_SIZE / 2;
+        Page<StudyLog> page = dao.findAllWithPaging(deepPage, 1, PagingMode.SLICE, StudyLogField.ALL);
+        deepCursor = StudyLogCursor.of(page.getContent().get(0));
+        existingId = page.getContent().get(0).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbcTemplate.execute("SHUTDOWN");
+    }
+
+    @Benchmark
+    public Optional<StudyLog> findById() {
+        return dao.findById(existingId);
+    }
+
+    @Benchmark
+    public Page<StudyLog> findAllFirstPage() {
+        return dao.findAllWithPaging(0, PAGE_SIZE, PagingMode.TOTAL, StudyLogField.ALL);
+    }
+
+    @Benchmark
+    public Page<StudyLog> findAllDeepPageOffset() {
+        return dao.findAllWithPaging(deepPage, PAGE_SIZE, PagingMode.SLICE, StudyLogField.ALL);
+    }
+
+    @Benchmark
+    public Page<StudyLog> findAllDeepPageCursor() {
+        return dao.findAllAfter(deepCursor, PAGE_SIZE, PagingMode.SLICE, StudyLogField.ALL);
+    }
+
+    @Benchmark
+    public Page<StudyLog> searchKeywordAndCategory() {
+        return dao.searchWithPaging("Spring", "SPRING", null, null,
+                0, PAGE_SIZE, PagingMode.TOTAL, StudyLogField.ALL);
+    }
+
+    @Benchmark
+    public long countByCategory() {
+        return dao.countByCategory("SPRING");
+    }
+
+    // ========== PRIVATE METHODS ==========
+
+    private void insert(List<StudyLog> studyLogs) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                StudyLog studyLog = studyLogs.get(i);
+                ps.setString(1, studyLog.getTitle());
+                ps.setString(2, studyLog.getContent());
+                ps.setString(3, studyLog.getCategory().name());
+                ps.setString(4, studyLog.getUnderstanding().name());
+                ps.setInt(5, studyLog.getStudyTime());
+                ps.setDate(6, Date.valueOf(studyLog.getStudyDate()));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return studyLogs.size();
+            }
+        });
+    }
+}
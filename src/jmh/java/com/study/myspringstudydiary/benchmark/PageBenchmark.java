@@ -0,0 +1,61 @@
+package com.study.myspringstudydiary.benchmark;
+
+import com.study.myspringstudydiary.common.Page;
+import com.study.myspringstudydiary.study_log.dto.response.StudyLogResponse;
+import com.study.myspringstudydiary.study_log.entity.StudyLog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * common.Page 생성 / 변환 벤치마크
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    private List<StudyLog> content;
+    private Page<StudyLog> page;
+
+    @Setup
+    public void setUp() {
+        content = StudyLogFixtures.studyLogs(0, PAGE_SIZE);
+        page = new Page<>(content, 3, PAGE_SIZE, 100_000);
+    }
+
+    @Benchmark
+    public Page<StudyLog> withTotal() {
+        return new Page<>(content, 3, PAGE_SIZE, 100_000);
+    }
+
+    @Benchmark
+    public Page<StudyLog> slice() {
+        return Page.ofSlice(content, 3, PAGE_SIZE, true, "cursor");
+    }
+
+    @Benchmark
+    public Page<StudyLog> cursor() {
+        return Page.ofCursor(content, PAGE_SIZE, null, true, "cursor");
+    }
+
+    @Benchmark
+    public Page<StudyLogResponse> mapToResponse() {
+        return page.map(StudyLogResponse::from);
+    }
+}
@@ -0,0 +1,107 @@
+package com.study.myspringstudydiary.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.myspringstudydiary.global.ratelimit.RateLimitFilter;
+import com.study.myspringstudydiary.global.ratelimit.RateLimitRule;
+import com.study.myspringstudydiary.global.ratelimit.RateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RateLimitFilter 요청당 오버헤드 벤치마크 (목표: 1µs 미만)
+ *
+ * - unmatchedFilter: 규칙이 없는 경로 (경로 매칭만)
+ * - matchedFilter: 규칙이 있는 경로 (버킷 조회 + 토큰 사용 + 헤더 3개)
+ * - limiterManyClients: 클라이언트 1만 명(IP)에 고르게 분산된 요청, 4스레드 동시 실행
+ *
+ * 버킷이 비지 않도록 capacity를 크게 잡아 허용 경로만 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RateLimitFilterBenchmark {
+
+    private static final FilterChain NOOP_CHAIN = (request, response) -> { };
+    private static final int CLIENTS = 10_000;
+
+    private RateLimiter rateLimiter;
+    private RateLimitFilter filter;
+    private String[] clientIps;
+
+    @State(Scope.Thread)
+    public static class Requests {
+        MockHttpServletRequest matched;
+        MockHttpServletRequest unmatched;
+        MockHttpServletResponse response;
+
+        @Setup
+        public void setUp() {
+            matched = new MockHttpServletRequest("GET", "/api/v1/logs/search");
+            matched.setRemoteAddr("10.0.0.1");
+            unmatched = new MockHttpServletRequest("GET", "/api/v1/logs/42");
+            response = new MockHttpServletResponse();
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        rateLimiter = new RateLimiter(List.of(
+                new RateLimitRule("login", "POST", "/api/v1/logs/login", RateLimitRule.KeyType.IP,
+                        10, Duration.ofMinutes(1)),
+                new RateLimitRule("search", "GET", "/api/v1/logs/search", RateLimitRule.KeyType.USER,
+                        Integer.MAX_VALUE, Duration.ofSeconds(1))),
+                100_000, new SimpleMeterRegistry(), System::nanoTime);
+        filter = new RateLimitFilter(rateLimiter, new ObjectMapper());
+
+        clientIps = new String[CLIENTS];
+        for (int i = 0; i < CLIENTS; i++) {
+            clientIps[i] = "10.0." + (i / 256) + "." + (i % 256);
+        }
+    }
+
+    @Benchmark
+    public MockHttpServletResponse unmatchedFilter(Requests requests) throws Exception {
+        return runFilter(requests.unmatched, requests.response);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse matchedFilter(Requests requests) throws Exception {
+        return runFilter(requests.matched, requests.response);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public RateLimiter.Decision limiterManyClients() {
+        String ip = clientIps[ThreadLocalRandom.current().nextInt(CLIENTS)];
+        return rateLimiter.check("GET", "/api/v1/logs/search", ip, null);
+    }
+
+    private MockHttpServletResponse runFilter(MockHttpServletRequest request,
+                                              MockHttpServletResponse response) throws Exception {
+        // OncePerRequestFilter가 이미 처리한 요청으로 보고 건너뛰지 않도록 표시 제거
+        request.removeAttribute(filter.getClass().getName() + ".FILTERED");
+        filter.doFilter(request, response, NOOP_CHAIN);
+        return response;
+    }
+}
@@ -0,0 +1,47 @@
+package com.study.myspringstudydiary.benchmark;
+
+import com.study.myspringstudydiary.study_log.entity.Category;
+import com.study.myspringstudydiary.study_log.entity.StudyLog;
+import com.study.myspringstudydiary.study_log.entity.Understanding;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크용 학습 일지 데이터 생성
+ *
+ * 같은 인덱스는 항상 같은 값을 만들어 실행 간 결과를 비교할 수 있도록 합니다.
+ * (약 3년치 날짜, 카테고리/이해도는 순환, 제목 10건 중 1건에 "Spring" 포함)
+ */
+final class StudyLogFixtures {
+
+    static final LocalDate BASE_DATE = LocalDate.of(2026, 1, 1);
+    static final int DAYS = 1_000;
+
+    private static final Category[] CATEGORIES = Category.values();
+    private static final Understanding[] UNDERSTANDINGS = Understanding.values();
+
+    private StudyLogFixtures() {
+    }
+
+    static StudyLog studyLog(int index) {
+        String title = (index % 10 == 0 ? "Spring 학습 " : "학습 기록 ") + index;
+        return new StudyLog(
+                null,
+                title,
+                "벤치마크용 학습 내용입니다. 인덱스 " + index,
+                CATEGORIES[index % CATEGORIES.length],
+                UNDERSTANDINGS[index % UNDERSTANDINGS.length],
+                30 + index % 150,
+                BASE_DATE.minusDays(index % DAYS));
+    }
+
+    static List<StudyLog> studyLogs(int from, int to) {
+        List<StudyLog> result = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            result.add(studyLog(i));
+        }
+        return result;
+    }
+}
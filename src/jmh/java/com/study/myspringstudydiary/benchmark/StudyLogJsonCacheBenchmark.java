@@ -0,0 +1,103 @@
+package com.study.myspringstudydiary.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.myspringstudydiary.common.Page;
+import com.study.myspringstudydiary.study_log.cache.CaffeineStudyLogJsonCache;
+import com.study.myspringstudydiary.study_log.dto.response.StudyLogJson;
+import com.study.myspringstudydiary.study_log.dto.response.StudyLogResponse;
+import com.study.myspringstudydiary.study_log.entity.StudyLog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 응답 직렬화 벤치마크: 매번 DTO 생성 + Jackson 직렬화 vs (id, updatedAt)별 JSON 바이트 캐시
+ *
+ * - single*: 단건 조회 본문 (바이트 / gzip 바이트)
+ * - page*: 20건 페이지 본문 (캐시 쪽은 원소 바이트를 그대로 끼워 넣고 페이지 정보만 직렬화)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StudyLogJsonCacheBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    private ObjectMapper objectMapper;
+    private CaffeineStudyLogJsonCache cache;
+    private StudyLog studyLog;
+    private Page<StudyLog> page;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+        // 압축 비용까지 비교하도록 모든 본문에 gzip 변형 허용
+        cache = new CaffeineStudyLogJsonCache(objectMapper, 0, 10_000, Duration.ofMinutes(10));
+
+        List<StudyLog> content = StudyLogFixtures.studyLogs(0, PAGE_SIZE);
+        LocalDateTime updatedAt = LocalDateTime.of(2026, 1, 27, 10, 30);
+        for (int i = 0; i < content.size(); i++) {
+            content.get(i).setId((long) i + 1);
+            content.get(i).setUpdatedAt(updatedAt.plusSeconds(i));
+        }
+        studyLog = content.get(0);
+        page = new Page<>(content, 0, PAGE_SIZE, 100_000);
+
+        // 캐시 적재 (측정은 적중 경로)
+        page.getContent().forEach(log -> cache.get(log).getGzipped());
+    }
+
+    @Benchmark
+    public byte[] singleSerialize() throws IOException {
+        return objectMapper.writeValueAsBytes(StudyLogResponse.from(studyLog));
+    }
+
+    @Benchmark
+    public byte[] singleCached() {
+        return cache.get(studyLog).getJson();
+    }
+
+    @Benchmark
+    public byte[] singleSerializeGzip() throws IOException {
+        byte[] json = objectMapper.writeValueAsBytes(StudyLogResponse.from(studyLog));
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(json);
+        }
+        return buffer.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] singleCachedGzip() {
+        return cache.get(studyLog).getGzipped();
+    }
+
+    @Benchmark
+    public byte[] pageSerialize() throws IOException {
+        return objectMapper.writeValueAsBytes(page.map(StudyLogResponse::from));
+    }
+
+    @Benchmark
+    public byte[] pageCached() throws IOException {
+        Page<StudyLogJson> json = page.map(cache::get);
+        return objectMapper.writeValueAsBytes(json);
+    }
+}
@@ -0,0 +1,52 @@
+package com.study.myspringstudydiary.benchmark;
+
+import com.study.myspringstudydiary.study_log.dao.StudyLogField;
+import com.study.myspringstudydiary.study_log.dto.response.StudyLogResponse;
+import com.study.myspringstudydiary.study_log.entity.StudyLog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StudyLogResponse.from 변환 벤치마크 (전체 필드 / 일부 필드)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StudyLogResponseBenchmark {
+
+    private StudyLog studyLog;
+    private Set<StudyLogField> summaryFields;
+
+    @Setup
+    public void setUp() {
+        studyLog = StudyLogFixtures.studyLog(42);
+        studyLog.setId(42L);
+        summaryFields = EnumSet.of(StudyLogField.ID, StudyLogField.TITLE,
+                StudyLogField.CATEGORY, StudyLogField.STUDY_DATE);
+    }
+
+    @Benchmark
+    public StudyLogResponse fromAllFields() {
+        return StudyLogResponse.from(studyLog);
+    }
+
+    @Benchmark
+    public StudyLogResponse fromSelectedFields() {
+        return StudyLogResponse.from(studyLog, summaryFields);
+    }
+}
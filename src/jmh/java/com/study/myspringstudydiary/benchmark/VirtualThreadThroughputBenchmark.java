@@ -0,0 +1,132 @@
+package com.study.myspringstudydiary.benchmark;
+
+import com.study.myspringstudydiary.global.jdbc.ConnectionLimitingDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 플랫폼 스레드 풀 vs 가상 스레드 요청 처리량 비교
+ *
+ * 요청 하나 = 외부 대기(remoteLatencyMillis, 카카오 API/BCrypt 같은 DB 밖의 블로킹)
+ *          + DB 쿼리(dbLatencyMillis, H2의 SLEEP_MS로 지연 흉내)
+ * - platform: Tomcat 기본값과 같은 200개 스레드 풀
+ * - virtual: 요청마다 가상 스레드 (Java 21 이상 필요: ./gradlew jmh -PruntimeJavaVersion=21 ...)
+ * 두 모드 모두 HikariCP(poolSize) 앞에 ConnectionLimitingDataSource를 둡니다.
+ *
+ * DB가 병목(poolSize / dbLatency)이면 두 모드의 차이는 작고,
+ * 요청 시간 중 DB 밖의 대기가 길수록 가상 스레드 쪽 처리량이 커집니다.
+ * 결과 단위는 초당 요청 수입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class VirtualThreadThroughputBenchmark {
+
+    private static final int REQUESTS = 2_000;
+    private static final int PLATFORM_THREADS = 200;
+
+    @Param({"platform", "virtual"})
+    public String threads;
+
+    @Param({"20", "100"})
+    public int dbLatencyMillis;
+
+    @Param({"50"})
+    public int remoteLatencyMillis;
+
+    @Param({"20"})
+    public int poolSize;
+
+    private HikariDataSource hikari;
+    private JdbcTemplate jdbcTemplate;
+    private ExecutorService executor;
+
+    /**
+     * H2 함수(SLEEP_MS)로 등록되어 DB 안에서 지연을 만듦
+     */
+    public static int sleep(int millis) throws InterruptedException {
+        Thread.sleep(millis);
+        return millis;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:vt;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        config.setUsername("sa");
+        config.setMaximumPoolSize(poolSize);
+        config.setMinimumIdle(poolSize);
+        hikari = new HikariDataSource(config);
+
+        jdbcTemplate = new JdbcTemplate(
+                new ConnectionLimitingDataSource(hikari, poolSize, Duration.ofSeconds(30)));
+        jdbcTemplate.execute("CREATE ALIAS IF NOT EXISTS SLEEP_MS FOR \""
+                + VirtualThreadThroughputBenchmark.class.getName() + ".sleep\"");
+
+        executor = "virtual".equals(threads)
+                ? newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(PLATFORM_THREADS);
+    }
+
+    /**
+     * 툴체인이 17이므로 Java 21 API는 리플렉션으로 호출
+     */
+    private static ExecutorService newVirtualThreadPerTaskExecutor() throws ReflectiveOperationException {
+        if (Runtime.version().feature() < 21) {
+            throw new IllegalStateException("virtual 모드는 Java 21 이상 JVM이 필요합니다 (현재: Java "
+                    + Runtime.version().feature() + "). ./gradlew jmh -PruntimeJavaVersion=21로 실행하세요.");
+        }
+        return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+        hikari.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REQUESTS)
+    public int handleRequests() throws Exception {
+        List<Future<Integer>> futures = new ArrayList<>(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            futures.add(executor.submit(this::handleRequest));
+        }
+        int sum = 0;
+        for (Future<Integer> future : futures) {
+            sum += future.get();
+        }
+        return sum;
+    }
+
+    private Integer handleRequest() throws InterruptedException {
+        Thread.sleep(remoteLatencyMillis);
+        return jdbcTemplate.queryForObject("SELECT SLEEP_MS(?)", Integer.class, dbLatencyMillis);
+    }
+}
@@ -0,0 +1,38 @@
+-- 벤치마크용 스키마 (H2 MySQL 모드)
+-- db/schema.sql과 같은 테이블/인덱스이며 H2가 지원하지 않는 ENGINE, COMMENT 절만 뺐습니다.
+
+DROP TABLE IF EXISTS study_log_daily_stats;
+DROP TABLE IF EXISTS study_logs;
+
+CREATE TABLE study_logs (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    title VARCHAR(100) NOT NULL,
+    content TEXT NOT NULL,
+    category VARCHAR(50) NOT NULL,
+    understanding VARCHAR(20) NOT NULL,
+    study_time INT NOT NULL,
+    study_date DATE NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_study_logs_category ON study_logs(category);
+CREATE INDEX idx_study_logs_study_date ON study_logs(study_date);
+CREATE INDEX idx_study_logs_understanding ON study_logs(understanding);
+CREATE INDEX idx_study_logs_created_at ON study_logs(created_at);
+CREATE INDEX idx_study_logs_category_date ON study_logs(category, study_date);
+
+CREATE TABLE study_log_daily_stats (
+    study_date DATE NOT NULL,
+    category VARCHAR(50) NOT NULL,
+    log_count INT NOT NULL DEFAULT 0,
+    total_study_time BIGINT NOT NULL DEFAULT 0,
+    very_good_count INT NOT NULL DEFAULT 0,
+    good_count INT NOT NULL DEFAULT 0,
+    normal_count INT NOT NULL DEFAULT 0,
+    bad_count INT NOT NULL DEFAULT 0,
+    very_bad_count INT NOT NULL DEFAULT 0,
+    PRIMARY KEY (study_date, category)
+);
+
+CREATE INDEX idx_daily_stats_category_date ON study_log_daily_stats(category, study_date);
@@ -1,10 +1,11 @@
 package com.study.myspringstudydiary.auth.controller;
 
 import com.study.myspringstudydiary.auth.dto.LoginRequest;
+import com.study.myspringstudydiary.auth.dto.LoginResponse;
+import com.study.myspringstudydiary.auth.dto.RefreshTokenRequest;
 import com.study.myspringstudydiary.auth.dto.SignupRequest;
 import com.study.myspringstudydiary.auth.dto.SingupResponse;
 import com.study.myspringstudydiary.auth.service.AuthService;
-import com.study.myspringstudydiary.auth.service.CustomUserDetailsService;
 import com.study.myspringstudydiary.study_log.dto.response.ApiResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -25,14 +26,36 @@ import org.springframework.web.bind.annotation.RestController;
 @Validated  // PathVariable, RequestParam 검증을 위해 추가
 public class AuthController {
 
-    private final CustomUserDetailsService customUserDetailsService;
     private final AuthService authService;
 
+    /**
+     * 로그인
+     * 성공 시 액세스 토큰 발급 → 이후 요청에 Authorization: Bearer {accessToken} 헤더로 전달
+     */
     @PostMapping("/login")
-    public String login(@Valid @RequestBody LoginRequest request){
+    public ResponseEntity<ApiResponse<LoginResponse>> login(@Valid @RequestBody LoginRequest request){
         log.info("Login request for username :{}", request.getUsername());
-        customUserDetailsService.login(request);
-        return "🎉 로그인 성공! 환영합니다, " + request.getUsername() + "님!";
+        LoginResponse response = authService.login(request);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 토큰 재발급 (리프레시 토큰 회전)
+     * 사용한 리프레시 토큰은 다시 쓸 수 없으며, 재사용되면 같은 로그인의 토큰이 모두 폐기됩니다.
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<ApiResponse<LoginResponse>> refresh(@Valid @RequestBody RefreshTokenRequest request){
+        LoginResponse response = authService.refresh(request);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 로그아웃 (리프레시 토큰 폐기)
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@Valid @RequestBody RefreshTokenRequest request){
+        authService.logout(request);
+        return ResponseEntity.noContent().build();
     }
 
 
@@ -2,8 +2,13 @@ package com.study.myspringstudydiary.auth.dao;
 
 import com.study.myspringstudydiary.auth.entity.User;
 import com.study.myspringstudydiary.auth.entity.UserRole;
+import com.study.myspringstudydiary.auth.event.UserChangedEvent;
+import com.study.myspringstudydiary.study_log.exception.DuplicateResourceException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Primary;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
@@ -12,18 +17,40 @@ import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
 import java.sql.PreparedStatement;
+import java.util.Locale;
 import java.util.Optional;
 @Slf4j
 @Repository
 @Primary
 public class UserDao {
+    // schema.sql의 유니크 인덱스 이름 (위반 시 중복 필드 판별용)
+    private static final String UK_USERNAME = "uk_users_username";
+    private static final String UK_EMAIL = "uk_users_email";
+    private static final String UK_PROVIDER_ID = "uk_users_provider_provider_id";
+
+    // 유니크 인덱스 위반 메시지에서 인덱스 이름 앞에 오는 부분 (소문자)
+    private static final String MYSQL_MESSAGE_PREFIX = "duplicate entry ";
+    private static final String MYSQL_KEY_MARKER = "for key '";
+    private static final String H2_INDEX_MARKER = "violation: \"";
+
     private final JdbcTemplate jdbcTemplate;
 
+    // 쓰기 후 UserChangedEvent 발행 (직접 생성한 경우에는 발행하지 않음)
+    private final ApplicationEventPublisher eventPublisher;
 
     public UserDao(JdbcTemplate jdbcTemplate) {
+        this(jdbcTemplate, event -> { });
+    }
+
+    @Autowired
+    public UserDao(JdbcTemplate jdbcTemplate, ApplicationEventPublisher eventPublisher) {
         this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
     }
 
+    /**
+     * 사용자명으로 조회 (uk_users_username 유니크 인덱스 사용)
+     */
     public Optional<User> findByUserName(String username) {
         String sql = "SELECT * FROM users WHERE username = ?";
 
@@ -52,6 +79,16 @@ public class UserDao {
         return count != null && count > 0 ;
     }
 
+    /**
+     * 소셜 로그인 사용자 조회 (uk_users_provider_provider_id 인덱스 사용)
+     */
+    public Optional<User> findByProviderAndProviderId(String provider, String providerId) {
+        String sql = "SELECT * FROM users WHERE provider = ? AND provider_id = ?";
+        return jdbcTemplate.query(sql, userRowMapper(), provider, providerId)
+                .stream()
+                .findFirst();
+    }
+
     public Optional<User> findById(Long id) {
         String sql = "SELECT * FROM users WHERE id = ?";
 
@@ -68,8 +105,9 @@ public class UserDao {
     // ---- save --
     public User save(User user){
         String sql = """
-                INSERT INTO users (email, password, username, role, enabled, created_at, updated_at) 
-                VALUES (?, ?, ?, ?, ?, NOW(), NOW())""";
+                INSERT INTO users (email, password, username, role, enabled,
+                                   provider, provider_id, nickname, profile_image, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, NOW(), NOW())""";
 
         // 자동 생성된 ID(PK)를 가져오기 위한 KeyHolder
         KeyHolder keyHolder = new GeneratedKeyHolder();
@@ -81,6 +119,10 @@ public class UserDao {
             ps.setString(3, user.getUsername());
             ps.setString(4, user.getRole().name()); // Enum일 경우 name() 사용
             ps.setBoolean(5, user.isEnabled());
+            ps.setString(6, user.getProvider());
+            ps.setString(7, user.getProviderId());
+            ps.setString(8, user.getNickname());
+            ps.setString(9, user.getProfileImage());
             return ps;
         }, keyHolder);
 
@@ -88,9 +130,121 @@ public class UserDao {
             user.setId(keyHolder.getKey().longValue());
         }
 
+        eventPublisher.publishEvent(new UserChangedEvent(this, user.getId(), user.getUsername()));
         return user;
     }
 
+    /**
+     * 비밀번호 해시 교체 (로그인 시 재해시용)
+     *
+     * 저장된 해시가 expectedPassword와 같을 때만 바꾸므로,
+     * 그 사이 사용자가 비밀번호를 변경했다면 덮어쓰지 않습니다.
+     * @return 변경되었으면 true
+     */
+    public boolean updatePassword(Long id, String expectedPassword, String newPassword) {
+        String sql = "UPDATE users SET password = ?, updated_at = NOW() WHERE id = ? AND password = ?";
+        boolean updated = jdbcTemplate.update(sql, newPassword, id, expectedPassword) > 0;
+        if (updated) {
+            eventPublisher.publishEvent(new UserChangedEvent(this, id, null));
+        }
+        return updated;
+    }
+
+    /**
+     * 일반 회원가입 저장 (INSERT 한 번)
+     *
+     * 중복 검사를 따로 조회하지 않고 uk_users_username / uk_users_email 유니크 인덱스에 맡깁니다.
+     * 동시에 같은 값으로 가입해도 한 건만 저장되고, 나머지는 어떤 필드가 겹쳤는지 담은 예외를 받습니다.
+     *
+     * @throws DuplicateResourceException 사용자명 또는 이메일이 이미 있는 경우 (field: username / email)
+     */
+    public User saveUnique(User user) {
+        try {
+            return save(user);
+        } catch (DuplicateKeyException e) {
+            throw duplicateResource(e, user);
+        }
+    }
+
+    /**
+     * 소셜 로그인 사용자를 저장하되, 같은 (provider, providerId)가 이미 있으면 그 사용자를 반환
+     *
+     * 같은 카카오 계정으로 동시에 첫 로그인하면 uk_users_provider_provider_id 유니크 인덱스가
+     * 한 건만 들어가게 막고, 나머지는 DuplicateKeyException 후 먼저 저장된 행을 다시 읽습니다.
+     * 다시 읽을 때 다른 트랜잭션이 커밋한 행이 보여야 하므로 트랜잭션 밖(auto-commit)에서 호출해야 합니다.
+     *
+     * @throws DuplicateResourceException 이메일 등 다른 필드가 다른 사용자와 겹치는 경우
+     */
+    public User saveSocialUserIfAbsent(User user) {
+        try {
+            return save(user);
+        } catch (DuplicateKeyException e) {
+            return findByProviderAndProviderId(user.getProvider(), user.getProviderId())
+                    .orElseThrow(() -> duplicateResource(e, user));
+        }
+    }
+
+    // ========== PRIVATE METHODS ==========
+
+    /**
+     * 유니크 인덱스 위반 → DuplicateResourceException (위반한 인덱스 이름으로 필드 판별)
+     *
+     * 메시지에는 사용자가 입력한 값도 들어 있으므로(예: 이메일 "uk_users_username@x.com")
+     * 메시지 전체가 아니라 인덱스 이름 부분만 잘라서 비교합니다.
+     */
+    private static DuplicateResourceException duplicateResource(DuplicateKeyException e, User user) {
+        String indexName = violatedIndexName(String.valueOf(e.getMostSpecificCause().getMessage()));
+        if (isIndex(indexName, UK_USERNAME)) {
+            return new DuplicateResourceException(
+                    "Username already exists: " + user.getUsername(), "username", e);
+        }
+        if (isIndex(indexName, UK_EMAIL)) {
+            return new DuplicateResourceException(
+                    "Email already exists: " + user.getEmail(), "email", e);
+        }
+        if (isIndex(indexName, UK_PROVIDER_ID)) {
+            return new DuplicateResourceException(
+                    "Social account already exists: " + user.getProvider(), "providerId", e);
+        }
+        return new DuplicateResourceException("User already exists: " + user.getUsername(), e);
+    }
+
+    /**
+     * 드라이버 메시지에서 위반한 인덱스 이름만 추출 (스키마/테이블 접두어 제외, 소문자)
+     *
+     * MySQL: "Duplicate entry '{값}' for key 'users.uk_users_email'" → 값 뒤의 마지막 "for key '...'"
+     * H2:    "Unique index or primary key violation: \"public.uk_users_email ON public.users(...) VALUES (...)\""
+     *        → 값 앞의 첫 번째 "violation: \"" 다음 공백까지
+     *
+     * @return 인덱스 이름 (형식을 알 수 없으면 null)
+     */
+    static String violatedIndexName(String message) {
+        String lower = message.toLowerCase(Locale.ROOT);
+        String name = null;
+
+        if (lower.startsWith(MYSQL_MESSAGE_PREFIX)) {
+            int mysql = lower.lastIndexOf(MYSQL_KEY_MARKER);
+            if (mysql >= 0) {
+                int start = mysql + MYSQL_KEY_MARKER.length();
+                int end = lower.indexOf('\'', start);
+                name = lower.substring(start, end >= 0 ? end : lower.length());
+            }
+        } else {
+            int h2 = lower.indexOf(H2_INDEX_MARKER);
+            if (h2 >= 0) {
+                int start = h2 + H2_INDEX_MARKER.length();
+                int end = lower.indexOf(' ', start);
+                name = lower.substring(start, end >= 0 ? end : lower.length());
+            }
+        }
+        return name == null ? null : name.substring(name.lastIndexOf('.') + 1);
+    }
+
+    // H2는 제약 조건으로 만든 인덱스에 "_index_N"을 붙이므로 접두어로도 비교
+    private static boolean isIndex(String indexName, String expected) {
+        return indexName != null && (indexName.equals(expected) || indexName.startsWith(expected + "_index_"));
+    }
+
     // ⭐ JdbcTemplate을 위한 포장 규칙 (RowMapper)
     // DB에서 한 줄(Row)을 읽어올 때마다 이 규칙대로 User 객체를 조립합니다.
     private RowMapper<User> userRowMapper() {
@@ -101,6 +255,10 @@ public class UserDao {
                 .username(rs.getString("username"))
                 .role(UserRole.valueOf(rs.getString("role")))
                 .enabled(rs.getBoolean("enabled"))
+                .provider(rs.getString("provider"))
+                .providerId(rs.getString("provider_id"))
+                .nickname(rs.getString("nickname"))
+                .profileImage(rs.getString("profile_image"))
                 .build();
     }
 }
@@ -1,6 +1,5 @@
 package com.study.myspringstudydiary.auth.dto;
 
-import com.study.myspringstudydiary.auth.entity.UserRole;
 import lombok.*;
 
 @Getter
@@ -10,19 +9,19 @@ import lombok.*;
 public class LoginResponse {
 
     private String accessToKen;
+    private String refreshToken;
     private String username;
-    private String password;
     private String userRole;
 
 
     /**
      * Static factory method
      */
-    public static LoginResponse of(String accessToKen, String username, String password, String userRole) {
+    public static LoginResponse of(String accessToKen, String refreshToken, String username, String userRole) {
         return LoginResponse.builder()
                 .accessToKen(accessToKen)
+                .refreshToken(refreshToken)
                 .username(username)
-                .password(password)
                 .userRole(userRole)
                 .build();
     }
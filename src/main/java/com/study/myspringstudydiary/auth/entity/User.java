@@ -12,7 +12,7 @@ import java.util.List;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class User implements UserDetails {
 
     private String accessToken;
@@ -22,6 +22,10 @@ public class User implements UserDetails {
     private String username;
     private UserRole role;
     private boolean enabled;
+    private String provider;      // 소셜 로그인 제공자 (KAKAO), 일반 가입은 null
+    private String providerId;    // 제공자가 발급한 사용자 ID
+    private String nickname;
+    private String profileImage;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -0,0 +1,31 @@
+package com.study.myspringstudydiary.auth.event;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 사용자 변경 이벤트 (UserDao가 쓰기 후 발행)
+ *
+ * - userId: 변경된 사용자 ID
+ * - username: 알고 있는 경우의 사용자명 (비밀번호 교체처럼 ID로만 갱신한 경우 null)
+ *
+ * 사용자 정보를 캐시하는 쪽(UserDetailsCache 등)이 이 이벤트로 항목을 무효화합니다.
+ */
+public class UserChangedEvent extends ApplicationEvent {
+
+    private final Long userId;
+    private final String username;
+
+    public UserChangedEvent(Object source, Long userId, String username) {
+        super(source);
+        this.userId = userId;
+        this.username = username;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+}
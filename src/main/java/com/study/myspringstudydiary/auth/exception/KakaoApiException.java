@@ -0,0 +1,10 @@
+package com.study.myspringstudydiary.auth.exception;
+
+/**
+ * 카카오 API 호출 실패 예외
+ */
+public class KakaoApiException extends RuntimeException {
+    public KakaoApiException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,20 @@
+package com.study.myspringstudydiary.auth.exception;
+
+import java.time.Duration;
+
+/**
+ * 비밀번호 해시 풀이 포화되어 요청을 처리할 수 없음 (503 + Retry-After)
+ */
+public class PasswordHashingUnavailableException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public PasswordHashingUnavailableException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -3,20 +3,22 @@ package com.study.myspringstudydiary.auth.service;
 import com.study.myspringstudydiary.auth.dao.UserDao;
 import com.study.myspringstudydiary.auth.dto.LoginRequest;
 import com.study.myspringstudydiary.auth.dto.LoginResponse;
+import com.study.myspringstudydiary.auth.dto.RefreshTokenRequest;
 import com.study.myspringstudydiary.auth.dto.SignupRequest;
 import com.study.myspringstudydiary.auth.dto.SingupResponse;
 import com.study.myspringstudydiary.auth.entity.User;
 import com.study.myspringstudydiary.auth.entity.UserRole;
 import com.study.myspringstudydiary.auth.exception.AuthException;
+import com.study.myspringstudydiary.auth.exception.PasswordHashingUnavailableException;
 import com.study.myspringstudydiary.auth.exception.UsernameNotFoundException;
-import com.study.myspringstudydiary.study_log.exception.DuplicateResourceException;
+import com.study.myspringstudydiary.auth.token.RefreshTokenService;
+import com.study.myspringstudydiary.global.security.jwt.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 
 @Slf4j
@@ -26,25 +28,21 @@ public class AuthService {
 
     private final UserDao userDao;
     private final PasswordEncoder passwordEncoder;
-
-    @Transactional
+    private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenService refreshTokenService;
+    private final UserDetailsCache userDetailsCache;
+
+    /**
+     * 회원가입
+     *
+     * 중복 검사 조회 없이 INSERT 한 번으로 처리합니다.
+     * 아이디/이메일 중복은 유니크 인덱스가 막고, UserDao가 겹친 필드를 담은 DuplicateResourceException으로 바꿉니다.
+     * (조회 후 저장 방식과 달리 동시 가입에도 한 건만 저장됨)
+     * 비밀번호 해시 중에 DB 커넥션을 잡고 있지 않도록 트랜잭션은 걸지 않습니다.
+     */
     public SingupResponse signup(SignupRequest request){
         log.info("Signup attempt for username : {}, email: {}", request.getUsername(), request.getEmail());
 
-        //아이디 중복 검사
-        if(userDao.existsByUsername(request.getUsername())){
-            throw new DuplicateResourceException(
-                    "Username alread exists: " + request.getUsername()
-            );
-        }
-
-        //이메일 중복 검사
-        if(userDao.existsByEmail(request.getEmail())){
-            throw new DuplicateResourceException(
-                    "Email alread exists: " + request.getEmail()
-            );
-        }
-
         //비밀번호암호화 후 저장
         User newUser = User.builder()
                 .username(request.getUsername())
@@ -54,7 +52,7 @@ public class AuthService {
                 .enabled(true)
                 .build();
 
-        User savedUser = userDao.save(newUser);
+        User savedUser = userDao.saveUnique(newUser);
         log.info("User registered successfully: {} " , savedUser.getUsername());
 
         return SingupResponse.of(
@@ -66,24 +64,79 @@ public class AuthService {
 
 
     public LoginResponse login (LoginRequest request) throws UsernameNotFoundException {
-        // 이름으로 유저 찾기
-        User user = userDao.findByUserName(request.getUsername())
-                .orElseThrow(()-> new UsernameNotFoundException(
-                        "해당 사용자를 찾을 수 없습니다: " + request.getUsername()
-                ));
+        // 이름으로 유저 찾기 (캐시에 없을 때만 DB 조회, 사용자 변경 시 UserChangedEvent로 무효화)
+        String username = request.getUsername();
+        User user = userDetailsCache.get(username, () -> userDao.findByUserName(username).orElse(null));
+        if (user == null) {
+            throw new UsernameNotFoundException("해당 사용자를 찾을 수 없습니다: " + username);
+        }
 
         //비밀번호 일치 확인
         if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
             throw new AuthException("비밀번호가 일치하지 않습니다.");
         }
 
+        // 저장된 해시의 알고리즘/계수가 현재 설정과 다르면 평문 비밀번호를 알고 있는 지금 다시 해시
+        rehashIfNeeded(user, request.getPassword());
+
+        // 인증 이후 요청은 토큰 클레임만으로 처리되므로 username / role을 토큰에 담아 발급
+        String accessToken = jwtTokenProvider.createAccessToken(user.getUsername(), user.getRole().name());
+        // 액세스 토큰 만료 후에는 비밀번호(BCrypt) 대신 리프레시 토큰으로 재발급
+        String refreshToken = refreshTokenService.issue(user.getUsername(), user.getRole().name());
+
         return LoginResponse.of(
-                null,
+                accessToken,
+                refreshToken,
                 user.getUsername(),
-                user.getPassword(),
                 user.getRole().name()
                 );
     }
 
+    /**
+     * 토큰 재발급
+     *
+     * 리프레시 토큰 저장소 조회 한 번으로 처리하며 DB 조회나 비밀번호 해시는 하지 않습니다.
+     * 사용한 리프레시 토큰은 폐기되고 새 리프레시 토큰이 함께 발급됩니다 (회전).
+     */
+    public LoginResponse refresh(RefreshTokenRequest request) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(request.getRefreshToken());
+        String accessToken = jwtTokenProvider.createAccessToken(rotation.username(), rotation.role());
+
+        return LoginResponse.of(
+                accessToken,
+                rotation.refreshToken(),
+                rotation.username(),
+                rotation.role()
+                );
+    }
+
+    /**
+     * 로그아웃: 리프레시 토큰 묶음 폐기 (이미 발급된 액세스 토큰은 만료 시까지 유효)
+     */
+    public void logout(RefreshTokenRequest request) {
+        refreshTokenService.revoke(request.getRefreshToken());
+    }
+
+    /**
+     * 로그인 성공 시 재해시 (비밀번호 재설정 없이 해시 비용을 조정하기 위함)
+     *
+     * 재해시는 부가 작업이므로 실패하거나 해시 풀이 포화되면 로그만 남기고 로그인은 그대로 진행합니다.
+     */
+    private void rehashIfNeeded(User user, String rawPassword) {
+        if (!passwordEncoder.upgradeEncoding(user.getPassword())) {
+            return;
+        }
+        try {
+            String rehashed = passwordEncoder.encode(rawPassword);
+            if (userDao.updatePassword(user.getId(), user.getPassword(), rehashed)) {
+                log.info("Password rehashed for user: {}", user.getUsername());
+            }
+        } catch (PasswordHashingUnavailableException e) {
+            log.debug("Rehash skipped (hashing pool busy): {}", user.getUsername());
+        } catch (RuntimeException e) {
+            log.warn("Rehash failed for user: {}", user.getUsername(), e);
+        }
+    }
+
 
 }
@@ -16,6 +16,7 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class CustomUserDetailsService {
     private final UserDao userDao;
+    private final UserDetailsCache userDetailsCache;
 
     public Optional<User> login (LoginRequest request){
         // Get user details
@@ -26,17 +27,29 @@ public class CustomUserDetailsService {
     }
 
 
+    /**
+     * 인증용 사용자 조회
+     *
+     * UserDetailsCache에 있으면 DB를 조회하지 않고, 없을 때만 uk_users_username 인덱스로 한 건 조회합니다.
+     * 사용자가 변경되면(UserChangedEvent) 캐시 항목이 무효화됩니다.
+     * UserDetails는 매번 새로 만들므로 비밀번호 지우기(eraseCredentials)가 캐시된 값을 건드리지 않습니다.
+     */
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
 
-        User user = userDao.findByUserName(username)
-                .orElseThrow(()-> new UsernameNotFoundException(
-                        "해당 사용자를 찾을 수 없습니다: " + username
-        ));
+        User user = userDetailsCache.get(username, () -> userDao.findByUserName(username).orElse(null));
+        if (user == null) {
+            throw new UsernameNotFoundException("해당 사용자를 찾을 수 없습니다: " + username);
+        }
+        return toUserDetails(user);
+    }
+
+    private static UserDetails toUserDetails(User user) {
         return org.springframework.security.core.userdetails.User.builder()
                 .username(user.getUsername())
-                .password(user.getPassword())
+                // 소셜 로그인 사용자는 비밀번호가 없음 (빈 값은 어떤 비밀번호와도 일치하지 않음)
+                .password(user.getPassword() != null ? user.getPassword() : "")
+                .roles(user.getRole().name())
+                .disabled(!user.isEnabled())
                 .build();
-
-
     }
 }
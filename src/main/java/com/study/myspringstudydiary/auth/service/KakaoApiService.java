@@ -2,6 +2,7 @@ package com.study.myspringstudydiary.auth.service;
 
 import com.study.myspringstudydiary.auth.dto.KakaoTokenResponse;
 import com.study.myspringstudydiary.auth.dto.KakaoUserResponse;
+import com.study.myspringstudydiary.auth.exception.KakaoApiException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
@@ -5,21 +5,28 @@ import com.study.myspringstudydiary.auth.dto.KakaoTokenResponse;
 import com.study.myspringstudydiary.auth.dto.KakaoUserResponse;
 import com.study.myspringstudydiary.auth.dto.LoginResponse;
 import com.study.myspringstudydiary.auth.entity.User;
+import com.study.myspringstudydiary.auth.entity.UserRole;
+import com.study.myspringstudydiary.auth.token.RefreshTokenService;
+import com.study.myspringstudydiary.global.security.jwt.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 // ===== 소셜 로그인 서비스 =====
+// 카카오 API 호출 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션을 걸지 않음
+// (사용자 생성은 INSERT 한 번이며, 동시 가입은 유니크 인덱스로 막음)
 @Service
 @RequiredArgsConstructor
-@Transactional
 @Slf4j
 public class SocialLoginService {
 
+    private static final String PROVIDER_KAKAO = "KAKAO";
+
     private final KakaoApiService kakaoApiService;
     private final UserDao userRepository;
     private final JwtTokenProvider jwtTokenProvider;
+    private final SocialUserCache socialUserCache;
+    private final RefreshTokenService refreshTokenService;
 
     /**
      * 카카오 로그인 전체 플로우
@@ -27,6 +34,7 @@ public class SocialLoginService {
      * 1. 카카오에서 받은 인가 코드로 액세스 토큰 요청
      * 2. 액세스 토큰으로 사용자 정보 조회
      * 3. 기존 회원이면 로그인, 신규 회원이면 가입 처리
+     *    (캐시에 있으면 DB 조회 없이 바로 사용, 동시 첫 로그인도 사용자는 한 명만 생성)
      * 4. JWT 토큰 발급
      */
     public LoginResponse kakaoLogin(String authorizationCode) {
@@ -39,27 +47,33 @@ public class SocialLoginService {
                 kakaoApiService.getUserInfo(tokenResponse.getAccessToken());
 
         // 3. 회원 조회 또는 생성
-        User user = userRepository
-                .findByProviderAndProviderId("KAKAO", String.valueOf(kakaoUser.getId()))
-                .orElseGet(() -> createUser(kakaoUser));
+        String providerId = String.valueOf(kakaoUser.getId());
+        User user = socialUserCache.get(PROVIDER_KAKAO, providerId, () -> userRepository
+                .findByProviderAndProviderId(PROVIDER_KAKAO, providerId)
+                .orElseGet(() -> createUser(kakaoUser)));
 
         // 4. JWT 토큰 발급
-        String jwtToken = jwtTokenProvider.createToken(user.getId());
+        String jwtToken = jwtTokenProvider.createAccessToken(user.getUsername(), user.getRole().name());
+        String refreshToken = refreshTokenService.issue(user.getUsername(), user.getRole().name());
 
-        return new LoginResponse(jwtToken, UserResponse.from(user));
+        return LoginResponse.of(jwtToken, refreshToken, user.getUsername(), user.getRole().name());
     }
 
     private User createUser(KakaoUserResponse kakaoUser) {
         KakaoUserResponse.KakaoAccount account = kakaoUser.getKakaoAccount();
 
         User newUser = User.builder()
+                .username(PROVIDER_KAKAO.toLowerCase() + "_" + kakaoUser.getId())
                 .email(account.getEmail())
                 .nickname(account.getProfile().getNickname())
                 .profileImage(account.getProfile().getProfileImageUrl())
-                .provider("KAKAO")
+                .provider(PROVIDER_KAKAO)
                 .providerId(String.valueOf(kakaoUser.getId()))
+                .role(UserRole.USER)
+                .enabled(true)
                 .build();
 
-        return userRepository.save(newUser);
+        // 다른 서버에서 같은 카카오 계정이 먼저 가입했다면 그 사용자를 반환
+        return userRepository.saveSocialUserIfAbsent(newUser);
     }
 }
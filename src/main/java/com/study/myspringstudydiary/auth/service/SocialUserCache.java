@@ -0,0 +1,70 @@
+package com.study.myspringstudydiary.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.study.myspringstudydiary.auth.entity.User;
+import com.study.myspringstudydiary.auth.event.UserChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 소셜 로그인 사용자 캐시 ((provider, providerId) → User)
+ *
+ * - 최대 개수와 TTL이 있는 Caffeine 캐시라 메모리가 무한히 늘지 않음
+ * - 같은 키를 동시에 요청하면 loader는 한 번만 실행되고 나머지는 그 결과를 기다림
+ *   (한 서버 안에서의 동시 첫 로그인은 여기서 하나로 합쳐짐)
+ * - User는 변경 가능한 객체이므로 넣을 때와 꺼낼 때 복사본을 사용
+ * - UserChangedEvent를 받으면 해당 사용자 항목을 커밋 이후에 무효화
+ */
+@Component
+public class SocialUserCache {
+
+    private final Cache<String, User> cache;
+
+    public SocialUserCache(
+            @Value("${auth.social-user-cache.maximum-size:10000}") long maximumSize,
+            @Value("${auth.social-user-cache.ttl:30m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public User get(String provider, String providerId, Supplier<User> loader) {
+        User user = cache.get(key(provider, providerId), key -> copy(loader.get()));
+        return copy(user);
+    }
+
+    public void invalidate(String provider, String providerId) {
+        cache.invalidate(key(provider, providerId));
+    }
+
+    // ========== HANDLERS ==========
+
+    /**
+     * 사용자 변경 시 무효화
+     *
+     * 키가 (provider, providerId)라 이벤트의 ID / username으로 바로 찾을 수 없으므로 캐시 값을 훑어 지웁니다.
+     * 사용자 변경은 드문 쓰기라 로그인 경로의 비용에는 영향이 없습니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        cache.asMap().values().removeIf(user ->
+                (event.getUserId() != null && event.getUserId().equals(user.getId()))
+                        || (event.getUsername() != null && event.getUsername().equals(user.getUsername())));
+    }
+
+    // ========== PRIVATE METHODS ==========
+
+    private static String key(String provider, String providerId) {
+        return provider + ":" + providerId;
+    }
+
+    private static User copy(User user) {
+        return user == null ? null : user.toBuilder().build();
+    }
+}
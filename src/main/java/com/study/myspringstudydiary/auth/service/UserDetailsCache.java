@@ -0,0 +1,80 @@
+package com.study.myspringstudydiary.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.study.myspringstudydiary.auth.entity.User;
+import com.study.myspringstudydiary.auth.event.UserChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 인증용 사용자 캐시 (username → User)
+ *
+ * 로그인(AuthService.login)과 UserDetails 조회(CustomUserDetailsService)가 함께 사용합니다.
+ * 반복 로그인 시 사용자 조회 없이 비밀번호 해시와 권한을 바로 확인할 수 있습니다.
+ *
+ * - 최대 개수와 TTL이 있는 Caffeine 캐시라 사용자 수가 늘어도 메모리가 무한히 늘지 않음
+ * - 같은 username을 동시에 요청하면 loader(DB 조회)는 한 번만 실행
+ * - 존재하지 않는 사용자(loader가 null 반환)는 캐시하지 않음 → 가입 직후 바로 조회 가능
+ * - UserChangedEvent를 받으면 해당 사용자 항목을 커밋 이후에 무효화
+ *   (커밋 전에 다시 읽혀 들어간 옛 값도 함께 지워짐)
+ * - 이벤트는 같은 인스턴스 안에서만 전달되므로, 다른 인스턴스에서의 변경은 TTL 이후 반영됨
+ * - User는 변경 가능한 객체이므로 넣을 때와 꺼낼 때 복사본을 사용
+ */
+@Component
+public class UserDetailsCache {
+
+    private final Cache<String, User> cache;
+
+    public UserDetailsCache(
+            @Value("${auth.user-details-cache.maximum-size:10000}") long maximumSize,
+            @Value("${auth.user-details-cache.ttl:5m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * @return 캐시된 값 또는 loader로 읽은 값의 복사본, 사용자가 없으면 null
+     */
+    public User get(String username, Supplier<User> loader) {
+        return copy(cache.get(username, key -> copy(loader.get())));
+    }
+
+    public void invalidate(String username) {
+        cache.invalidate(username);
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    // ========== HANDLERS ==========
+
+    /**
+     * 사용자 변경 시 무효화
+     *
+     * username을 모르는 이벤트(ID로만 갱신)는 캐시 값을 훑어 같은 ID를 지웁니다.
+     * 비밀번호 교체처럼 드문 쓰기에서만 발생하므로 인증 경로의 비용에는 영향이 없습니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.getUsername() != null) {
+            cache.invalidate(event.getUsername());
+        }
+        if (event.getUserId() != null) {
+            cache.asMap().values().removeIf(cached -> event.getUserId().equals(cached.getId()));
+        }
+    }
+
+    // ========== PRIVATE METHODS ==========
+
+    private static User copy(User user) {
+        return user == null ? null : user.toBuilder().build();
+    }
+}
@@ -0,0 +1,95 @@
+package com.study.myspringstudydiary.auth.token;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Caffeine 기반 RefreshTokenStore (단일 인스턴스용)
+ *
+ * - 항목마다 자기 만료 시각까지만 보관하고, 최대 개수를 넘으면 오래 안 쓴 항목부터 제거
+ * - 서버를 재시작하면 발급된 리프레시 토큰은 모두 사라짐 (다시 로그인 필요)
+ * - 여러 인스턴스를 운영하면 RedisRefreshTokenStore 사용
+ */
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private final Clock clock;
+    private final Cache<String, RefreshToken> tokens;
+    private final Cache<String, Instant> revokedFamilies;
+
+    public InMemoryRefreshTokenStore(long maximumSize, Clock clock) {
+        this.clock = clock;
+        this.tokens = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new UntilInstant<String, RefreshToken>(RefreshToken::expiresAt, clock))
+                .build();
+        this.revokedFamilies = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new UntilInstant<String, Instant>(Function.identity(), clock))
+                .build();
+    }
+
+    @Override
+    public void save(RefreshToken token) {
+        tokens.put(token.tokenHash(), token);
+    }
+
+    @Override
+    public Optional<RefreshToken> find(String tokenHash) {
+        return Optional.ofNullable(tokens.getIfPresent(tokenHash))
+                .filter(token -> !token.isExpired(clock.instant()));
+    }
+
+    @Override
+    public boolean markUsed(String tokenHash) {
+        AtomicBoolean marked = new AtomicBoolean();
+        tokens.asMap().computeIfPresent(tokenHash, (key, token) -> {
+            if (token.used()) {
+                return token;
+            }
+            marked.set(true);
+            return token.markUsed();
+        });
+        return marked.get();
+    }
+
+    @Override
+    public void revokeFamily(String familyId, Instant until) {
+        revokedFamilies.put(familyId, until);
+    }
+
+    @Override
+    public boolean isFamilyRevoked(String familyId) {
+        Instant until = revokedFamilies.getIfPresent(familyId);
+        return until != null && until.isAfter(clock.instant());
+    }
+
+    /**
+     * 값에 담긴 시각까지 보관 (수정 시에도 같은 시각 기준으로 다시 계산)
+     */
+    private record UntilInstant<K, V>(Function<V, Instant> deadline, Clock clock) implements Expiry<K, V> {
+
+        @Override
+        public long expireAfterCreate(K key, V value, long currentTime) {
+            Duration remaining = Duration.between(clock.instant(), deadline.apply(value));
+            return Math.max(0, remaining.toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(K key, V value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(K key, V value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
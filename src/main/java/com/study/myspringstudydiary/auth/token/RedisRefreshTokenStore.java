@@ -0,0 +1,102 @@
+package com.study.myspringstudydiary.auth.token;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Redis 기반 RefreshTokenStore (여러 인스턴스 공유)
+ *
+ * - 토큰: {prefix}{tokenHash} 해시 (username, role, family, expiresAt, familyExpiresAt, used), 만료 시각까지 TTL
+ * - 폐기된 묶음: {prefix}family:{familyId}:revoked 문자열, 묶음 최대 수명까지 TTL
+ * - save는 Lua 스크립트(HSET + PEXPIREAT)로 원자 처리 → 중간에 실패해도 TTL 없는 토큰이 남지 않음
+ * - markUsed는 Lua 스크립트(EXISTS + HSETNX)로 원자 처리 → 같은 토큰으로 동시에 회전해도 한 요청만 성공
+ *
+ * HGETALL / HSET / PEXPIREAT / EVAL / SET PX / EXISTS만 사용하므로 Redis 호환 저장소(Valkey, KeyDB 등)에서도 동작합니다.
+ */
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+    // ARGV: username, role, family, expiresAt(epoch ms), familyExpiresAt(epoch ms)
+    private static final RedisScript<Long> SAVE = new DefaultRedisScript<>("""
+            redis.call('HSET', KEYS[1], 'username', ARGV[1], 'role', ARGV[2], 'family', ARGV[3],
+                'expiresAt', ARGV[4], 'familyExpiresAt', ARGV[5])
+            return redis.call('PEXPIREAT', KEYS[1], ARGV[4])""", Long.class);
+
+    private static final RedisScript<Long> MARK_USED = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end
+            return redis.call('HSETNX', KEYS[1], 'used', '1')""", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String keyPrefix;
+    private final Clock clock;
+
+    public RedisRefreshTokenStore(StringRedisTemplate redisTemplate, String keyPrefix, Clock clock) {
+        this.redisTemplate = redisTemplate;
+        this.keyPrefix = keyPrefix;
+        this.clock = clock;
+    }
+
+    @Override
+    public void save(RefreshToken token) {
+        redisTemplate.execute(SAVE, List.of(tokenKey(token.tokenHash())),
+                token.username(),
+                token.role(),
+                token.familyId(),
+                String.valueOf(token.expiresAt().toEpochMilli()),
+                String.valueOf(token.familyExpiresAt().toEpochMilli()));
+    }
+
+    @Override
+    public Optional<RefreshToken> find(String tokenHash) {
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(tokenKey(tokenHash));
+        if (fields.isEmpty() || !fields.containsKey("expiresAt")) {
+            return Optional.empty();
+        }
+        RefreshToken token = new RefreshToken(
+                tokenHash,
+                (String) fields.get("username"),
+                (String) fields.get("role"),
+                (String) fields.get("family"),
+                Instant.ofEpochMilli(Long.parseLong((String) fields.get("expiresAt"))),
+                Instant.ofEpochMilli(Long.parseLong((String) fields.get("familyExpiresAt"))),
+                fields.containsKey("used"));
+        return token.isExpired(clock.instant()) ? Optional.empty() : Optional.of(token);
+    }
+
+    @Override
+    public boolean markUsed(String tokenHash) {
+        Long result = redisTemplate.execute(MARK_USED, List.of(tokenKey(tokenHash)));
+        return result != null && result == 1L;
+    }
+
+    @Override
+    public void revokeFamily(String familyId, Instant until) {
+        Duration ttl = Duration.between(clock.instant(), until);
+        if (ttl.isNegative() || ttl.isZero()) {
+            return;
+        }
+        redisTemplate.opsForValue().set(familyKey(familyId), "1", ttl);
+    }
+
+    @Override
+    public boolean isFamilyRevoked(String familyId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(familyKey(familyId)));
+    }
+
+    // ========== PRIVATE METHODS ==========
+
+    private String tokenKey(String tokenHash) {
+        return keyPrefix + tokenHash;
+    }
+
+    private String familyKey(String familyId) {
+        return keyPrefix + "family:" + familyId + ":revoked";
+    }
+}
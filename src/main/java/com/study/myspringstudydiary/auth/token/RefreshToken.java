@@ -0,0 +1,30 @@
+package com.study.myspringstudydiary.auth.token;
+
+import java.time.Instant;
+
+/**
+ * 저장소에 보관하는 리프레시 토큰 정보
+ *
+ * - tokenHash: 원본 토큰의 SHA-256 (원본은 저장하지 않음)
+ * - familyId: 한 번의 로그인에서 회전으로 이어지는 토큰 묶음 ID (재사용 감지 시 묶음 전체 폐기)
+ * - expiresAt: 이 토큰의 만료 시각 (회전할 때마다 뒤로 밀리는 슬라이딩 만료)
+ * - familyExpiresAt: 묶음의 최대 수명 (슬라이딩 만료도 이 시각을 넘지 않음)
+ * - used: 이미 회전에 사용된 토큰인지 여부
+ */
+public record RefreshToken(
+        String tokenHash,
+        String username,
+        String role,
+        String familyId,
+        Instant expiresAt,
+        Instant familyExpiresAt,
+        boolean used) {
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    RefreshToken markUsed() {
+        return new RefreshToken(tokenHash, username, role, familyId, expiresAt, familyExpiresAt, true);
+    }
+}
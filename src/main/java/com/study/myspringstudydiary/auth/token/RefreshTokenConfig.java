@@ -0,0 +1,53 @@
+package com.study.myspringstudydiary.auth.token;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * 리프레시 토큰 저장소 설정
+ *
+ * auth.refresh-token.store 값으로 저장소를 고릅니다.
+ * - memory (기본): 단일 인스턴스용 Caffeine 저장소
+ * - redis: 여러 인스턴스가 공유하는 Redis 저장소 (Redis 설정이 없으면 memory로 대체)
+ *
+ * 슬라이딩 만료 시간은 jwt.refresh-token-expiration(밀리초)을 그대로 사용합니다.
+ */
+@Slf4j
+@Configuration
+public class RefreshTokenConfig {
+
+    @Bean
+    public RefreshTokenStore refreshTokenStore(
+            @Value("${auth.refresh-token.store:memory}") String storeType,
+            @Value("${auth.refresh-token.maximum-size:100000}") long maximumSize,
+            @Value("${auth.refresh-token.key-prefix:auth:refresh:}") String keyPrefix,
+            ObjectProvider<StringRedisTemplate> redisTemplate) {
+
+        StringRedisTemplate template = redisTemplate.getIfAvailable();
+        if ("redis".equalsIgnoreCase(storeType) && template != null) {
+            log.info("Refresh token store: Redis (keyPrefix: {})", keyPrefix);
+            return new RedisRefreshTokenStore(template, keyPrefix, Clock.systemUTC());
+        }
+        if ("redis".equalsIgnoreCase(storeType)) {
+            log.warn("Refresh token store set to redis but no StringRedisTemplate is available, using memory");
+        }
+        log.info("Refresh token store: memory (maximumSize: {})", maximumSize);
+        return new InMemoryRefreshTokenStore(maximumSize, Clock.systemUTC());
+    }
+
+    @Bean
+    public RefreshTokenService refreshTokenService(
+            RefreshTokenStore refreshTokenStore,
+            @Value("${jwt.refresh-token-expiration}") long refreshTokenExpirationMillis,
+            @Value("${auth.refresh-token.max-lifetime:30d}") Duration maxLifetime) {
+        return new RefreshTokenService(refreshTokenStore, Duration.ofMillis(refreshTokenExpirationMillis),
+                maxLifetime, Clock.systemUTC());
+    }
+}
@@ -0,0 +1,115 @@
+package com.study.myspringstudydiary.auth.token;
+
+import com.study.myspringstudydiary.auth.exception.InvalidTokenException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 리프레시 토큰 발급 / 회전 / 폐기
+ *
+ * - 토큰은 서명 없는 난수(256비트)이고 저장소에는 SHA-256 해시만 보관 → 검증은 저장소 조회 한 번
+ * - 회전: 사용한 토큰은 사용됨으로 표시하고 같은 묶음(family)의 새 토큰을 발급
+ * - 슬라이딩 만료: 새 토큰은 지금부터 slidingTtl 동안 유효하되 묶음 최대 수명(maxLifetime)을 넘지 않음
+ * - 재사용 감지: 이미 사용된 토큰이 다시 들어오면 탈취로 보고 묶음 전체를 폐기 (정상 사용자도 다시 로그인)
+ */
+@Slf4j
+public class RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenStore store;
+    private final Duration slidingTtl;
+    private final Duration maxLifetime;
+    private final Clock clock;
+    private final SecureRandom random = new SecureRandom();
+
+    public RefreshTokenService(RefreshTokenStore store, Duration slidingTtl, Duration maxLifetime, Clock clock) {
+        this.store = store;
+        this.slidingTtl = slidingTtl;
+        this.maxLifetime = maxLifetime;
+        this.clock = clock;
+    }
+
+    /**
+     * 로그인 성공 시 새 묶음의 첫 토큰 발급
+     */
+    public String issue(String username, String role) {
+        Instant now = clock.instant();
+        return save(username, role, UUID.randomUUID().toString(), now, now.plus(maxLifetime));
+    }
+
+    /**
+     * 토큰 회전
+     *
+     * @throws InvalidTokenException 없거나 만료된 토큰, 폐기된 묶음, 재사용된 토큰
+     *         (만료된 토큰은 저장소가 조회 결과에서 제외하므로 없는 토큰과 같이 처리)
+     */
+    public Rotation rotate(String rawToken) {
+        RefreshToken current = store.find(hash(rawToken))
+                .orElseThrow(() -> new InvalidTokenException("유효하지 않은 리프레시 토큰입니다."));
+
+        if (store.isFamilyRevoked(current.familyId())) {
+            throw new InvalidTokenException("폐기된 리프레시 토큰입니다. 다시 로그인해주세요.");
+        }
+        if (current.used() || !store.markUsed(current.tokenHash())) {
+            // 이미 회전에 쓰인 토큰 → 탈취 가능성이 있으므로 이 묶음의 모든 토큰을 무효화
+            store.revokeFamily(current.familyId(), current.familyExpiresAt());
+            log.warn("Refresh token reuse detected (username: {}, family: {})",
+                    current.username(), current.familyId());
+            throw new InvalidTokenException("이미 사용된 리프레시 토큰입니다. 다시 로그인해주세요.");
+        }
+
+        String next = save(current.username(), current.role(), current.familyId(),
+                clock.instant(), current.familyExpiresAt());
+        return new Rotation(current.username(), current.role(), next);
+    }
+
+    /**
+     * 로그아웃: 토큰이 속한 묶음 전체 폐기 (없거나 만료된 토큰은 무시)
+     */
+    public void revoke(String rawToken) {
+        store.find(hash(rawToken))
+                .ifPresent(token -> store.revokeFamily(token.familyId(), token.familyExpiresAt()));
+    }
+
+    public Duration getSlidingTtl() {
+        return slidingTtl;
+    }
+
+    // ========== PRIVATE METHODS ==========
+
+    private String save(String username, String role, String familyId, Instant now, Instant familyExpiresAt) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        Instant slidingExpiresAt = now.plus(slidingTtl);
+        Instant expiresAt = slidingExpiresAt.isBefore(familyExpiresAt) ? slidingExpiresAt : familyExpiresAt;
+        store.save(new RefreshToken(hash(rawToken), username, role, familyId, expiresAt, familyExpiresAt, false));
+        return rawToken;
+    }
+
+    private static String hash(String rawToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(rawToken.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * 회전 결과: 새 액세스 토큰 발급에 필요한 사용자 정보 + 새 리프레시 토큰
+     */
+    public record Rotation(String username, String role, String refreshToken) {
+    }
+}
@@ -0,0 +1,31 @@
+package com.study.myspringstudydiary.auth.token;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * 리프레시 토큰 저장소 (인메모리 / Redis)
+ *
+ * 모든 연산은 키 하나에 대한 조회/쓰기이며, 항목은 만료 시각이 지나면 저장소가 스스로 제거합니다.
+ * 회전 중 동시성은 markUsed의 원자성으로만 보장하므로 구현체는 이를 반드시 원자적으로 처리해야 합니다.
+ */
+public interface RefreshTokenStore {
+
+    /** 토큰 저장 (expiresAt까지 보관) */
+    void save(RefreshToken token);
+
+    /** 토큰 조회 (없거나 만료되어 제거된 경우 empty) */
+    Optional<RefreshToken> find(String tokenHash);
+
+    /**
+     * 아직 사용되지 않은 토큰을 사용됨으로 표시
+     *
+     * @return 이번 호출로 표시했으면 true, 이미 사용됐거나 없으면 false
+     */
+    boolean markUsed(String tokenHash);
+
+    /** 토큰 묶음 전체 폐기 (until까지 폐기 표시 보관) */
+    void revokeFamily(String familyId, Instant until);
+
+    boolean isFamilyRevoked(String familyId);
+}
@@ -0,0 +1,45 @@
+package com.study.myspringstudydiary.common;
+
+/**
+ * 내보내기(Export) 형식
+ *
+ * - NDJSON: 한 줄에 JSON 객체 하나 (application/x-ndjson)
+ * - CSV: 첫 줄은 헤더, 이후 한 줄에 한 건 (text/csv)
+ */
+public enum ExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * 요청 파라미터 문자열을 ExportFormat으로 변환 (대소문자 무시, 미지정 시 NDJSON)
+     *
+     * @throws IllegalArgumentException 지원하지 않는 값
+     */
+    public static ExportFormat from(String value) {
+        if (value == null || value.isBlank()) {
+            return NDJSON;
+        }
+        try {
+            return ExportFormat.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(
+                    "유효하지 않은 내보내기 형식입니다: " + value + " (NDJSON, CSV 중 하나)");
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.study.myspringstudydiary.common;
 
 import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 페이징 응답 객체 (제네릭)
@@ -10,20 +12,33 @@ import java.util.List;
  * 제네릭을 사용하는 이유:
  * - StudyLog 뿐 아니라 어떤 엔티티에도 재사용 가능
  * - 타입 안전성을 보장하여 컴파일 타임에 오류를 잡을 수 있음
+ *
+ * 두 가지 페이징 방식을 지원:
+ * - OFFSET 방식: page 번호로 이동 (page, totalPages 사용)
+ * - 커서(keyset) 방식: nextCursor를 다음 요청의 after 파라미터로 전달
+ *   → 깊은 페이지도 첫 페이지와 동일한 비용으로 조회
+ *
+ * 전체 개수를 생략하는 SLICE 모드(PagingMode.SLICE)에서는
+ * totalElements/totalPages가 null이며 hasNext로만 다음 페이지를 판단합니다.
  */
 public class Page<T> {
 
     private List<T> content;      // 현재 페이지의 데이터 목록
     private int page;             // 현재 페이지 번호 (0-based)
     private int size;             // 페이지당 데이터 개수
-    private long totalElements;   // 전체 데이터 개수
-    private int totalPages;       // 전체 페이지 수
+    private Long totalElements;   // 전체 데이터 개수 (SLICE 모드에서는 알 수 없으므로 null)
+    private Integer totalPages;   // 전체 페이지 수 (SLICE 모드에서는 null)
     private boolean first;        // 첫 번째 페이지 여부
     private boolean last;         // 마지막 페이지 여부
     private boolean hasNext;      // 다음 페이지 존재 여부
     private boolean hasPrevious;  // 이전 페이지 존재 여부
+    private String nextCursor;    // 다음 페이지 커서 (불투명 토큰, 다음 페이지가 없으면 null)
 
     public Page(List<T> content, int page, int size, long totalElements) {
+        this(content, page, size, totalElements, null);
+    }
+
+    public Page(List<T> content, int page, int size, long totalElements, String nextCursor) {
         this.content = content;
         this.page = page;
         this.size = size;
@@ -38,6 +53,68 @@ public class Page<T> {
         this.last = (page >= totalPages - 1) || (totalPages == 0);
         this.hasNext = !this.last;
         this.hasPrevious = !this.first;
+        this.nextCursor = this.hasNext ? nextCursor : null;
+    }
+
+    /**
+     * 전체 개수 없이 생성하는 OFFSET 페이지 (SLICE 모드)
+     *
+     * @param hasNext    size + 1건 조회 결과로 판단한 다음 페이지 존재 여부
+     * @param nextCursor 다음 페이지 커서 (다음 페이지가 없으면 무시됨)
+     */
+    public static <T> Page<T> ofSlice(List<T> content, int page, int size,
+                                      boolean hasNext, String nextCursor) {
+        Page<T> result = new Page<>(content, page, size, 0);
+        result.totalElements = null;
+        result.totalPages = null;
+        result.hasNext = hasNext;
+        result.last = !hasNext;
+        result.nextCursor = hasNext ? nextCursor : null;
+        return result;
+    }
+
+    /**
+     * 커서(keyset) 페이징용 팩토리 메서드
+     *
+     * 커서 방식에서는 페이지 번호가 의미가 없으므로 page는 0으로 두고,
+     * 다음 페이지 존재 여부는 nextCursor 유무로 판단합니다.
+     *
+     * @param totalElements 전체 개수 (SLICE 모드면 null)
+     * @param hasPrevious 커서(after)를 받아 조회한 경우 true
+     * @param nextCursor  다음 페이지 커서 (마지막 페이지면 null)
+     */
+    public static <T> Page<T> ofCursor(List<T> content, int size, Long totalElements,
+                                       boolean hasPrevious, String nextCursor) {
+        Page<T> result = new Page<>(content, 0, size, totalElements == null ? 0 : totalElements);
+        if (totalElements == null) {
+            result.totalElements = null;
+            result.totalPages = null;
+        }
+        result.first = !hasPrevious;
+        result.hasPrevious = hasPrevious;
+        result.hasNext = (nextCursor != null);
+        result.last = !result.hasNext;
+        result.nextCursor = nextCursor;
+        return result;
+    }
+
+    /**
+     * 페이지 정보는 유지한 채 content만 변환 (Entity → DTO 변환용)
+     */
+    public <R> Page<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> mapped = content.stream()
+                .map(mapper)
+                .collect(Collectors.toList());
+
+        Page<R> result = new Page<>(mapped, page, size, 0);
+        result.totalElements = totalElements;
+        result.totalPages = totalPages;
+        result.first = first;
+        result.last = last;
+        result.hasNext = hasNext;
+        result.hasPrevious = hasPrevious;
+        result.nextCursor = nextCursor;
+        return result;
     }
 
     // Getter 메서드
@@ -53,11 +130,11 @@ public class Page<T> {
         return size;
     }
 
-    public long getTotalElements() {
+    public Long getTotalElements() {
         return totalElements;
     }
 
-    public int getTotalPages() {
+    public Integer getTotalPages() {
         return totalPages;
     }
 
@@ -76,4 +153,8 @@ public class Page<T> {
     public boolean isHasPrevious() {
         return hasPrevious;
     }
-}
\ No newline at end of file
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+}
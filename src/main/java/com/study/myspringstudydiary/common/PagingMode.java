@@ -0,0 +1,30 @@
+package com.study.myspringstudydiary.common;
+
+/**
+ * 페이징 조회 방식
+ *
+ * - TOTAL: 전체 개수를 함께 조회 (totalElements, totalPages 제공)
+ * - SLICE: 전체 개수를 생략하고 size + 1건만 조회하여 hasNext만 판단
+ *          → 무한 스크롤처럼 전체 개수가 필요 없는 화면에서 COUNT 비용 제거
+ */
+public enum PagingMode {
+    TOTAL,
+    SLICE;
+
+    /**
+     * 요청 파라미터 문자열을 PagingMode로 변환 (대소문자 무시, 미지정 시 TOTAL)
+     *
+     * @throws IllegalArgumentException 지원하지 않는 값
+     */
+    public static PagingMode from(String value) {
+        if (value == null || value.isBlank()) {
+            return TOTAL;
+        }
+        try {
+            return PagingMode.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(
+                    "유효하지 않은 페이징 모드입니다: " + value + " (TOTAL, SLICE 중 하나)");
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.study.myspringstudydiary.common;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HexFormat;
+
+/**
+ * 조건부 GET(If-None-Match, If-Modified-Since)에 사용하는 응답 버전
+ *
+ * - eTag: 따옴표로 감싼 강한(strong) ETag
+ * - lastModified: Last-Modified로 보낼 epoch 밀리초 (알 수 없으면 -1)
+ *
+ * 같은 버전이면 응답 본문도 바이트 단위로 같아야 하므로,
+ * 본문을 바꾸는 값(ID, 수정 시각, 페이지/필드 등 요청 조건)은 모두 ETag에 반영합니다.
+ */
+public record ResourceVersion(String eTag, long lastModified) {
+
+    /** 목록 ETag 해시 길이 (SHA-256 앞 16바이트) */
+    private static final int COLLECTION_HASH_BYTES = 16;
+
+    /**
+     * 단건 리소스 버전: "{id}-{수정 시각 epoch 마이크로초}"
+     */
+    public static ResourceVersion of(Object id, LocalDateTime updatedAt) {
+        Instant instant = updatedAt.atZone(ZoneId.systemDefault()).toInstant();
+        long micros = instant.getEpochSecond() * 1_000_000 + instant.getNano() / 1_000;
+        return new ResourceVersion(quote(id + "-" + micros), instant.toEpochMilli());
+    }
+
+    /**
+     * 목록 버전: 요청 조건 + 행 개수 + 최근 수정 시각의 해시
+     * 삭제로 최근 수정 시각이 과거로 돌아갈 수 있어 Last-Modified는 쓰지 않음 (ETag만 비교)
+     *
+     * @param representationKey 같은 데이터라도 응답 모양을 바꾸는 요청 조건 (경로 + 쿼리 문자열)
+     */
+    public static ResourceVersion ofCollection(String representationKey, long count, LocalDateTime lastModified) {
+        String source = representationKey + "|" + count + "|" + (lastModified != null ? lastModified : "");
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(source.getBytes(StandardCharsets.UTF_8));
+            return new ResourceVersion(
+                    quote(HexFormat.of().formatHex(digest, 0, COLLECTION_HASH_BYTES)), -1);
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM은 SHA-256을 제공해야 하므로 발생하지 않음
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * gzip으로 압축한 본문의 버전 (바이트가 다르므로 강한 ETag도 달라야 함): "...-gzip"
+     */
+    public ResourceVersion gzipVariant() {
+        return new ResourceVersion(eTag.substring(0, eTag.length() - 1) + "-gzip\"", lastModified);
+    }
+
+    private static String quote(String value) {
+        return "\"" + value + "\"";
+    }
+}
@@ -1,45 +1,97 @@
 package com.study.myspringstudydiary.global.docs.config;
 
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.myspringstudydiary.global.ratelimit.RateLimitFilter;
+import com.study.myspringstudydiary.global.ratelimit.RateLimiter;
+import com.study.myspringstudydiary.global.security.jwt.JwtAuthenticationFilter;
+import com.study.myspringstudydiary.global.security.jwt.JwtAuthenticator;
+import com.study.myspringstudydiary.study_log.dto.response.ApiResponse;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+
+import java.nio.charset.StandardCharsets;
 
 
 @Configuration
 @EnableWebSecurity // 스프링 시큐리티 설정을 활성화합니다.
 public class SecurityConfig {
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        // BCrypt라는 알고리즘을 사용하는 암호화 도구를 스프링 빈으로 등록합니다.
-        return new BCryptPasswordEncoder();
-    }
-
     @Bean
     public AuthenticationManager authenticationManager(AuthenticationConfiguration authConfig) throws Exception {
         return authConfig.getAuthenticationManager();
     }
 
+    /**
+     * 무상태(JWT) 보안 설정
+     *
+     * - 세션을 만들지 않고 매 요청의 Authorization: Bearer 토큰으로만 인증
+     * - 조회(GET), 로그인/회원가입/토큰 재발급/로그아웃, 문서, 헬스체크는 공개
+     * - 메트릭(/actuator/prometheus, /actuator/metrics)은 DAO 조회 조건, 요청 제한, 커넥션 풀 상태가 드러나므로 ADMIN만
+     * - 그 밖의 요청(생성/수정/삭제 등)은 인증 필요 → 토큰이 없거나 유효하지 않으면 401
+     * - 요청 수 제한은 인증 여부와 관계없이 모든 요청에 먼저 적용 (한도 초과 시 429)
+     */
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, JwtAuthenticator jwtAuthenticator,
+                                           ObjectProvider<RateLimiter> rateLimiter,
+                                           ObjectMapper objectMapper) throws Exception {
         http
                 .csrf(csrf -> csrf.disable())
+                .httpBasic(basic -> basic.disable())
+                .formLogin(form -> form.disable())
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(
                                 "/swagger-ui/**",
                                 "/v3/api-docs/**",
                                 "/swagger-ui.html"
                         ).permitAll()
-                        .anyRequest().permitAll() // 일단 임시로 다 열어두기
-                );
+                        .requestMatchers("/actuator/health/**", "/actuator/info").permitAll()
+                        .requestMatchers("/actuator/prometheus", "/actuator/metrics/**").hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.POST, "/api/v1/logs/login", "/api/v1/logs/signup",
+                                "/api/v1/logs/refresh", "/api/v1/logs/logout").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/v1/logs", "/api/v1/logs/**").permitAll()
+                        .requestMatchers("/error").permitAll()
+                        .anyRequest().authenticated()
+                )
+                .exceptionHandling(exception -> exception
+                        .authenticationEntryPoint(unauthorizedEntryPoint(objectMapper)))
+                .addFilterBefore(new JwtAuthenticationFilter(jwtAuthenticator),
+                        UsernamePasswordAuthenticationFilter.class);
+
+        // 요청 수 제한 (rate-limit.enabled일 때만): 인증 결과로 사용자별 버킷을 고를 수 있도록 JWT 필터 다음
+        RateLimiter limiter = rateLimiter.getIfAvailable();
+        if (limiter != null) {
+            http.addFilterAfter(new RateLimitFilter(limiter, objectMapper), JwtAuthenticationFilter.class);
+        }
 
         return http.build();
     }
+
+    /**
+     * 인증 실패 시 다른 API 오류와 같은 ApiResponse 형식으로 401 응답
+     */
+    private static AuthenticationEntryPoint unauthorizedEntryPoint(ObjectMapper objectMapper) {
+        return (request, response, authException) -> {
+            Object reason = request.getAttribute(JwtAuthenticationFilter.ERROR_ATTRIBUTE);
+            String message = reason != null ? reason.toString() : "인증이 필요합니다.";
+
+            response.setStatus(HttpStatus.UNAUTHORIZED.value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            objectMapper.writeValue(response.getOutputStream(), ApiResponse.error("UNAUTHORIZED", message));
+        };
+    }
 }
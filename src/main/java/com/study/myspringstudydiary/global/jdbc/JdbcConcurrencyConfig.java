@@ -0,0 +1,62 @@
+package com.study.myspringstudydiary.global.jdbc;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * DB 커넥션 동시 사용 제한 설정 (jdbc.concurrency-limit.enabled=true 일 때만)
+ *
+ * 가상 스레드 모드(application-virtual.yml)에서 켜며, 애플리케이션의 DataSource를
+ * ConnectionLimitingDataSource로 감쌉니다.
+ * - permits: 기본값은 HikariCP maximum-pool-size (풀 크기만큼만 동시에 빌려감)
+ * - acquire-timeout: 이 시간 안에 허가를 못 받으면 503 (SERVICE_UNAVAILABLE)
+ */
+@Configuration
+@ConditionalOnProperty(name = "jdbc.concurrency-limit.enabled", havingValue = "true")
+public class JdbcConcurrencyConfig {
+
+    @Bean
+    public static BeanPostProcessor connectionLimitingDataSourcePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConnectionLimitingDataSource)) {
+                    int permits = environment.getProperty("jdbc.concurrency-limit.permits", Integer.class,
+                            environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10));
+                    Duration acquireTimeout = environment.getProperty(
+                            "jdbc.concurrency-limit.acquire-timeout", Duration.class, Duration.ofSeconds(2));
+                    return new ConnectionLimitingDataSource(dataSource, permits, acquireTimeout);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * 허가 사용 현황 게이지 (jdbc.permits.available / jdbc.permits.waiting)
+     */
+    @Bean
+    public MeterBinder connectionLimitMetrics(DataSource dataSource) {
+        return registry -> {
+            if (dataSource instanceof ConnectionLimitingDataSource limited) {
+                Gauge.builder("jdbc.permits.max", limited, ConnectionLimitingDataSource::getMaxPermits)
+                        .description("DB 커넥션 동시 사용 한도")
+                        .register(registry);
+                Gauge.builder("jdbc.permits.available", limited, ConnectionLimitingDataSource::getAvailablePermits)
+                        .description("남은 DB 커넥션 허가 수")
+                        .register(registry);
+                Gauge.builder("jdbc.permits.waiting", limited, ConnectionLimitingDataSource::getWaitingThreads)
+                        .description("DB 커넥션 허가를 기다리는 스레드 수")
+                        .register(registry);
+            }
+        };
+    }
+}
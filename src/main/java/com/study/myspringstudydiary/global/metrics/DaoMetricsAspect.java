@@ -0,0 +1,115 @@
+package com.study.myspringstudydiary.global.metrics;
+
+import com.study.myspringstudydiary.common.PagingMode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * DAO 메서드 실행 시간 측정 (Micrometer Timer)
+ *
+ * 메트릭 이름: dao.query (Prometheus: dao_query_seconds_*)
+ * - dao: DAO 클래스 이름 (MySQLStudyLogDaoImpl, UserDao, ...)
+ * - operation: 메서드 이름 (searchWithPaging, findByUserName, ...)
+ * - filters: 값이 넘어온 검색 조건 (예: "title+category", 없으면 "none")
+ * - mode: PagingMode 인자 (TOTAL / SLICE, 없으면 "none")
+ * - outcome / exception: 성공 여부와 예외 클래스 이름
+ *
+ * 검색어나 ID 같은 값 자체는 태그에 넣지 않고 "어떤 조건이 있었는지"만 남기므로
+ * 태그 조합 수는 메서드 수 x 조건 조합 수로 제한됩니다.
+ * p99가 튈 때 filters 태그로 어떤 쿼리 형태가 느린지 찾을 수 있습니다.
+ */
+@Aspect
+public class DaoMetricsAspect {
+
+    public static final String METRIC_NAME = "dao.query";
+
+    // 파라미터 이름 → filters 태그 값 (값이 null이 아니고 빈 문자열이 아닐 때만 포함)
+    private static final Map<String, String> FILTER_PARAMETERS = Map.of(
+            "titleKeyword", "title",
+            "category", "category",
+            "startDate", "startDate",
+            "endDate", "endDate",
+            "date", "date",
+            "after", "cursor");
+
+    private static final String[] FILTER_ORDER =
+            {"titleKeyword", "category", "startDate", "endDate", "date", "after"};
+
+    private final MeterRegistry meterRegistry;
+
+    public DaoMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("within(com.study.myspringstudydiary..dao..*) "
+          + "&& @within(org.springframework.stereotype.Repository) "
+          + "&& execution(public * *(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            outcome = "error";
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(METRIC_NAME)
+                    .description("DAO 메서드 실행 시간")
+                    .tag("dao", AopUtils.getTargetClass(joinPoint.getTarget()).getSimpleName())
+                    .tag("operation", signature.getName())
+                    .tag("filters", filters(signature.getParameterNames(), joinPoint.getArgs()))
+                    .tag("mode", mode(joinPoint.getArgs()))
+                    .tag("outcome", outcome)
+                    .tag("exception", exception)
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofMillis(1))
+                    .maximumExpectedValue(Duration.ofSeconds(30))
+                    .register(meterRegistry));
+        }
+    }
+
+    // ========== PRIVATE METHODS ==========
+
+    static String filters(String[] parameterNames, Object[] args) {
+        if (parameterNames == null) {
+            return "none";
+        }
+        StringJoiner joiner = new StringJoiner("+");
+        for (String name : FILTER_ORDER) {
+            for (int i = 0; i < parameterNames.length; i++) {
+                if (name.equals(parameterNames[i]) && isPresent(args[i])) {
+                    joiner.add(FILTER_PARAMETERS.get(name));
+                }
+            }
+        }
+        return joiner.length() == 0 ? "none" : joiner.toString();
+    }
+
+    private static String mode(Object[] args) {
+        for (Object arg : args) {
+            if (arg instanceof PagingMode mode) {
+                return mode.name();
+            }
+        }
+        return "none";
+    }
+
+    private static boolean isPresent(Object value) {
+        if (value instanceof String s) {
+            return !s.isBlank();
+        }
+        return value != null;
+    }
+}
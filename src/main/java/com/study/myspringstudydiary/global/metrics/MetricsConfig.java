@@ -0,0 +1,33 @@
+package com.study.myspringstudydiary.global.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.metrics.MeterRegistryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 메트릭 설정
+ *
+ * - DAO 실행 시간: DaoMetricsAspect (dao.query)
+ * - HikariCP 커넥션 풀(hikaricp.connections.*)과 HTTP 요청(http.server.requests)은
+ *   Spring Boot Actuator가 자동으로 등록하며, 히스토그램 설정은 application.yml에 있습니다.
+ * - 수집 경로: GET /actuator/prometheus
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public DaoMetricsAspect daoMetricsAspect(MeterRegistry meterRegistry) {
+        return new DaoMetricsAspect(meterRegistry);
+    }
+
+    /**
+     * 모든 메트릭에 application 태그를 붙여 여러 서비스의 지표를 한 Prometheus에서 구분
+     */
+    @Bean
+    public MeterRegistryCustomizer<MeterRegistry> commonTags(
+            @Value("${spring.application.name}") String applicationName) {
+        return registry -> registry.config().commonTags("application", applicationName);
+    }
+}
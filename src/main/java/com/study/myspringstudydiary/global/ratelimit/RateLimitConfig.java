@@ -0,0 +1,40 @@
+package com.study.myspringstudydiary.global.ratelimit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.List;
+
+/**
+ * 요청 수 제한 설정 (rate-limit.enabled가 true일 때만 등록)
+ *
+ * 규칙 목록은 rate-limit.routes에 선언 순서대로 적습니다 (application.yml 참고).
+ * 필터는 SecurityConfig가 JwtAuthenticationFilter 다음에 등록합니다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "rate-limit.enabled", havingValue = "true")
+public class RateLimitConfig {
+
+    @Bean
+    public RateLimiter rateLimiter(
+            Environment environment,
+            @Value("${rate-limit.maximum-buckets:100000}") long maximumBuckets,
+            MeterRegistry meterRegistry) {
+
+        List<RateLimitRule> rules = Binder.get(environment)
+                .bind("rate-limit.routes", Bindable.listOf(RateLimitRule.class))
+                .orElse(List.of());
+        rules.forEach(rule -> log.info("Rate limit: {} {} {} by {} ({} per {})",
+                rule.name(), rule.method(), rule.path(), rule.key(), rule.capacity(), rule.refillPeriod()));
+
+        return new RateLimiter(rules, maximumBuckets, meterRegistry, System::nanoTime);
+    }
+}
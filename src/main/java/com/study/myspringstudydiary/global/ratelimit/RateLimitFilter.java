@@ -0,0 +1,78 @@
+package com.study.myspringstudydiary.global.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.myspringstudydiary.study_log.dto.response.ApiResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 요청 수 제한 필터
+ *
+ * JwtAuthenticationFilter 다음에 실행되어 인증된 사용자는 사용자명으로, 그 외에는 IP로 버킷을 나눕니다.
+ * 규칙이 적용된 응답에는 RateLimit-Limit / RateLimit-Remaining / RateLimit-Reset 헤더를 붙이고,
+ * 한도를 넘으면 DB에 닿기 전에 429 + Retry-After로 응답합니다.
+ *
+ * IP는 request.getRemoteAddr() 기준입니다. 프록시 뒤에서 운영하면
+ * server.forward-headers-strategy 설정으로 실제 클라이언트 IP가 들어오도록 해야 합니다.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    public static final String HEADER_LIMIT = "RateLimit-Limit";
+    public static final String HEADER_REMAINING = "RateLimit-Remaining";
+    public static final String HEADER_RESET = "RateLimit-Reset";
+
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+
+    public RateLimitFilter(RateLimiter rateLimiter, ObjectMapper objectMapper) {
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RateLimiter.Decision decision = rateLimiter.check(request.getMethod(), request.getRequestURI(),
+                request.getRemoteAddr(), currentUsername());
+        if (decision == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        response.setHeader(HEADER_LIMIT, String.valueOf(decision.rule().capacity()));
+        response.setHeader(HEADER_REMAINING, String.valueOf(decision.remaining()));
+        response.setHeader(HEADER_RESET, String.valueOf(decision.resetSeconds()));
+        if (decision.allowed()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(decision.retryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(),
+                ApiResponse.error("TOO_MANY_REQUESTS", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."));
+    }
+
+    private static String currentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,57 @@
+package com.study.myspringstudydiary.global.ratelimit;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.time.Duration;
+
+/**
+ * 경로별 제한 규칙
+ *
+ * - name: 메트릭 태그와 버킷 키에 쓰는 규칙 이름
+ * - method: HTTP 메서드 (비어 있으면 모든 메서드)
+ * - path: 경로 패턴 (PathPattern 문법, 예: /api/v1/logs/search)
+ * - key: 버킷을 나누는 기준 (ip / user, user는 인증되지 않은 요청이면 ip로 대체)
+ * - capacity: 버킷 크기 (연속으로 허용하는 요청 수)
+ * - refillPeriod: 빈 버킷이 가득 차는 데 걸리는 시간 (평균 허용량 = capacity / refillPeriod)
+ */
+public record RateLimitRule(
+        String name,
+        String method,
+        String path,
+        KeyType key,
+        int capacity,
+        Duration refillPeriod) {
+
+    public enum KeyType {
+        IP, USER
+    }
+
+    public RateLimitRule {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("rate-limit capacity must be positive: " + name);
+        }
+        if (refillPeriod == null || refillPeriod.isZero() || refillPeriod.isNegative()) {
+            throw new IllegalArgumentException("rate-limit refill-period must be positive: " + name);
+        }
+        if (key == null) {
+            key = KeyType.IP;
+        }
+    }
+
+    /**
+     * 요청에 맞는 규칙인지 확인하기 위한 컴파일된 매처
+     */
+    Matcher compile() {
+        return new Matcher(this, PathPatternParser.defaultInstance.parse(path));
+    }
+
+    record Matcher(RateLimitRule rule, PathPattern pattern) {
+
+        boolean matches(String method, PathContainer path) {
+            return (rule.method() == null || rule.method().isEmpty() || rule.method().equalsIgnoreCase(method))
+                    && pattern.matches(path);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.study.myspringstudydiary.global.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.server.PathContainer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 경로별 / 클라이언트별 요청 수 제한
+ *
+ * - 규칙은 선언 순서대로 확인하고 처음 맞는 규칙 하나만 적용
+ * - 버킷은 (규칙, 클라이언트 키)마다 하나씩 Caffeine 캐시에 보관
+ *   (내부적으로 잠금이 나뉜(striped) ConcurrentHashMap이라 조회는 락 없이 처리, 최대 개수로 메모리 제한)
+ * - 한동안 요청이 없는 버킷은 가장 긴 refillPeriod가 지나면 제거 (그 시점엔 어차피 가득 찬 상태)
+ * - 최대 개수를 넘겨 밀려난 버킷은 다음 요청에서 가득 찬 상태로 다시 생성됨
+ *
+ * 메트릭: rate_limit.requests{route, outcome=allowed|rejected}, rate_limit.buckets
+ */
+public class RateLimiter {
+
+    private final List<RateLimitRule.Matcher> matchers;
+    private final Cache<String, TokenBucket> buckets;
+    private final LongSupplier nanoTime;
+    private final Counter[] allowed;
+    private final Counter[] rejected;
+
+    public RateLimiter(List<RateLimitRule> rules, long maximumBuckets, MeterRegistry meterRegistry,
+                       LongSupplier nanoTime) {
+        this.matchers = rules.stream().map(RateLimitRule::compile).toList();
+        this.nanoTime = nanoTime;
+
+        Duration idle = rules.stream().map(RateLimitRule::refillPeriod).max(Duration::compareTo)
+                .orElse(Duration.ofMinutes(1));
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maximumBuckets)
+                .expireAfterAccess(idle)
+                .build();
+
+        this.allowed = new Counter[rules.size()];
+        this.rejected = new Counter[rules.size()];
+        for (int i = 0; i < rules.size(); i++) {
+            String route = rules.get(i).name();
+            allowed[i] = counter(meterRegistry, route, "allowed");
+            rejected[i] = counter(meterRegistry, route, "rejected");
+        }
+        Gauge.builder("rate_limit.buckets", buckets, Cache::estimatedSize)
+                .description("Number of active rate limit buckets")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청 하나에 대한 제한 확인
+     *
+     * @param ip       클라이언트 IP
+     * @param username 인증된 사용자명 (없으면 null)
+     * @return 적용된 규칙이 없으면 null
+     */
+    public Decision check(String method, String path, String ip, String username) {
+        if (matchers.isEmpty()) {
+            return null;
+        }
+        PathContainer pathContainer = PathContainer.parsePath(path);
+        for (int i = 0; i < matchers.size(); i++) {
+            RateLimitRule.Matcher matcher = matchers.get(i);
+            if (!matcher.matches(method, pathContainer)) {
+                continue;
+            }
+            RateLimitRule rule = matcher.rule();
+            String client = rule.key() == RateLimitRule.KeyType.USER && username != null
+                    ? "u:" + username
+                    : "ip:" + ip;
+            TokenBucket bucket = buckets.get(rule.name() + '|' + client,
+                    key -> new TokenBucket(rule.capacity(), rule.refillPeriod().toNanos()));
+
+            long now = nanoTime.getAsLong();
+            long result = bucket.tryConsume(now);
+            if (result >= 0) {
+                allowed[i].increment();
+                return new Decision(rule, true, result, bucket.nanosUntilFull(now), 0);
+            }
+            rejected[i].increment();
+            return new Decision(rule, false, 0, bucket.nanosUntilFull(now), -result);
+        }
+        return null;
+    }
+
+    private static Counter counter(MeterRegistry registry, String route, String outcome) {
+        return Counter.builder("rate_limit.requests")
+                .description("Requests checked by the rate limiter")
+                .tag("route", route)
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    /**
+     * 제한 확인 결과
+     *
+     * @param remaining        남은 토큰 수
+     * @param resetNanos       버킷이 가득 찰 때까지 남은 시간
+     * @param retryAfterNanos  거절된 경우 토큰 하나가 생길 때까지 남은 시간
+     */
+    public record Decision(RateLimitRule rule, boolean allowed, long remaining, long resetNanos,
+                           long retryAfterNanos) {
+
+        public long resetSeconds() {
+            return ceilSeconds(resetNanos);
+        }
+
+        public long retryAfterSeconds() {
+            return Math.max(1, ceilSeconds(retryAfterNanos));
+        }
+
+        private static long ceilSeconds(long nanos) {
+            return (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.study.myspringstudydiary.global.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 락 없는 토큰 버킷 (GCRA 방식)
+ *
+ * 남은 토큰 수 대신 "버킷이 다시 가득 차는 시각(TAT)" 하나만 AtomicLong으로 보관합니다.
+ * - 요청 1건 = emissionInterval(= refillPeriod / capacity)만큼 TAT를 뒤로 미룸
+ * - TAT가 지금보다 capacity * emissionInterval 이상 앞서면 토큰이 없는 것 → 거절
+ * 상태가 long 하나라 CAS 한 번으로 갱신되고, 시간 경과에 따른 충전 작업도 따로 필요 없습니다.
+ */
+public class TokenBucket {
+
+    private final long emissionIntervalNanos;
+    private final long burstNanos;
+    private final int capacity;
+    private final AtomicLong theoreticalArrivalTime = new AtomicLong(Long.MIN_VALUE);
+
+    public TokenBucket(int capacity, long refillPeriodNanos) {
+        this.capacity = capacity;
+        this.emissionIntervalNanos = Math.max(1, refillPeriodNanos / capacity);
+        this.burstNanos = emissionIntervalNanos * capacity;
+    }
+
+    /**
+     * 토큰 하나 사용 시도
+     *
+     * @param nowNanos 현재 시각 (System.nanoTime 기준)
+     * @return 허용 시 남은 토큰 수(0 이상), 거절 시 토큰 하나가 생길 때까지 남은 나노초를 음수로 반환
+     */
+    public long tryConsume(long nowNanos) {
+        while (true) {
+            long tat = theoreticalArrivalTime.get();
+            long newTat = Math.max(tat, nowNanos) + emissionIntervalNanos;
+            long ahead = newTat - nowNanos;
+            if (ahead > burstNanos) {
+                return -Math.max(1, ahead - burstNanos);
+            }
+            if (theoreticalArrivalTime.compareAndSet(tat, newTat)) {
+                return (burstNanos - ahead) / emissionIntervalNanos;
+            }
+        }
+    }
+
+    /**
+     * 버킷이 다시 가득 찰 때까지 남은 나노초
+     */
+    public long nanosUntilFull(long nowNanos) {
+        return Math.max(0, theoreticalArrivalTime.get() - nowNanos);
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,33 @@
+package com.study.myspringstudydiary.global.runtime;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * spring.threads.virtual.enabled=true(virtual 프로파일)인데 실행 JVM이 21 미만이면 경고
+ *
+ * Spring Boot는 Java 21 미만에서 이 설정을 조용히 무시하므로(플랫폼 스레드 풀로 동작),
+ * 세마포어만 켜진 상태로 부하 테스트를 하지 않도록 시작 로그에 남깁니다.
+ * 컴파일 툴체인은 17이므로 bootRun은 -PruntimeJavaVersion=21로 실행합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadSupportCheck {
+
+    static final int VIRTUAL_THREADS_MIN_VERSION = 21;
+
+    @PostConstruct
+    public void check() {
+        int feature = Runtime.version().feature();
+        if (feature < VIRTUAL_THREADS_MIN_VERSION) {
+            log.warn("spring.threads.virtual.enabled=true is ignored on Java {} (requires {}+); "
+                            + "requests run on platform threads. Run with -PruntimeJavaVersion=21.",
+                    feature, VIRTUAL_THREADS_MIN_VERSION);
+        } else {
+            log.info("Virtual threads enabled (Java {})", feature);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.study.myspringstudydiary.global.security.config;
+
+import com.study.myspringstudydiary.global.security.jwt.JwtAuthenticator;
+import com.study.myspringstudydiary.global.security.jwt.JwtTokenProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JwtConfig {
+
+    /**
+     * jwt.*-expiration은 밀리초 단위, JwtTokenProvider는 초 단위로 받음
+     */
+    @Bean
+    public JwtTokenProvider jwtTokenProvider(
+            @Value("${jwt.secret}") String secret,
+            @Value("${jwt.access-token-expiration}") long accessTokenExpirationMillis,
+            @Value("${jwt.refresh-token-expiration}") long refreshTokenExpirationMillis) {
+        return new JwtTokenProvider(secret, accessTokenExpirationMillis / 1000, refreshTokenExpirationMillis / 1000);
+    }
+
+    @Bean
+    public JwtAuthenticator jwtAuthenticator(
+            JwtTokenProvider jwtTokenProvider,
+            @Value("${jwt.verified-token-cache.maximum-size:10000}") long maximumSize) {
+        return new JwtAuthenticator(jwtTokenProvider, maximumSize);
+    }
+}
@@ -1,43 +1,87 @@
 package com.study.myspringstudydiary.global.security.config;
 
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 
 import java.time.Duration;
 
+/**
+ * 카카오 API 클라이언트 설정
+ *
+ * kakaoAuthClient / kakaoApiClient가 커넥션 풀을 공유하는 HttpClient 하나를 사용합니다.
+ * - keep-alive로 커넥션을 재사용하므로 로그인마다 TCP/TLS 연결을 새로 맺지 않음
+ * - 풀 크기, 타임아웃, 재시도 횟수/백오프는 kakao.http.* 설정으로 조정
+ * - 재시도 규칙은 KakaoRetryStrategy 참고
+ */
 @Configuration
 public class KakaoApiConfig {
 
-    @Value("${kakao.client-id}")
-    private String clientId;
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient kakaoHttpClient(
+            @Value("${kakao.http.max-connections:50}") int maxConnections,
+            @Value("${kakao.http.max-connections-per-route:20}") int maxConnectionsPerRoute,
+            @Value("${kakao.http.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${kakao.http.response-timeout:5s}") Duration responseTimeout,
+            @Value("${kakao.http.pool-acquire-timeout:1s}") Duration poolAcquireTimeout,
+            @Value("${kakao.http.keep-alive:30s}") Duration keepAlive,
+            @Value("${kakao.http.max-retries:2}") int maxRetries,
+            @Value("${kakao.http.retry-backoff:200ms}") Duration retryBackoff) {
 
-    @Value("${kakao.client-secret}")
-    private String clientSecret;
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connectTimeout))
+                        .setSocketTimeout(Timeout.of(responseTimeout))
+                        // 오래 놀던 커넥션은 재사용 전에 살아있는지 확인 (서버가 먼저 끊은 경우 대비)
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .setTimeToLive(TimeValue.ofMinutes(5))
+                        .build())
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(poolAcquireTimeout))
+                        .setResponseTimeout(Timeout.of(responseTimeout))
+                        .build())
+                .setRetryStrategy(new KakaoRetryStrategy(maxRetries, retryBackoff))
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(keepAlive))
+                .build();
+    }
 
     @Bean("kakaoAuthClient")
-    public RestClient kakaoAuthClient(){
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(Duration.ofSeconds(5));
-        factory.setReadTimeout(Duration.ofSeconds(10));
+    public RestClient kakaoAuthClient(
+            @Qualifier("kakaoHttpClient") CloseableHttpClient kakaoHttpClient,
+            @Value("${kakao.auth-base-url:https://kauth.kakao.com}") String baseUrl) {
 
         return RestClient.builder()
-                .baseUrl("<https://kauth.kakao.com>")
-                .requestFactory(factory)
+                .baseUrl(baseUrl)
+                .requestFactory(new HttpComponentsClientHttpRequestFactory(kakaoHttpClient))
                 .build();
     }
 
     @Bean("kakaoApiClient")
-    public RestClient kakaoApiClient() {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(Duration.ofSeconds(5));
-        factory.setReadTimeout(Duration.ofSeconds(10));
+    public RestClient kakaoApiClient(
+            @Qualifier("kakaoHttpClient") CloseableHttpClient kakaoHttpClient,
+            @Value("${kakao.api-base-url:https://kapi.kakao.com}") String baseUrl) {
 
         return RestClient.builder()
-                .baseUrl("<https://kapi.kakao.com>")
-                .requestFactory(factory)
+                .baseUrl(baseUrl)
+                .requestFactory(new HttpComponentsClientHttpRequestFactory(kakaoHttpClient))
                 .build();
     }
 
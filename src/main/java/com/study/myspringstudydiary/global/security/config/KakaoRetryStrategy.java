@@ -0,0 +1,87 @@
+package com.study.myspringstudydiary.global.security.config;
+
+import org.apache.hc.client5.http.impl.DefaultHttpRequestRetryStrategy;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.HttpStatus;
+import org.apache.hc.core5.http.Method;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.util.TimeValue;
+
+import javax.net.ssl.SSLException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 카카오 API 재시도 규칙 (지수 백오프 + 지터)
+ *
+ * - 연결 자체가 실패한 경우(ConnectException): 요청이 전송되지 않았으므로 POST(토큰 발급)도 재시도
+ * - 그 밖의 I/O 오류, 429/503 응답: GET 같은 멱등 요청만 재시도
+ *   (인가 코드는 한 번만 쓸 수 있으므로 전송된 토큰 요청은 다시 보내지 않음)
+ * - 대기 시간: backoff * 2^(시도 횟수 - 1) + 최대 50% 지터, Retry-After 헤더가 있으면 그 값을 따름
+ */
+class KakaoRetryStrategy extends DefaultHttpRequestRetryStrategy {
+
+    private final int maxRetries;
+    private final long backoffMillis;
+
+    KakaoRetryStrategy(int maxRetries, Duration backoff) {
+        super(maxRetries,
+                TimeValue.ofMilliseconds(backoff.toMillis()),
+                List.of(InterruptedIOException.class, UnknownHostException.class,
+                        NoRouteToHostException.class, SSLException.class),
+                List.of(HttpStatus.SC_TOO_MANY_REQUESTS, HttpStatus.SC_SERVICE_UNAVAILABLE));
+        this.maxRetries = maxRetries;
+        this.backoffMillis = backoff.toMillis();
+    }
+
+    @Override
+    public boolean retryRequest(HttpRequest request, IOException exception, int execCount, HttpContext context) {
+        if (exception instanceof ConnectException) {
+            return execCount <= maxRetries;
+        }
+        return super.retryRequest(request, exception, execCount, context);
+    }
+
+    /**
+     * 429/503 응답은 멱등 요청만 재시도
+     * (상위 클래스는 응답 기반 재시도에서 메서드를 확인하지 않아, 전송된 토큰 요청이 인가 코드를 다시 소모함)
+     */
+    @Override
+    public boolean retryRequest(HttpResponse response, int execCount, HttpContext context) {
+        HttpRequest request = HttpClientContext.castOrCreate(context).getRequest();
+        if (request == null || !Method.isIdempotent(request.getMethod())) {
+            return false;
+        }
+        return super.retryRequest(response, execCount, context);
+    }
+
+    @Override
+    public TimeValue getRetryInterval(HttpRequest request, IOException exception, int execCount, HttpContext context) {
+        return backoff(execCount);
+    }
+
+    @Override
+    public TimeValue getRetryInterval(HttpResponse response, int execCount, HttpContext context) {
+        if (response.containsHeader(HttpHeaders.RETRY_AFTER)) {
+            return super.getRetryInterval(response, execCount, context);
+        }
+        return backoff(execCount);
+    }
+
+    // ========== PRIVATE METHODS ==========
+
+    private TimeValue backoff(int execCount) {
+        long delay = backoffMillis << Math.min(execCount - 1, 10);
+        long jitter = delay > 0 ? ThreadLocalRandom.current().nextLong(delay / 2 + 1) : 0;
+        return TimeValue.ofMilliseconds(delay + jitter);
+    }
+}
@@ -1,15 +1,70 @@
 package com.study.myspringstudydiary.global.security.config;
 
+import com.study.myspringstudydiary.global.security.crypto.BoundedPasswordEncoder;
+import com.study.myspringstudydiary.global.security.crypto.PasswordHashCalibrator;
+import com.study.myspringstudydiary.global.security.crypto.TargetStrengthBCryptPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Duration;
+import java.util.Map;
+
 @Configuration
 public class PasswordEncoderConfig {
 
+    private static final String BCRYPT = "bcrypt";
+    private static final String ARGON2 = "argon2";
+
+    /**
+     * 비밀번호 인코더
+     *
+     * - {bcrypt}, {argon2} 접두사로 알고리즘을 구분하는 DelegatingPasswordEncoder
+     *   (algorithm 설정으로 새 해시에 쓸 알고리즘 선택, 접두사 없는 기존 해시는 BCrypt로 검증)
+     * - strength / iterations가 0이면 시작 시 target-latency에 맞춰 보정 (PasswordHashCalibrator)
+     * - 해시/검증은 전용 풀에서 실행 (BoundedPasswordEncoder, threads가 0이면 CPU 코어 수)
+     */
     @Bean
-    public PasswordEncoder passwordEncoder(){
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            MeterRegistry meterRegistry,
+            @Value("${auth.password-hashing.algorithm:bcrypt}") String algorithm,
+            @Value("${auth.password-hashing.target-latency:50ms}") Duration targetLatency,
+            @Value("${auth.password-hashing.bcrypt.strength:0}") int bcryptStrength,
+            @Value("${auth.password-hashing.bcrypt.min-strength:10}") int bcryptMinStrength,
+            @Value("${auth.password-hashing.bcrypt.max-strength:14}") int bcryptMaxStrength,
+            @Value("${auth.password-hashing.argon2.iterations:0}") int argon2Iterations,
+            @Value("${auth.password-hashing.argon2.min-iterations:2}") int argon2MinIterations,
+            @Value("${auth.password-hashing.argon2.max-iterations:10}") int argon2MaxIterations,
+            @Value("${auth.password-hashing.threads:0}") int threads,
+            @Value("${auth.password-hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${auth.password-hashing.retry-after:1s}") Duration retryAfter){
+
+        String idForEncode = algorithm.toLowerCase();
+        if (!BCRYPT.equals(idForEncode) && !ARGON2.equals(idForEncode)) {
+            throw new IllegalArgumentException("지원하지 않는 비밀번호 해시 알고리즘입니다: " + algorithm);
+        }
+
+        // 새 해시에 쓰는 알고리즘만 보정하고, 나머지는 검증용이므로 하한값으로 생성
+        int strength = bcryptStrength > 0 ? bcryptStrength
+                : BCRYPT.equals(idForEncode)
+                        ? PasswordHashCalibrator.calibrateBCryptStrength(targetLatency, bcryptMinStrength, bcryptMaxStrength)
+                        : bcryptMinStrength;
+        int iterations = argon2Iterations > 0 ? argon2Iterations
+                : ARGON2.equals(idForEncode)
+                        ? PasswordHashCalibrator.calibrateArgon2Iterations(targetLatency, argon2MinIterations, argon2MaxIterations)
+                        : argon2MinIterations;
+
+        PasswordEncoder bcrypt = new TargetStrengthBCryptPasswordEncoder(strength);
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(idForEncode, Map.of(
+                BCRYPT, bcrypt,
+                ARGON2, PasswordHashCalibrator.argon2(iterations)));
+        // 접두사 없이 저장된 기존 BCrypt 해시도 검증 (로그인 시 접두사 붙은 해시로 재해시됨)
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(delegating, poolSize, queueCapacity, retryAfter, meterRegistry);
     }
 }
@@ -0,0 +1,87 @@
+package com.study.myspringstudydiary.global.security.crypto;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+/**
+ * 시작 시 이 서버에서 latency budget(예: 50ms) 안에 들어오는 가장 강한 작업 계수를 찾음
+ *
+ * - BCrypt: strength(log2 반복 횟수)를 min부터 1씩 올려가며 측정
+ * - Argon2: 메모리(19MiB)와 병렬도(1)는 고정하고 iterations를 올려가며 측정
+ * - 각 단계는 3번 측정한 중앙값을 사용하고, budget을 넘는 첫 단계에서 멈춤
+ * - budget 안에 드는 단계가 없어도 min 아래로는 내려가지 않음 (보안 하한)
+ *
+ * 서버마다 하드웨어가 다르면 계수도 달라지고, 로그인 시 재해시가 서버마다 반복될 수 있으므로
+ * 여러 종류의 서버를 함께 운영할 때는 strength/iterations를 고정값으로 설정하세요.
+ */
+@Slf4j
+public final class PasswordHashCalibrator {
+
+    private static final int SAMPLES = 3;
+    private static final String SAMPLE_PASSWORD = "calibration-password-1234";
+
+    // OWASP 권장 최소값 (m=19MiB, t=2, p=1)
+    public static final int ARGON2_MEMORY_KIB = 19 * 1024;
+    public static final int ARGON2_PARALLELISM = 1;
+
+    private PasswordHashCalibrator() {
+    }
+
+    public static int calibrateBCryptStrength(Duration budget, int minStrength, int maxStrength) {
+        int strength = calibrate("bcrypt strength", budget, minStrength, maxStrength,
+                BCryptPasswordEncoder::new);
+        log.info("BCrypt strength 보정 완료 - strength={}, budget={}ms", strength, budget.toMillis());
+        return strength;
+    }
+
+    public static int calibrateArgon2Iterations(Duration budget, int minIterations, int maxIterations) {
+        int iterations = calibrate("argon2 iterations", budget, minIterations, maxIterations,
+                PasswordHashCalibrator::argon2);
+        log.info("Argon2 iterations 보정 완료 - iterations={}, memory={}KiB, budget={}ms",
+                iterations, ARGON2_MEMORY_KIB, budget.toMillis());
+        return iterations;
+    }
+
+    public static Argon2PasswordEncoder argon2(int iterations) {
+        return new Argon2PasswordEncoder(16, 32, ARGON2_PARALLELISM, ARGON2_MEMORY_KIB, iterations);
+    }
+
+    // ========== PRIVATE METHODS ==========
+
+    private static int calibrate(String name, Duration budget, int min, int max,
+                                 IntFunction<PasswordEncoder> encoderFactory) {
+        if (min > max) {
+            throw new IllegalArgumentException(name + " 범위가 잘못되었습니다: " + min + " > " + max);
+        }
+        long budgetNanos = budget.toNanos();
+        int chosen = min;
+        for (int factor = min; factor <= max; factor++) {
+            long nanos = medianNanos(encoderFactory.apply(factor));
+            log.debug("{}={} → {}ms", name, factor, nanos / 1_000_000);
+            if (nanos > budgetNanos) {
+                break;
+            }
+            chosen = factor;
+        }
+        return chosen;
+    }
+
+    private static long medianNanos(PasswordEncoder encoder) {
+        // 첫 호출은 클래스 로딩/JIT 비용이 섞이므로 버림
+        encoder.encode(SAMPLE_PASSWORD);
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[SAMPLES / 2];
+    }
+}
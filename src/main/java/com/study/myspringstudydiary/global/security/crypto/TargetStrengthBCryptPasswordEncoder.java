@@ -0,0 +1,36 @@
+package com.study.myspringstudydiary.global.security.crypto;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 저장된 해시의 strength가 목표와 다르면(낮든 높든) 재해시 대상으로 판단하는 BCrypt 인코더
+ *
+ * 기본 BCryptPasswordEncoder는 목표보다 낮은 경우만 재해시하므로,
+ * 보정 결과 strength를 낮췄을 때 로그인 CPU 비용이 줄어들지 않습니다.
+ */
+public class TargetStrengthBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile("^\\$2[aby]?\\$(\\d\\d)\\$.{53}$");
+
+    private final int strength;
+
+    public TargetStrengthBCryptPasswordEncoder(int strength) {
+        super(strength);
+        this.strength = strength;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.isEmpty()) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_PATTERN.matcher(encodedPassword);
+        if (!matcher.matches()) {
+            return false;
+        }
+        return Integer.parseInt(matcher.group(1)) != strength;
+    }
+}
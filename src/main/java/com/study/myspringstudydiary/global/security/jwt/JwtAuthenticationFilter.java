@@ -0,0 +1,63 @@
+package com.study.myspringstudydiary.global.security.jwt;
+
+import com.study.myspringstudydiary.auth.exception.ExpiredTokenException;
+import com.study.myspringstudydiary.auth.exception.InvalidTokenException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Authorization: Bearer {액세스 토큰} 헤더로 인증하는 무상태 필터
+ *
+ * 토큰이 없으면 그대로 통과하고(인증이 필요한 경로면 이후 401),
+ * 토큰이 유효하지 않으면 인증 정보 없이 통과시키며 실패 사유를 요청 속성에 남깁니다.
+ * UserDao / CustomUserDetailsService는 호출하지 않습니다.
+ */
+@Slf4j
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    public static final String ERROR_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".error";
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtAuthenticator jwtAuthenticator;
+
+    public JwtAuthenticationFilter(JwtAuthenticator jwtAuthenticator) {
+        this.jwtAuthenticator = jwtAuthenticator;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String token = resolveToken(request);
+        if (token != null) {
+            try {
+                SecurityContext context = SecurityContextHolder.createEmptyContext();
+                context.setAuthentication(jwtAuthenticator.authenticate(token));
+                SecurityContextHolder.setContext(context);
+            } catch (ExpiredTokenException | InvalidTokenException e) {
+                log.debug("JWT 인증 실패: {}", e.getMessage());
+                SecurityContextHolder.clearContext();
+                request.setAttribute(ERROR_ATTRIBUTE, e.getMessage());
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private static String resolveToken(HttpServletRequest request) {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.startsWith(BEARER_PREFIX)) {
+            return null;
+        }
+        String token = header.substring(BEARER_PREFIX.length()).trim();
+        return token.isEmpty() ? null : token;
+    }
+}
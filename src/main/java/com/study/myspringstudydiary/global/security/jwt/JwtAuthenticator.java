@@ -0,0 +1,101 @@
+package com.study.myspringstudydiary.global.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.study.myspringstudydiary.auth.exception.InvalidTokenException;
+import io.jsonwebtoken.Claims;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 액세스 토큰 → Authentication 변환 (검증된 토큰 캐시 포함)
+ *
+ * - 토큰의 클레임(username, role)만으로 Authentication을 만들며 DB는 조회하지 않음
+ * - 한 번 검증한 토큰은 만료 시각까지만 캐시하므로 같은 토큰의 반복 요청은
+ *   서명 검증(HMAC)과 JSON 파싱을 건너뜀
+ * - 최대 개수가 있는 Caffeine 캐시라 메모리가 무한히 늘지 않음
+ * - 검증에 실패한 토큰은 캐시하지 않음
+ */
+public class JwtAuthenticator {
+
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final Cache<String, CachedAuthentication> verifiedTokens;
+
+    public JwtAuthenticator(JwtTokenProvider jwtTokenProvider, long maximumSize) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new UntilTokenExpiry())
+                .build();
+    }
+
+    /**
+     * @throws com.study.myspringstudydiary.auth.exception.ExpiredTokenException 만료된 토큰
+     * @throws InvalidTokenException 서명 불일치, 형식 오류, 액세스 토큰이 아닌 경우
+     */
+    public Authentication authenticate(String token) {
+        CachedAuthentication cached = verifiedTokens.getIfPresent(token);
+        if (cached != null && cached.expiresAtMillis() > System.currentTimeMillis()) {
+            return cached.authentication();
+        }
+
+        CachedAuthentication verified = verify(token);
+        verifiedTokens.put(token, verified);
+        return verified.authentication();
+    }
+
+    public long cachedTokenCount() {
+        return verifiedTokens.estimatedSize();
+    }
+
+    // ========== PRIVATE METHODS ==========
+
+    private CachedAuthentication verify(String token) {
+        Claims claims = jwtTokenProvider.parseClaims(token);
+        if (!JwtTokenProvider.TYPE_ACCESS.equals(claims.get(JwtTokenProvider.CLAIM_TYPE, String.class))) {
+            throw new InvalidTokenException("액세스 토큰이 아닙니다.");
+        }
+
+        String role = claims.get(JwtTokenProvider.CLAIM_ROLE, String.class);
+        List<SimpleGrantedAuthority> authorities = role == null
+                ? List.of()
+                : List.of(new SimpleGrantedAuthority(role.startsWith(ROLE_PREFIX) ? role : ROLE_PREFIX + role));
+        Authentication authentication =
+                UsernamePasswordAuthenticationToken.authenticated(claims.getSubject(), null, authorities);
+        return new CachedAuthentication(authentication, claims.getExpiration().getTime());
+    }
+
+    private record CachedAuthentication(Authentication authentication, long expiresAtMillis) {
+    }
+
+    /**
+     * 캐시 항목을 토큰 만료 시각에 맞춰 제거
+     */
+    private static class UntilTokenExpiry implements Expiry<String, CachedAuthentication> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedAuthentication value, long currentTime) {
+            long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedAuthentication value, long currentTime,
+                                      long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedAuthentication value, long currentTime,
+                                    long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
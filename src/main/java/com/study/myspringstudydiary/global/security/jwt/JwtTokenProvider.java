@@ -0,0 +1,109 @@
+package com.study.myspringstudydiary.global.security.jwt;
+
+import com.study.myspringstudydiary.auth.exception.ExpiredTokenException;
+import com.study.myspringstudydiary.auth.exception.InvalidTokenException;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+/**
+ * JWT 발급 / 검증
+ *
+ * - 액세스 토큰: subject=username, role 클레임, typ=access
+ * - 리프레시 토큰: subject=username, typ=refresh
+ * - HMAC-SHA 서명 (secret은 UTF-8 기준 32바이트 이상)
+ *
+ * 검증 실패 시 만료는 ExpiredTokenException, 그 밖(서명 불일치, 형식 오류)은 InvalidTokenException
+ */
+public class JwtTokenProvider {
+
+    public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_TYPE = "typ";
+    public static final String TYPE_ACCESS = "access";
+    public static final String TYPE_REFRESH = "refresh";
+
+    private final SecretKey key;
+    private final JwtParser parser;
+    private final long accessTokenValidityMillis;
+    private final long refreshTokenValidityMillis;
+
+    /**
+     * @param secret                       서명 키
+     * @param accessTokenValiditySeconds  액세스 토큰 유효 시간 (초)
+     * @param refreshTokenValiditySeconds 리프레시 토큰 유효 시간 (초)
+     */
+    public JwtTokenProvider(String secret, long accessTokenValiditySeconds, long refreshTokenValiditySeconds) {
+        this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(key).build();
+        this.accessTokenValidityMillis = accessTokenValiditySeconds * 1000;
+        this.refreshTokenValidityMillis = refreshTokenValiditySeconds * 1000;
+    }
+
+    // ========== CREATE ==========
+
+    public String createAccessToken(String username, String role) {
+        Date now = new Date();
+        return Jwts.builder()
+                .subject(username)
+                .claim(CLAIM_ROLE, role)
+                .claim(CLAIM_TYPE, TYPE_ACCESS)
+                .issuedAt(now)
+                .expiration(new Date(now.getTime() + accessTokenValidityMillis))
+                .signWith(key)
+                .compact();
+    }
+
+    public String createRefreshToken(String username) {
+        Date now = new Date();
+        return Jwts.builder()
+                .subject(username)
+                .claim(CLAIM_TYPE, TYPE_REFRESH)
+                .issuedAt(now)
+                .expiration(new Date(now.getTime() + refreshTokenValidityMillis))
+                .signWith(key)
+                .compact();
+    }
+
+    // ========== READ ==========
+
+    /**
+     * 서명과 만료를 검증하고 클레임을 반환
+     */
+    public Claims parseClaims(String token) {
+        try {
+            return parser.parseSignedClaims(token).getPayload();
+        } catch (ExpiredJwtException e) {
+            throw new ExpiredTokenException("만료된 토큰입니다.");
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new InvalidTokenException("유효하지 않은 토큰입니다.");
+        }
+    }
+
+    public String extractUsername(String token) {
+        return parseClaims(token).getSubject();
+    }
+
+    public boolean validateToken(String token) {
+        try {
+            parseClaims(token);
+            return true;
+        } catch (ExpiredTokenException | InvalidTokenException e) {
+            return false;
+        }
+    }
+
+    public long getAccessTokenValidityMillis() {
+        return accessTokenValidityMillis;
+    }
+
+    public long getRefreshTokenValidityMillis() {
+        return refreshTokenValidityMillis;
+    }
+}
@@ -0,0 +1,24 @@
+package com.study.myspringstudydiary.study_log.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 노드 간 L1 캐시 무효화 메시지
+ *
+ * - nodeId: 발행한 노드 (자기 자신이 보낸 메시지는 무시)
+ * - id: 무효화할 학습 일지 ID (null이면 전체)
+ * - publishedAt: 발행 시각 (epoch millis, 수신 측에서 지연 시간 계산에 사용)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheInvalidationMessage {
+
+    private String nodeId;
+    private Long id;
+    private long publishedAt;
+}
@@ -0,0 +1,47 @@
+package com.study.myspringstudydiary.study_log.cache;
+
+import com.study.myspringstudydiary.common.Page;
+import com.study.myspringstudydiary.study_log.entity.StudyLog;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 페이지 캐시에 JSON으로 저장되는 형태
+ *
+ * OFFSET 페이지는 (content, page, size, totalElements 또는 hasNext, nextCursor)만 있으면
+ * 나머지 페이지 정보(first, last, totalPages 등)를 같은 규칙으로 다시 계산할 수 있습니다.
+ * totalElements가 null이면 SLICE 모드 페이지입니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+class CachedPage {
+
+    private List<StudyLog> content;
+    private int page;
+    private int size;
+    private Long totalElements;
+    private boolean hasNext;
+    private String nextCursor;
+
+    static CachedPage from(Page<StudyLog> source) {
+        CachedPage cached = new CachedPage();
+        cached.content = source.getContent();
+        cached.page = source.getPage();
+        cached.size = source.getSize();
+        cached.totalElements = source.getTotalElements();
+        cached.hasNext = source.isHasNext();
+        cached.nextCursor = source.getNextCursor();
+        return cached;
+    }
+
+    Page<StudyLog> toPage() {
+        if (totalElements == null) {
+            return Page.ofSlice(content, page, size, hasNext, nextCursor);
+        }
+        return new Page<>(content, page, size, totalElements, nextCursor);
+    }
+}
@@ -0,0 +1,64 @@
+package com.study.myspringstudydiary.study_log.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.study.myspringstudydiary.study_log.entity.StudyLog;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Caffeine 기반 엔티티 캐시
+ *
+ * - maximumSize: 최대 개수를 넘으면 자주 쓰이지 않는 항목부터 제거 (W-TinyLFU)
+ * - expireAfterWrite: 적재 후 TTL이 지나면 제거 → 다른 경로로 DB가 바뀌어도 오래 남지 않음
+ * - recordStats: 적중/미적중/제거 횟수 집계
+ *
+ * 미적중 시 로딩은 Caffeine의 get(key, mappingFunction) 안에서 수행됩니다.
+ * 같은 키의 invalidate는 로딩이 끝날 때까지 기다렸다가 제거하므로,
+ * "로딩 중 수정 → 수정 전 값이 캐시에 남는" 경쟁 상태가 생기지 않습니다.
+ */
+public class CaffeineStudyLogCache implements StudyLogCache {
+
+    private final Cache<Long, StudyLog> cache;
+
+    public CaffeineStudyLogCache(long maximumSize, Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public Optional<StudyLog> get(Long id, Function<Long, Optional<StudyLog>> loader) {
+        // 존재하지 않는 id는 null을 반환하여 캐시에 남기지 않음 (다음 생성 시 바로 보이도록)
+        StudyLog cached = cache.get(id, key -> loader.apply(key).map(StudyLog::copy).orElse(null));
+        return Optional.ofNullable(cached).map(StudyLog::copy);
+    }
+
+    @Override
+    public void invalidate(Long id) {
+        cache.invalidate(id);
+    }
+
+    @Override
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public StudyLogCacheStats stats() {
+        CacheStats stats = cache.stats();
+        return StudyLogCacheStats.builder()
+                .enabled(true)
+                .size(cache.estimatedSize())
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .build();
+    }
+}
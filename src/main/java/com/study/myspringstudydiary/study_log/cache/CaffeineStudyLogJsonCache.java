@@ -0,0 +1,51 @@
+package com.study.myspringstudydiary.study_log.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.study.myspringstudydiary.study_log.dto.response.StudyLogJson;
+import com.study.myspringstudydiary.study_log.dto.response.StudyLogResponse;
+import com.study.myspringstudydiary.study_log.entity.StudyLog;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Caffeine 기반 직렬화 응답 캐시
+ *
+ * - maximumSize: 최대 개수를 넘으면 자주 쓰이지 않는 항목부터 제거 (W-TinyLFU)
+ * - expireAfterAccess: 수정 전 버전처럼 더 이상 조회되지 않는 키는 TTL이 지나면 제거
+ *
+ * 같은 (id, updatedAt)이면 JSON이 같으므로 값이 오래되는 경우는 없고, TTL은 메모리 회수용입니다.
+ * updatedAt이 없는 엔티티는 버전을 구분할 수 없으므로 캐시하지 않고 매번 직렬화합니다.
+ */
+public class CaffeineStudyLogJsonCache implements StudyLogJsonCache {
+
+    private final Cache<Key, StudyLogJson> cache;
+    private final ObjectMapper objectMapper;
+    private final int gzipMinSize;
+
+    public CaffeineStudyLogJsonCache(ObjectMapper objectMapper, int gzipMinSize, long maximumSize, Duration ttl) {
+        this.objectMapper = objectMapper;
+        this.gzipMinSize = gzipMinSize;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(ttl)
+                .build();
+    }
+
+    @Override
+    public StudyLogJson get(StudyLog studyLog) {
+        if (studyLog.getId() == null || studyLog.getUpdatedAt() == null) {
+            return serialize(studyLog);
+        }
+        return cache.get(new Key(studyLog.getId(), studyLog.getUpdatedAt()), key -> serialize(studyLog));
+    }
+
+    private StudyLogJson serialize(StudyLog studyLog) {
+        return StudyLogJson.serialize(objectMapper, StudyLogResponse.from(studyLog), gzipMinSize);
+    }
+
+    private record Key(Long id, LocalDateTime updatedAt) {
+    }
+}
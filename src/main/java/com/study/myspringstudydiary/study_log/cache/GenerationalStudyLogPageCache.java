@@ -0,0 +1,106 @@
+package com.study.myspringstudydiary.study_log.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.myspringstudydiary.common.Page;
+import com.study.myspringstudydiary.study_log.entity.StudyLog;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 세대(generation) 카운터 기반 페이지 캐시
+ *
+ * 키 구조: study-log:page:{세대}:{조회 조건}
+ *
+ * - 쓰기가 발생하면 세대 카운터만 INCR → 이후 조회는 새 세대 키를 사용하므로
+ *   이전 세대의 키를 SCAN/DEL로 찾아 지울 필요가 없음 (이전 키는 TTL로 자연 소멸)
+ * - 세대 카운터가 공유 저장소에 있으므로 여러 인스턴스가 같은 무효화를 봄
+ *
+ * 장애 처리 (Graceful Degradation):
+ * - 저장소 호출이 실패하면 경고 로그를 남기고 DB(loader)로 바로 조회
+ * - 이후 retryInterval 동안은 저장소를 호출하지 않아 매 요청이 타임아웃을 기다리지 않음
+ * - 장애 중 놓친 무효화는 저장소가 복구된 뒤 첫 호출에서 세대를 한 번 더 올려 보정
+ */
+@Slf4j
+public class GenerationalStudyLogPageCache implements StudyLogPageCache {
+
+    static final String KEY_PREFIX = "study-log:page:";
+    static final String GENERATION_KEY = KEY_PREFIX + "generation";
+
+    private final SharedCacheStore store;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final StoreAvailability availability;
+
+    // 장애 중 세대 증가에 실패하여 복구 후 다시 올려야 하는지 여부
+    private volatile boolean pendingInvalidation = false;
+
+    public GenerationalStudyLogPageCache(SharedCacheStore store, ObjectMapper objectMapper,
+                                         Duration ttl, Duration retryInterval, Clock clock) {
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+        this.availability = new StoreAvailability("Page cache", retryInterval, clock);
+    }
+
+    @Override
+    public Page<StudyLog> get(String key, Supplier<Page<StudyLog>> loader) {
+        if (!availability.isAvailable()) {
+            return loader.get();
+        }
+
+        String cacheKey;
+        try {
+            flushPendingInvalidation();
+            String generation = store.get(GENERATION_KEY);
+            cacheKey = KEY_PREFIX + (generation != null ? generation : "0") + ":" + key;
+
+            String cached = store.get(cacheKey);
+            if (cached != null) {
+                return objectMapper.readValue(cached, CachedPage.class).toPage();
+            }
+        } catch (JsonProcessingException e) {
+            // 형식이 바뀐 이전 버전의 값 등 → 캐시를 무시하고 다시 조회
+            log.warn("Failed to read cached page, reloading: {}", e.getMessage());
+            return loader.get();
+        } catch (RuntimeException e) {
+            availability.markUnavailable(e);
+            return loader.get();
+        }
+
+        Page<StudyLog> page = loader.get();
+        try {
+            store.set(cacheKey, objectMapper.writeValueAsString(CachedPage.from(page)), ttl);
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to write cached page: {}", e.getMessage());
+        } catch (RuntimeException e) {
+            availability.markUnavailable(e);
+        }
+        return page;
+    }
+
+    @Override
+    public void invalidateAll() {
+        if (!availability.isAvailable()) {
+            pendingInvalidation = true;
+            return;
+        }
+        try {
+            store.increment(GENERATION_KEY);
+        } catch (RuntimeException e) {
+            pendingInvalidation = true;
+            availability.markUnavailable(e);
+        }
+    }
+
+    private void flushPendingInvalidation() {
+        if (pendingInvalidation) {
+            store.increment(GENERATION_KEY);
+            pendingInvalidation = false;
+        }
+        availability.markAvailable();
+    }
+}
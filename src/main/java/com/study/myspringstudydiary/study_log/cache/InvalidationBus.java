@@ -0,0 +1,13 @@
+package com.study.myspringstudydiary.study_log.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * 캐시 무효화 메시지를 모든 노드에 전달하는 채널 (Redis Pub/Sub 등)
+ */
+public interface InvalidationBus {
+
+    void publish(CacheInvalidationMessage message);
+
+    void subscribe(Consumer<CacheInvalidationMessage> listener);
+}
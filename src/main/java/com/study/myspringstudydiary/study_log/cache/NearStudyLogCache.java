@@ -0,0 +1,223 @@
+package com.study.myspringstudydiary.study_log.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.myspringstudydiary.study_log.entity.StudyLog;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 2계층 니어 캐시 (L1: 프로세스 내 Caffeine, L2: 공유 저장소)
+ *
+ * 조회: L1 → L2 → DB 순서로 찾고, 아래 계층에서 찾은 값은 위 계층에 적재
+ * 쓰기: 자신의 L1을 비우고 L2 항목을 톰스톤으로 덮어쓴 뒤 무효화 메시지를 발행
+ *       → 다른 노드는 메시지를 받는 즉시 자신의 L1에서 해당 항목을 제거
+ *
+ * L2 키 구조: study-log:entity:{세대}:{id}
+ * - L2 적재는 조회 시점에 본 값(없음 또는 톰스톤)이 그대로일 때만 저장 (setIfUnchanged)
+ *   → 다른 노드가 커밋 전 행을 읽는 동안 무효화가 일어나면 톰스톤이 바뀌어 오래된 행이 L2에 올라가지 않음
+ * - 전체 무효화(invalidateAll)는 세대 카운터를 올려 이전 세대의 L2 항목을 한 번에 버림
+ *
+ * L2 장애 시에는 L1 + DB만으로 동작하며, 장애 중 놓친 L2 무효화는 복구 후 첫 호출에서 세대를 올려 보정합니다.
+ * 무효화 메시지는 L2 상태와 관계없이 항상 발행을 시도하고, 메시지를 놓친 노드의 L1은 TTL로 보정됩니다.
+ *
+ * StudyLogResponse는 StudyLog에서 그대로 변환되므로 StudyLog만 캐시합니다.
+ */
+@Slf4j
+public class NearStudyLogCache implements StudyLogCache {
+
+    static final String KEY_PREFIX = "study-log:entity:";
+    static final String GENERATION_KEY = KEY_PREFIX + "generation";
+
+    // 무효화된 항목 표시 (JSON 객체는 '{'로 시작하므로 캐시 값과 구분됨)
+    static final String TOMBSTONE_PREFIX = "!invalidated:";
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final CaffeineStudyLogCache l1;
+    private final SharedCacheStore l2;
+    private final InvalidationBus invalidationBus;
+    private final ObjectMapper objectMapper;
+    private final Duration l2Ttl;
+    private final StoreAvailability availability;
+    private final Clock clock;
+
+    // 장애 중 L2 무효화에 실패하여 복구 후 세대를 올려야 하는지 여부
+    private volatile boolean pendingInvalidation = false;
+
+    // L2 통계 (L1 통계는 Caffeine이 집계)
+    private final LongAdder l2Hits = new LongAdder();
+    private final LongAdder l2Misses = new LongAdder();
+
+    // 수신한 무효화 메시지와 발행→수신 지연 시간 (노드 간 시계 오차만큼 오차가 있음)
+    private final LongAdder invalidationsReceived = new LongAdder();
+    private final LongAdder invalidationLagTotal = new LongAdder();
+    private final AtomicLong invalidationLagMax = new AtomicLong();
+
+    public NearStudyLogCache(CaffeineStudyLogCache l1, SharedCacheStore l2, InvalidationBus invalidationBus,
+                             ObjectMapper objectMapper, Duration l2Ttl, Duration retryInterval, Clock clock) {
+        this.l1 = l1;
+        this.l2 = l2;
+        this.invalidationBus = invalidationBus;
+        this.objectMapper = objectMapper;
+        this.l2Ttl = l2Ttl;
+        this.availability = new StoreAvailability("Near cache L2", retryInterval, clock);
+        this.clock = clock;
+
+        invalidationBus.subscribe(this::onInvalidation);
+    }
+
+    @Override
+    public Optional<StudyLog> get(Long id, Function<Long, Optional<StudyLog>> loader) {
+        // L1 미적중 시에만 L2 → DB 순서로 조회
+        return l1.get(id, key -> loadThroughL2(key, loader));
+    }
+
+    @Override
+    public void invalidate(Long id) {
+        l1.invalidate(id);
+        if (availability.isAvailable()) {
+            try {
+                flushPendingInvalidation();
+                // 삭제 대신 톰스톤으로 덮어써서, 무효화 전에 DB를 읽은 노드의 L2 적재가 실패하게 함
+                l2.set(entityKey(id), TOMBSTONE_PREFIX + UUID.randomUUID(), l2Ttl);
+            } catch (RuntimeException e) {
+                pendingInvalidation = true;
+                availability.markUnavailable(e);
+            }
+        } else {
+            pendingInvalidation = true;
+        }
+        publish(id);
+    }
+
+    @Override
+    public void invalidateAll() {
+        l1.invalidateAll();
+        if (availability.isAvailable()) {
+            try {
+                l2.increment(GENERATION_KEY);
+            } catch (RuntimeException e) {
+                pendingInvalidation = true;
+                availability.markUnavailable(e);
+            }
+        } else {
+            pendingInvalidation = true;
+        }
+        publish(null);
+    }
+
+    @Override
+    public StudyLogCacheStats stats() {
+        StudyLogCacheStats l1Stats = l1.stats();
+        long hits = l2Hits.sum();
+        long misses = l2Misses.sum();
+        long received = invalidationsReceived.sum();
+
+        return StudyLogCacheStats.builder()
+                .enabled(true)
+                .size(l1Stats.getSize())
+                .hitCount(l1Stats.getHitCount())
+                .missCount(l1Stats.getMissCount())
+                .hitRate(l1Stats.getHitRate())
+                .evictionCount(l1Stats.getEvictionCount())
+                .l2HitCount(hits)
+                .l2MissCount(misses)
+                .l2HitRate(hits + misses == 0 ? 1.0 : (double) hits / (hits + misses))
+                .invalidationsReceived(received)
+                .invalidationLagAvgMillis(received == 0 ? 0 : invalidationLagTotal.sum() / received)
+                .invalidationLagMaxMillis(invalidationLagMax.get())
+                .build();
+    }
+
+    private Optional<StudyLog> loadThroughL2(Long id, Function<Long, Optional<StudyLog>> loader) {
+        if (!availability.isAvailable()) {
+            return loader.apply(id);
+        }
+
+        String key;
+        String observed;
+        try {
+            flushPendingInvalidation();
+            key = entityKey(id);
+            observed = l2.get(key);
+        } catch (RuntimeException e) {
+            availability.markUnavailable(e);
+            return loader.apply(id);
+        }
+
+        if (observed != null && !observed.startsWith(TOMBSTONE_PREFIX)) {
+            try {
+                StudyLog cached = objectMapper.readValue(observed, StudyLog.class);
+                l2Hits.increment();
+                return Optional.of(cached);
+            } catch (JsonProcessingException e) {
+                // 형식이 바뀐 이전 버전의 값 등 → DB에서 다시 읽어 덮어씀
+                log.warn("Failed to read near cache L2 entry, reloading: {}", e.getMessage());
+            }
+        }
+        l2Misses.increment();
+
+        Optional<StudyLog> loaded = loader.apply(id);
+        loaded.ifPresent(studyLog -> storeInL2(key, observed, studyLog));
+        return loaded;
+    }
+
+    private void storeInL2(String key, String observed, StudyLog studyLog) {
+        try {
+            // 조회 이후 다른 노드가 무효화했다면(톰스톤이 바뀜) 읽은 행이 오래되었을 수 있으므로 저장하지 않음
+            l2.setIfUnchanged(key, observed, objectMapper.writeValueAsString(studyLog), l2Ttl);
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to write near cache L2 entry: {}", e.getMessage());
+        } catch (RuntimeException e) {
+            availability.markUnavailable(e);
+        }
+    }
+
+    private String entityKey(Long id) {
+        String generation = l2.get(GENERATION_KEY);
+        return KEY_PREFIX + (generation != null ? generation : "0") + ":" + id;
+    }
+
+    private void flushPendingInvalidation() {
+        if (pendingInvalidation) {
+            l2.increment(GENERATION_KEY);
+            pendingInvalidation = false;
+        }
+        availability.markAvailable();
+    }
+
+    private void publish(Long id) {
+        // L2 장애 중에도 발행 시도 (버스가 살아 있으면 다른 노드의 L1은 즉시 정리됨)
+        try {
+            invalidationBus.publish(new CacheInvalidationMessage(nodeId, id, clock.millis()));
+        } catch (RuntimeException e) {
+            log.warn("Failed to publish near cache invalidation (id: {}): {}", id, e.getMessage());
+        }
+    }
+
+    private void onInvalidation(CacheInvalidationMessage message) {
+        // 자신이 보낸 메시지는 이미 로컬에서 처리했으므로 무시
+        if (nodeId.equals(message.getNodeId())) {
+            return;
+        }
+
+        if (message.getId() == null) {
+            l1.invalidateAll();
+        } else {
+            l1.invalidate(message.getId());
+        }
+
+        long lag = Math.max(0, clock.millis() - message.getPublishedAt());
+        invalidationsReceived.increment();
+        invalidationLagTotal.add(lag);
+        invalidationLagMax.accumulateAndGet(lag, Math::max);
+    }
+}
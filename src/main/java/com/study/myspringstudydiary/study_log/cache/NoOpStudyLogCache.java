@@ -0,0 +1,30 @@
+package com.study.myspringstudydiary.study_log.cache;
+
+import com.study.myspringstudydiary.study_log.entity.StudyLog;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 캐시를 끈 경우 사용하는 구현체 (항상 loader로 조회)
+ */
+public class NoOpStudyLogCache implements StudyLogCache {
+
+    @Override
+    public Optional<StudyLog> get(Long id, Function<Long, Optional<StudyLog>> loader) {
+        return loader.apply(id);
+    }
+
+    @Override
+    public void invalidate(Long id) {
+    }
+
+    @Override
+    public void invalidateAll() {
+    }
+
+    @Override
+    public StudyLogCacheStats stats() {
+        return StudyLogCacheStats.disabled();
+    }
+}
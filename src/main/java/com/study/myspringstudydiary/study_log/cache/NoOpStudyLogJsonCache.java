@@ -0,0 +1,25 @@
+package com.study.myspringstudydiary.study_log.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.myspringstudydiary.study_log.dto.response.StudyLogJson;
+import com.study.myspringstudydiary.study_log.dto.response.StudyLogResponse;
+import com.study.myspringstudydiary.study_log.entity.StudyLog;
+
+/**
+ * 캐시를 끈 경우 사용하는 구현체 (매번 직렬화)
+ */
+public class NoOpStudyLogJsonCache implements StudyLogJsonCache {
+
+    private final ObjectMapper objectMapper;
+    private final int gzipMinSize;
+
+    public NoOpStudyLogJsonCache(ObjectMapper objectMapper, int gzipMinSize) {
+        this.objectMapper = objectMapper;
+        this.gzipMinSize = gzipMinSize;
+    }
+
+    @Override
+    public StudyLogJson get(StudyLog studyLog) {
+        return StudyLogJson.serialize(objectMapper, StudyLogResponse.from(studyLog), gzipMinSize);
+    }
+}
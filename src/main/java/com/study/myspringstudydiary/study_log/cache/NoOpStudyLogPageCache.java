@@ -0,0 +1,21 @@
+package com.study.myspringstudydiary.study_log.cache;
+
+import com.study.myspringstudydiary.common.Page;
+import com.study.myspringstudydiary.study_log.entity.StudyLog;
+
+import java.util.function.Supplier;
+
+/**
+ * 페이지 캐시를 끈 경우 사용하는 구현체 (항상 loader로 조회)
+ */
+public class NoOpStudyLogPageCache implements StudyLogPageCache {
+
+    @Override
+    public Page<StudyLog> get(String key, Supplier<Page<StudyLog>> loader) {
+        return loader.get();
+    }
+
+    @Override
+    public void invalidateAll() {
+    }
+}
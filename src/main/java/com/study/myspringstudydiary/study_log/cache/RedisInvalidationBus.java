@@ -0,0 +1,57 @@
+package com.study.myspringstudydiary.study_log.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * Redis Pub/Sub 기반 InvalidationBus
+ *
+ * PUBLISH는 구독 중인 모든 노드에 즉시 전달되며 저장되지 않습니다.
+ * 연결이 끊긴 동안 놓친 메시지는 L1 TTL이 지나면서 자연스럽게 보정됩니다.
+ */
+@Slf4j
+public class RedisInvalidationBus implements InvalidationBus {
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final ChannelTopic topic;
+
+    public RedisInvalidationBus(StringRedisTemplate redisTemplate,
+                                RedisMessageListenerContainer listenerContainer,
+                                ObjectMapper objectMapper,
+                                String channel) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.topic = new ChannelTopic(channel);
+    }
+
+    @Override
+    public void publish(CacheInvalidationMessage message) {
+        try {
+            redisTemplate.convertAndSend(topic.getTopic(), objectMapper.writeValueAsString(message));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidationMessage> listener) {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            try {
+                listener.accept(objectMapper.readValue(message.getBody(), CacheInvalidationMessage.class));
+            } catch (IOException e) {
+                log.warn("Ignoring malformed cache invalidation message: {}", e.getMessage());
+            }
+        }, topic);
+    }
+}
@@ -0,0 +1,58 @@
+package com.study.myspringstudydiary.study_log.cache;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Redis 기반 SharedCacheStore
+ * GET / SET EX / INCR / DEL 명령과, 비교 후 저장(setIfUnchanged)용 Lua 스크립트(GET + SET PX)만 사용합니다.
+ */
+public class RedisSharedCacheStore implements SharedCacheStore {
+
+    // ARGV[1]: 기대값 (빈 문자열이면 키가 없어야 함), ARGV[2]: 저장할 값, ARGV[3]: TTL (밀리초)
+    private static final RedisScript<Long> SET_IF_UNCHANGED = new DefaultRedisScript<>("""
+            local current = redis.call('GET', KEYS[1])
+            if (current == false and ARGV[1] == '') or current == ARGV[1] then
+              redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+              return 1
+            end
+            return 0""", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisSharedCacheStore(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public String get(String key) {
+        return redisTemplate.opsForValue().get(key);
+    }
+
+    @Override
+    public void set(String key, String value, Duration ttl) {
+        redisTemplate.opsForValue().set(key, value, ttl);
+    }
+
+    @Override
+    public boolean setIfUnchanged(String key, String expected, String value, Duration ttl) {
+        Long result = redisTemplate.execute(SET_IF_UNCHANGED, List.of(key),
+                expected != null ? expected : "", value, String.valueOf(ttl.toMillis()));
+        return result != null && result == 1L;
+    }
+
+    @Override
+    public long increment(String key) {
+        Long value = redisTemplate.opsForValue().increment(key);
+        return value != null ? value : 0;
+    }
+
+    @Override
+    public void delete(String key) {
+        redisTemplate.delete(key);
+    }
+}
@@ -0,0 +1,33 @@
+package com.study.myspringstudydiary.study_log.cache;
+
+import java.time.Duration;
+
+/**
+ * 여러 인스턴스가 공유하는 캐시 저장소 (Redis 등)
+ * 페이지 캐시와 니어 캐시의 L2로 사용됩니다.
+ *
+ * 여러 인스턴스가 같은 저장소를 바라보므로 한 인스턴스의 무효화가 전체에 반영됩니다.
+ * 구현체는 저장소 장애 시 예외를 그대로 던지고, 장애 처리는 호출하는 캐시가 담당합니다.
+ */
+public interface SharedCacheStore {
+
+    /** 값 조회 (없으면 null) */
+    String get(String key);
+
+    /** TTL과 함께 값 저장 */
+    void set(String key, String value, Duration ttl);
+
+    /**
+     * 현재 값이 expected와 같을 때만 TTL과 함께 값 저장 (비교와 저장은 원자적)
+     *
+     * @param expected 조회 시점에 본 값 (null이면 키가 없어야 저장)
+     * @return 저장했으면 true
+     */
+    boolean setIfUnchanged(String key, String expected, String value, Duration ttl);
+
+    /** 카운터를 원자적으로 1 증가시키고 증가된 값을 반환 (없으면 0에서 시작) */
+    long increment(String key);
+
+    /** 값 삭제 */
+    void delete(String key);
+}
@@ -0,0 +1,44 @@
+package com.study.myspringstudydiary.study_log.cache;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * 공유 저장소 장애 시 일정 시간 동안 호출을 건너뛰기 위한 상태
+ *
+ * 장애가 감지되면 retryInterval 동안 isAvailable()이 false를 반환하여
+ * 매 요청이 연결 타임아웃을 기다리지 않고 바로 DB로 우회하게 합니다.
+ */
+@Slf4j
+class StoreAvailability {
+
+    private final String name;
+    private final Duration retryInterval;
+    private final Clock clock;
+
+    // 저장소 호출을 다시 시도할 시각 (epoch millis, 0이면 정상)
+    private volatile long retryAt = 0;
+
+    StoreAvailability(String name, Duration retryInterval, Clock clock) {
+        this.name = name;
+        this.retryInterval = retryInterval;
+        this.clock = clock;
+    }
+
+    boolean isAvailable() {
+        return retryAt == 0 || clock.millis() >= retryAt;
+    }
+
+    void markAvailable() {
+        retryAt = 0;
+    }
+
+    void markUnavailable(RuntimeException e) {
+        if (retryAt == 0) {
+            log.warn("{} store unavailable, bypassing for {}: {}", name, retryInterval, e.getMessage());
+        }
+        retryAt = clock.millis() + retryInterval.toMillis();
+    }
+}
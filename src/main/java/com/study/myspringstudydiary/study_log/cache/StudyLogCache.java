@@ -0,0 +1,26 @@
+package com.study.myspringstudydiary.study_log.cache;
+
+import com.study.myspringstudydiary.study_log.entity.StudyLog;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 학습 일지 단건 조회(findById) 앞단의 엔티티 캐시
+ *
+ * - get: 캐시에 있으면 바로 반환하고, 없으면 loader(DAO)로 읽어 캐시에 적재 (Read-through)
+ * - invalidate / invalidateAll: 쓰기(수정, 삭제, 전체 삭제) 후 오래된 값 제거
+ *   (StudyLogCacheInvalidator가 DAO의 StudyLogChangedEvent를 받아 호출)
+ *
+ * 반환되는 StudyLog는 항상 복사본이므로 호출자가 수정해도 캐시 내용은 바뀌지 않습니다.
+ */
+public interface StudyLogCache {
+
+    Optional<StudyLog> get(Long id, Function<Long, Optional<StudyLog>> loader);
+
+    void invalidate(Long id);
+
+    void invalidateAll();
+
+    StudyLogCacheStats stats();
+}
@@ -0,0 +1,118 @@
+package com.study.myspringstudydiary.study_log.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.myspringstudydiary.study_log.dto.response.StudyLogJson;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * 엔티티 캐시 / 페이지 캐시 / 직렬화 응답 캐시 설정
+ *
+ * study-log.cache.enabled, study-log.page-cache.enabled 값으로 프로파일별로 켜고 끌 수 있습니다.
+ * (application-test.yml에서는 둘 다 false)
+ *
+ * study-log.cache.near.enabled가 true이면 엔티티 캐시를 L1(Caffeine) + L2(Redis) 니어 캐시로 구성하고
+ * Redis Pub/Sub으로 노드 간 무효화 메시지를 주고받습니다.
+ */
+@Slf4j
+@Configuration
+public class StudyLogCacheConfig {
+
+    @Bean
+    public StudyLogCache studyLogCache(
+            @Value("${study-log.cache.enabled:true}") boolean enabled,
+            @Value("${study-log.cache.maximum-size:10000}") long maximumSize,
+            @Value("${study-log.cache.ttl:10m}") Duration ttl,
+            @Value("${study-log.cache.near.enabled:false}") boolean nearEnabled,
+            @Value("${study-log.cache.near.l2-ttl:30m}") Duration l2Ttl,
+            @Value("${study-log.cache.near.channel:study-log:cache:invalidation}") String channel,
+            @Value("${study-log.cache.near.retry-interval:30s}") Duration retryInterval,
+            ObjectProvider<StringRedisTemplate> redisTemplate,
+            ObjectProvider<RedisMessageListenerContainer> listenerContainer,
+            ObjectMapper objectMapper) {
+
+        if (!enabled) {
+            log.info("StudyLog entity cache disabled");
+            return new NoOpStudyLogCache();
+        }
+
+        CaffeineStudyLogCache l1 = new CaffeineStudyLogCache(maximumSize, ttl);
+        StringRedisTemplate template = redisTemplate.getIfAvailable();
+        RedisMessageListenerContainer container = listenerContainer.getIfAvailable();
+        if (!nearEnabled || template == null || container == null) {
+            log.info("StudyLog entity cache enabled (maximumSize: {}, ttl: {})", maximumSize, ttl);
+            return l1;
+        }
+
+        log.info("StudyLog near cache enabled (L1 maximumSize: {}, L1 ttl: {}, L2 ttl: {}, channel: {})",
+                maximumSize, ttl, l2Ttl, channel);
+        return new NearStudyLogCache(l1, new RedisSharedCacheStore(template),
+                new RedisInvalidationBus(template, container, objectMapper, channel),
+                objectMapper, l2Ttl, retryInterval, Clock.systemUTC());
+    }
+
+    /**
+     * 니어 캐시 무효화 메시지 구독용 리스너 컨테이너 (니어 캐시 모드에서만 등록)
+     */
+    @Bean
+    @ConditionalOnProperty(name = "study-log.cache.near.enabled", havingValue = "true")
+    public RedisMessageListenerContainer studyLogCacheListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
+    @Bean
+    public StudyLogPageCache studyLogPageCache(
+            @Value("${study-log.page-cache.enabled:false}") boolean enabled,
+            @Value("${study-log.page-cache.ttl:5m}") Duration ttl,
+            @Value("${study-log.page-cache.retry-interval:30s}") Duration retryInterval,
+            ObjectProvider<StringRedisTemplate> redisTemplate,
+            ObjectMapper objectMapper) {
+
+        StringRedisTemplate template = redisTemplate.getIfAvailable();
+        if (!enabled || template == null) {
+            log.info("StudyLog page cache disabled");
+            return new NoOpStudyLogPageCache();
+        }
+
+        log.info("StudyLog page cache enabled on Redis (ttl: {})", ttl);
+        return new GenerationalStudyLogPageCache(new RedisSharedCacheStore(template), objectMapper,
+                ttl, retryInterval, Clock.systemUTC());
+    }
+
+    /**
+     * (id, updatedAt)별 응답 JSON 바이트 캐시
+     * gzip.enabled이면 gzip.min-size 이상인 본문은 gzip 변형을 처음 요청될 때 만들어 함께 보관
+     */
+    @Bean
+    public StudyLogJsonCache studyLogJsonCache(
+            @Value("${study-log.json-cache.enabled:true}") boolean enabled,
+            @Value("${study-log.json-cache.maximum-size:10000}") long maximumSize,
+            @Value("${study-log.json-cache.ttl:10m}") Duration ttl,
+            @Value("${study-log.json-cache.gzip.enabled:true}") boolean gzipEnabled,
+            @Value("${study-log.json-cache.gzip.min-size:1KB}") DataSize gzipMinSize,
+            ObjectMapper objectMapper) {
+
+        int minSize = gzipEnabled ? (int) gzipMinSize.toBytes() : StudyLogJson.NO_GZIP;
+        if (!enabled) {
+            log.info("StudyLog JSON cache disabled");
+            return new NoOpStudyLogJsonCache(objectMapper, minSize);
+        }
+
+        log.info("StudyLog JSON cache enabled (maximumSize: {}, ttl: {}, gzip min-size: {})",
+                maximumSize, ttl, gzipEnabled ? gzipMinSize : "off");
+        return new CaffeineStudyLogJsonCache(objectMapper, minSize, maximumSize, ttl);
+    }
+}
@@ -0,0 +1,48 @@
+package com.study.myspringstudydiary.study_log.cache;
+
+import com.study.myspringstudydiary.study_log.dao.StudyLogDao;
+import com.study.myspringstudydiary.study_log.entity.StudyLog;
+import com.study.myspringstudydiary.study_log.event.StudyLogChangedEvent;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * DAO가 발행하는 StudyLogChangedEvent로 엔티티 캐시 무효화
+ *
+ * - 수정/삭제: 변경 전 값의 id만 무효화 (새로 생성된 id는 캐시에 없으므로 무시)
+ * - 전체 삭제: 캐시 전체 무효화 (메모리 DAO는 시퀀스도 초기화하므로, 다시 쓰이는 id가
+ *   삭제된 일지의 캐시 값을 돌려주지 않도록 함)
+ * - 트랜잭션 안에서 발행된 이벤트는 커밋 후에만 반영 (커밋 전 값이 다시 적재되지 않도록)
+ *
+ * 서비스를 거치지 않은 쓰기(배치 저장, 전체 삭제 등)도 DAO 이벤트로 함께 무효화됩니다.
+ */
+@Component
+public class StudyLogCacheInvalidator {
+
+    private final StudyLogCache studyLogCache;
+    private final StudyLogDao studyLogDao;
+
+    public StudyLogCacheInvalidator(StudyLogCache studyLogCache, StudyLogDao studyLogDao) {
+        this.studyLogCache = studyLogCache;
+        this.studyLogDao = studyLogDao;
+    }
+
+    /**
+     * 주입받은 DAO가 아닌 다른 DAO 빈(예: 사용하지 않는 InMemory DAO)의 이벤트는 무시합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChanged(StudyLogChangedEvent event) {
+        if (event.getSource() != AopProxyUtils.getSingletonTarget(studyLogDao)
+                && event.getSource() != studyLogDao) {
+            return;
+        }
+        if (event.isCleared()) {
+            studyLogCache.invalidateAll();
+            return;
+        }
+        for (StudyLog removed : event.getRemoved()) {
+            studyLogCache.invalidate(removed.getId());
+        }
+    }
+}
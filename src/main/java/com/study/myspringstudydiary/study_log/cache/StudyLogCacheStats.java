@@ -0,0 +1,33 @@
+package com.study.myspringstudydiary.study_log.cache;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * 엔티티 캐시 통계 응답
+ *
+ * hit/miss/eviction은 L1(프로세스 내 캐시) 기준이며,
+ * l2*, invalidation* 항목은 니어 캐시 모드에서만 값이 채워집니다.
+ */
+@Value
+@Builder
+public class StudyLogCacheStats {
+
+    boolean enabled;
+    long size;
+    long hitCount;
+    long missCount;
+    double hitRate;
+    long evictionCount;
+
+    long l2HitCount;
+    long l2MissCount;
+    double l2HitRate;
+    long invalidationsReceived;
+    long invalidationLagAvgMillis;
+    long invalidationLagMaxMillis;
+
+    public static StudyLogCacheStats disabled() {
+        return StudyLogCacheStats.builder().enabled(false).build();
+    }
+}
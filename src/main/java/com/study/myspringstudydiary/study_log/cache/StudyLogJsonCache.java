@@ -0,0 +1,17 @@
+package com.study.myspringstudydiary.study_log.cache;
+
+import com.study.myspringstudydiary.study_log.dto.response.StudyLogJson;
+import com.study.myspringstudydiary.study_log.entity.StudyLog;
+
+/**
+ * 직렬화된 응답(UTF-8 JSON 바이트) 캐시
+ *
+ * 키는 (id, updatedAt)이므로 수정되면 새 키로 다시 만들어지고, 이전 버전은 쓰이지 않다가 만료됩니다.
+ * 따라서 쓰기 시점에 무효화할 필요가 없습니다.
+ *
+ * 전체 필드가 채워진 StudyLog만 전달해야 합니다. (일부 필드만 조회한 엔티티는 응답 모양이 다름)
+ */
+public interface StudyLogJsonCache {
+
+    StudyLogJson get(StudyLog studyLog);
+}
@@ -0,0 +1,19 @@
+package com.study.myspringstudydiary.study_log.cache;
+
+import com.study.myspringstudydiary.common.Page;
+import com.study.myspringstudydiary.study_log.entity.StudyLog;
+
+import java.util.function.Supplier;
+
+/**
+ * 페이징/검색 결과 캐시
+ *
+ * - get: 정규화된 조회 조건(key)으로 캐시를 찾고, 없으면 loader(DAO)로 조회 후 적재
+ * - invalidateAll: 학습 일지가 하나라도 바뀌면 호출하여 모든 페이지 결과를 무효화
+ */
+public interface StudyLogPageCache {
+
+    Page<StudyLog> get(String key, Supplier<Page<StudyLog>> loader);
+
+    void invalidateAll();
+}
@@ -2,11 +2,17 @@ package com.study.myspringstudydiary.study_log.controller;
 
 
 import com.study.myspringstudydiary.study_log.dto.response.ApiResponse;
+import com.study.myspringstudydiary.common.ExportFormat;
 import com.study.myspringstudydiary.common.Page;
+import com.study.myspringstudydiary.common.PagingMode;
+import com.study.myspringstudydiary.common.ResourceVersion;
 import com.study.myspringstudydiary.common.ValidationGroups;
+import com.study.myspringstudydiary.study_log.cache.StudyLogCacheStats;
+import com.study.myspringstudydiary.study_log.dao.StudyLogField;
 import com.study.myspringstudydiary.study_log.dto.request.StudyLogCreateRequest;
 import com.study.myspringstudydiary.study_log.dto.request.StudyLogRequest;
 import com.study.myspringstudydiary.study_log.dto.request.StudyLogUpdateRequest;
+import com.study.myspringstudydiary.study_log.dto.response.StudyLogJson;
 import com.study.myspringstudydiary.study_log.dto.response.StudyLogResponse;
 import com.study.myspringstudydiary.study_log.dto.response.StudyLogDeleteResponse;
 import com.study.myspringstudydiary.study_log.service.StudyLogService;
@@ -20,11 +26,17 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.validation.annotation.Validated;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.*;
 
@@ -32,6 +44,9 @@ import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 
 /**
  * 학습 일지 컨트롤러 with Lombok
@@ -181,6 +196,29 @@ public class StudyLogController {
                 .body(ApiResponse.success(response));
     }
 
+    /**
+     * 학습 일지 일괄 생성 (CREATE - Batch)
+     *
+     * 오프라인에서 작성된 여러 일지를 한 번의 요청으로 동기화할 때 사용합니다.
+     * 모든 항목을 검증한 뒤 하나라도 실패하면 항목 인덱스별 에러를 400으로 반환하고,
+     * 성공하면 배치 INSERT로 저장한 뒤 생성된 ID를 포함해 요청 순서대로 반환합니다.
+     *
+     * POST /api/v1/logs/batch
+     */
+    @Operation(summary = "학습 기록 일괄 생성", description = "여러 학습 기록을 한 번에 생성합니다. (최대 1000개)")
+    @PostMapping("/batch")
+    public ResponseEntity<ApiResponse<List<StudyLogResponse>>> createStudyLogs(
+            @RequestBody List<StudyLogCreateRequest> requests) {
+
+        log.info("POST /api/v1/logs/batch - Creating {} study logs", requests.size());
+
+        List<StudyLogResponse> responses = studyLogService.createStudyLogs(requests);
+
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(ApiResponse.success(responses));
+    }
+
     // ========== READ ==========
 
     /**
@@ -189,10 +227,12 @@ public class StudyLogController {
      * @GetMapping: GET 요청을 처리
      *
      * GET /api/v1/logs
+     * GET /api/v1/logs?fields=id,title,category,studyDate (필요한 필드만 조회)
      */
     @GetMapping
-    public List<StudyLogResponse> getAllStudyLogs() {
-        return studyLogService.getAllStudyLogs();
+    public List<StudyLogJson> getAllStudyLogs(
+            @RequestParam(required = false) String fields) {
+        return studyLogService.getAllStudyLogs(StudyLogField.parse(fields));
     }
 
     /**
@@ -202,12 +242,55 @@ public class StudyLogController {
      * @PathVariable: URL 경로의 {id} 값을 매개변수로 받음
      *
      * GET /api/v1/logs/{id}
+     * GET /api/v1/logs/{id} (If-None-Match 또는 If-Modified-Since 지정 시 변경이 없으면 304)
+     *
+     * 응답에는 ETag("{id}-{updatedAt}")와 Last-Modified가 포함됩니다.
+     * 본문은 (id, updatedAt)별로 캐시된 JSON 바이트이며, Accept-Encoding: gzip이면 미리 압축한 바이트를 보냅니다.
+     * (gzip 본문은 바이트가 다르므로 ETag 끝에 "-gzip"을 붙여 구분)
      */
+    @Operation(summary = "학습 기록 단건 조회")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = StudyLogResponse.class)
+                    )
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "304",
+                    description = "변경 없음 (If-None-Match / If-Modified-Since)"
+            )
+    })
     @GetMapping("/{id}")
-    public StudyLogResponse getStudyLogById(
-            @PathVariable @Positive(message = "ID는 양수여야 합니다") Long id) {
-
-        return studyLogService.getStudyLogById(id);
+    public ResponseEntity<byte[]> getStudyLogById(
+            @PathVariable @Positive(message = "ID는 양수여야 합니다") Long id,
+            HttpServletRequest request) {
+
+        // 1. 조건부 요청이면 updated_at만 조회해 비교 (같으면 본문을 읽지 않고 304)
+        if (hasConditionalHeaders(request)) {
+            Optional<ResourceVersion> current = studyLogService.getStudyLogVersion(id);
+            if (current.isPresent()) {
+                for (ResourceVersion candidate : List.of(current.get(), current.get().gzipVariant())) {
+                    if (isNotModified(request, candidate)) {
+                        return notModified(candidate);
+                    }
+                }
+            }
+        }
+
+        // 2. 본문 조회 후, 실제로 읽은 본문의 수정 시각으로 버전 헤더 설정
+        StudyLogJson json = studyLogService.getStudyLogJsonById(id);
+        ResourceVersion version = json.getUpdatedAt() != null ? ResourceVersion.of(id, json.getUpdatedAt()) : null;
+
+        byte[] gzipped = json.getGzipped();
+        if (gzipped != null && acceptsGzip(request)) {
+            return jsonBody(version != null ? versioned(version.gzipVariant()) : ResponseEntity.ok())
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .body(gzipped);
+        }
+        return jsonBody(version != null ? versioned(version) : ResponseEntity.ok()).body(json.getJson());
     }
 
     /**
@@ -216,13 +299,15 @@ public class StudyLogController {
      * GET /api/v1/logs/date/{date}
      *
      * @param date 조회할 날짜 (yyyy-MM-dd 형식)
+     * @param fields 조회할 필드 (선택, 콤마 구분)
      * @return 해당 날짜의 학습 일지 리스트
      */
     @GetMapping("/date/{date}")
-    public List<StudyLogResponse> getStudyLogsByDate(
-            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+    public List<StudyLogJson> getStudyLogsByDate(
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) String fields) {
 
-        return studyLogService.getStudyLogsByDate(date);
+        return studyLogService.getStudyLogsByDate(date, StudyLogField.parse(fields));
     }
 
     /**
@@ -231,13 +316,15 @@ public class StudyLogController {
      * GET /api/v1/logs/category/{category}
      *
      * @param category 조회할 카테고리 (SPRING, DATABASE, JAVA, WEB, ALGORITHM, ETC)
+     * @param fields 조회할 필드 (선택, 콤마 구분)
      * @return 해당 카테고리의 학습 일지 리스트
      */
     @GetMapping("/category/{category}")
-    public List<StudyLogResponse> getStudyLogsByCategory(
-            @PathVariable String category) {
+    public List<StudyLogJson> getStudyLogsByCategory(
+            @PathVariable String category,
+            @RequestParam(required = false) String fields) {
 
-        return studyLogService.getStudyLogsByCategoryString(category);
+        return studyLogService.getStudyLogsByCategoryString(category, StudyLogField.parse(fields));
     }
 
     /**
@@ -245,11 +332,13 @@ public class StudyLogController {
      *
      * GET /api/v1/logs/today
      *
+     * @param fields 조회할 필드 (선택, 콤마 구분)
      * @return 오늘 작성된 학습 일지 리스트
      */
     @GetMapping("/today")
-    public List<StudyLogResponse> getTodayStudyLogs() {
-        return studyLogService.getStudyLogsByDate(LocalDate.now());
+    public List<StudyLogJson> getTodayStudyLogs(
+            @RequestParam(required = false) String fields) {
+        return studyLogService.getStudyLogsByDate(LocalDate.now(), StudyLogField.parse(fields));
     }
 
     // ========== PAGING ==========
@@ -259,17 +348,34 @@ public class StudyLogController {
      *
      * GET /api/v1/logs/page?page=0&size=10
      * GET /api/v1/logs/page (기본값: page=0, size=10)
+     * GET /api/v1/logs/page?after={nextCursor}&size=10 (커서 방식, page는 무시됨)
+     * GET /api/v1/logs/page?page=0&size=10&mode=slice (전체 개수 생략)
      *
      * @param page 페이지 번호 (0-based, 기본값: 0)
      * @param size 페이지 크기 (기본값: 10, 최대: 100)
+     * @param after 이전 응답의 nextCursor (선택)
+     * @param mode total(기본값, 전체 개수 포함) 또는 slice(전체 개수 생략, hasNext만 제공)
+     * @param fields 조회할 필드 (선택, 예: id,title,category,studyDate)
      * @return 페이징된 학습 일지
      */
     @GetMapping("/page")
-    public Page<StudyLogResponse> getStudyLogsPage(
+    public ResponseEntity<Page<StudyLogJson>> getStudyLogsPage(
             @RequestParam(defaultValue = "0") @Min(value = 0, message = "페이지 번호는 0 이상이어야 합니다") int page,
             @RequestParam(defaultValue = "10") @Min(value = 1, message = "페이지 크기는 1 이상이어야 합니다")
-            @Max(value = 100, message = "페이지 크기는 100 이하여야 합니다") int size) {
-        return studyLogService.getStudyLogsWithPaging(page, size);
+            @Max(value = 100, message = "페이지 크기는 100 이하여야 합니다") int size,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "total") String mode,
+            @RequestParam(required = false) String fields,
+            HttpServletRequest request) {
+
+        PagingMode pagingMode = PagingMode.from(mode);
+        Set<StudyLogField> fieldSet = StudyLogField.parse(fields);
+
+        ResourceVersion version = studyLogService.getStudyLogsVersion(
+                null, null, null, null, representationKey(request));
+        return pageResponse(request, version, () -> after != null
+                ? studyLogService.getStudyLogsAfter(after, size, pagingMode, fieldSet)
+                : studyLogService.getStudyLogsWithPaging(page, size, pagingMode, fieldSet));
     }
 
     /**
@@ -280,15 +386,26 @@ public class StudyLogController {
      * @param category 카테고리
      * @param page 페이지 번호
      * @param size 페이지 크기
+     * @param mode 페이징 모드 (total 또는 slice)
+     * @param fields 조회할 필드 (선택, 콤마 구분)
      * @return 페이징된 학습 일지
      */
     @GetMapping("/category/{category}/page")
-    public Page<StudyLogResponse> getStudyLogsByCategoryPage(
+    public ResponseEntity<Page<StudyLogJson>> getStudyLogsByCategoryPage(
             @PathVariable String category,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-
-        return studyLogService.getStudyLogsByCategoryWithPaging(category, page, size);
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "total") String mode,
+            @RequestParam(required = false) String fields,
+            HttpServletRequest request) {
+
+        PagingMode pagingMode = PagingMode.from(mode);
+        Set<StudyLogField> fieldSet = StudyLogField.parse(fields);
+
+        ResourceVersion version = studyLogService.getStudyLogsVersion(
+                null, category, null, null, representationKey(request));
+        return pageResponse(request, version, () -> studyLogService.getStudyLogsByCategoryWithPaging(
+                category, page, size, pagingMode, fieldSet));
     }
 
 
@@ -298,6 +415,7 @@ public class StudyLogController {
      * GET /api/v1/logs/search?title=Spring&category=SPRING
      *     &startDate=2026-01-01&endDate=2026-12-31
      *     &page=0&size=10
+     * GET /api/v1/logs/search?category=SPRING&after={nextCursor}&size=10
      *
      * @param title 제목 키워드 (선택)
      * @param category 카테고리 (선택)
@@ -305,10 +423,13 @@ public class StudyLogController {
      * @param endDate 종료 날짜 (선택)
      * @param page 페이지 번호
      * @param size 페이지 크기
+     * @param after 이전 응답의 nextCursor (선택, 지정 시 커서 방식으로 조회)
+     * @param mode 페이징 모드 (total 또는 slice)
+     * @param fields 조회할 필드 (선택, 콤마 구분)
      * @return 페이징된 검색 결과
      */
     @GetMapping("/search")
-    public Page<StudyLogResponse> searchStudyLogs(
+    public ResponseEntity<Page<StudyLogJson>> searchStudyLogs(
             @RequestParam(required = false) String title,
             @RequestParam(required = false) String category,
             @RequestParam(required = false)
@@ -316,10 +437,22 @@ public class StudyLogController {
             @RequestParam(required = false)
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-
-        return studyLogService.searchStudyLogsWithPaging(
-                title, category, startDate, endDate, page, size);
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "total") String mode,
+            @RequestParam(required = false) String fields,
+            HttpServletRequest request) {
+
+        PagingMode pagingMode = PagingMode.from(mode);
+        Set<StudyLogField> fieldSet = StudyLogField.parse(fields);
+
+        ResourceVersion version = studyLogService.getStudyLogsVersion(
+                title, category, startDate, endDate, representationKey(request));
+        return pageResponse(request, version, () -> after != null
+                ? studyLogService.searchStudyLogsAfter(
+                        title, category, startDate, endDate, after, size, pagingMode, fieldSet)
+                : studyLogService.searchStudyLogsWithPaging(
+                        title, category, startDate, endDate, page, size, pagingMode, fieldSet));
     }
 
     /**
@@ -343,6 +476,59 @@ public class StudyLogController {
         return response;
     }
 
+    // ========== CACHE ==========
+
+    /**
+     * 엔티티 캐시 통계 조회
+     *
+     * GET /api/v1/logs/cache/stats
+     */
+    @Operation(summary = "엔티티 캐시 통계", description = "단건 조회 캐시의 적중/미적중/제거 횟수를 조회합니다.")
+    @GetMapping("/cache/stats")
+    public ApiResponse<StudyLogCacheStats> getCacheStats() {
+        return ApiResponse.success(studyLogService.getCacheStats());
+    }
+
+    // ========== EXPORT ==========
+
+    /**
+     * 학습 일지 스트리밍 내보내기 (NDJSON / CSV)
+     *
+     * 목록을 메모리에 모으지 않고 DB 커서에서 읽은 행을 바로 응답으로 씁니다.
+     * 검색 조건은 /search와 동일합니다.
+     *
+     * GET /api/v1/logs/export?format=ndjson
+     * GET /api/v1/logs/export?format=csv&category=SPRING&fields=id,title,studyDate
+     *
+     * @param format ndjson(기본값) 또는 csv
+     * @param fields 내보낼 필드 (선택, 콤마 구분)
+     */
+    @Operation(summary = "학습 기록 내보내기", description = "검색 조건에 맞는 학습 기록을 NDJSON 또는 CSV로 스트리밍합니다.")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportStudyLogs(
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) String fields) {
+
+        // 스트리밍이 시작되면 상태 코드를 바꿀 수 없으므로 파라미터 검증을 먼저 수행
+        ExportFormat exportFormat = ExportFormat.from(format);
+        Set<StudyLogField> fieldSet = StudyLogField.parse(fields);
+
+        log.info("GET /api/v1/logs/export - format: {}, category: {}", exportFormat, category);
+
+        StreamingResponseBody body = out -> studyLogService.exportStudyLogs(
+                title, category, startDate, endDate, exportFormat, fieldSet, out);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"study-logs." + exportFormat.getExtension() + "\"")
+                .body(body);
+    }
+
     // ========== UPDATE ==========
 
     /**
@@ -388,6 +574,92 @@ public class StudyLogController {
         return ResponseEntity.ok(studyLogService.createStudyLog(request));
     }
 
+    // ========== PRIVATE METHODS ==========
+
+    private static boolean hasConditionalHeaders(HttpServletRequest request) {
+        return request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                || request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
+    }
+
+    /**
+     * If-None-Match / If-Modified-Since를 현재 버전과 비교
+     * 응답 없이 만든 ServletWebRequest로 비교만 하므로 응답 헤더는 바뀌지 않음
+     * (200 응답의 헤더는 versioned()로 따로 설정)
+     */
+    private static boolean isNotModified(HttpServletRequest request, ResourceVersion version) {
+        return new ServletWebRequest(request).checkNotModified(version.eTag(), version.lastModified());
+    }
+
+    /**
+     * 페이지 응답: 페이지를 읽기 전에 조회한 목록 버전으로 304 여부와 ETag를 결정
+     * - If-None-Match가 있고 버전이 같으면 페이지를 읽지 않고 304
+     * - 200이면 같은 버전을 ETag로 사용 (읽는 도중 쓰기가 끼어들면 본문이 ETag보다 새로울 뿐이라
+     *   다음 재검증에서 버전이 달라 200으로 다시 받음, 이전 본문이 304로 재사용되지는 않음)
+     * 목록은 Last-Modified를 쓰지 않으므로 If-Modified-Since는 비교하지 않음
+     */
+    private static ResponseEntity<Page<StudyLogJson>> pageResponse(HttpServletRequest request,
+                                                                   ResourceVersion version,
+                                                                   Supplier<Page<StudyLogJson>> loader) {
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null && isNotModified(request, version)) {
+            return notModified(version);
+        }
+        return versioned(version).body(loader.get());
+    }
+
+    /**
+     * 같은 데이터라도 응답 모양을 바꾸는 요청 조건 (경로 + 쿼리 문자열: 페이지, 크기, 커서, 필드 등)
+     */
+    private static String representationKey(HttpServletRequest request) {
+        String query = request.getQueryString();
+        return query != null ? request.getRequestURI() + "?" + query : request.getRequestURI();
+    }
+
+    /**
+     * Accept-Encoding에 gzip이 있는지 확인 (q=0으로 명시적으로 거부한 경우는 제외)
+     */
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].trim().matches("q\\s*=\\s*0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 미리 직렬화한 JSON 바이트 응답 헤더 (압축 여부에 따라 본문이 달라지므로 Vary 지정)
+     */
+    private static ResponseEntity.BodyBuilder jsonBody(ResponseEntity.BodyBuilder builder) {
+        return builder.contentType(MediaType.APPLICATION_JSON)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+    }
+
+    private static <T> ResponseEntity<T> notModified(ResourceVersion version) {
+        return withVersionHeaders(ResponseEntity.status(HttpStatus.NOT_MODIFIED), version).build();
+    }
+
+    private static ResponseEntity.BodyBuilder versioned(ResourceVersion version) {
+        return withVersionHeaders(ResponseEntity.ok(), version);
+    }
+
+    /**
+     * ETag, Last-Modified(있을 때만)와 함께 no-cache 설정
+     * (no-cache: 클라이언트가 저장은 하되 사용할 때마다 ETag로 재검증)
+     */
+    private static ResponseEntity.BodyBuilder withVersionHeaders(ResponseEntity.BodyBuilder builder,
+                                                                 ResourceVersion version) {
+        builder.eTag(version.eTag()).cacheControl(CacheControl.noCache());
+        if (version.lastModified() >= 0) {
+            builder.lastModified(version.lastModified());
+        }
+        return builder;
+    }
+
 
 
 }
\ No newline at end of file
@@ -0,0 +1,92 @@
+package com.study.myspringstudydiary.study_log.controller;
+
+import com.study.myspringstudydiary.study_log.dto.response.ApiResponse;
+import com.study.myspringstudydiary.study_log.dto.response.StudyLogStatsResponse;
+import com.study.myspringstudydiary.study_log.dto.response.StudyLogSummaryResponse;
+import com.study.myspringstudydiary.study_log.service.StudyLogService;
+import com.study.myspringstudydiary.study_log.service.StudyLogStatsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 학습 통계 컨트롤러
+ *
+ * 전체 요약(/stats)은 인메모리 카운터만, 기간별 통계는 일별 롤업 테이블만 읽으므로
+ * 카테고리 수만큼 /category/{category}/count를 호출하는 대신
+ * 한 번의 요청으로 대시보드 데이터를 가져올 수 있습니다.
+ */
+@Tag(name = "학습 통계", description = "전체 요약 / 카테고리별 / 주별 / 월별 학습 통계 API")
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/logs/stats")
+public class StudyLogStatsController {
+
+    private final StudyLogStatsService studyLogStatsService;
+    private final StudyLogService studyLogService;
+
+    /**
+     * 전체 요약 (인메모리 카운터)
+     *
+     * GET /api/v1/logs/stats
+     */
+    @Operation(summary = "전체 학습 요약", description = "전체 학습 수, 학습 시간, 카테고리별 / 이해도별 개수를 DB 조회 없이 반환합니다.")
+    @GetMapping
+    public ApiResponse<StudyLogSummaryResponse> getSummary() {
+        return ApiResponse.success(studyLogService.getStudyLogSummary());
+    }
+
+    /**
+     * 카테고리별 합계
+     *
+     * GET /api/v1/logs/stats/categories?startDate=2026-01-01&endDate=2026-01-31
+     */
+    @Operation(summary = "카테고리별 통계", description = "기간 내 카테고리별 학습 수, 학습 시간, 이해도 분포를 조회합니다.")
+    @GetMapping("/categories")
+    public ApiResponse<List<StudyLogStatsResponse>> getCategoryStats(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+
+        return ApiResponse.success(studyLogStatsService.getCategoryStats(startDate, endDate));
+    }
+
+    /**
+     * 주별 합계 (월요일 시작)
+     *
+     * GET /api/v1/logs/stats/weekly?startDate=2026-01-01&category=SPRING
+     */
+    @Operation(summary = "주별 통계", description = "기간 내 주별(월요일 시작) 학습 수, 학습 시간, 이해도 분포를 조회합니다.")
+    @GetMapping("/weekly")
+    public ApiResponse<List<StudyLogStatsResponse>> getWeeklyStats(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String category) {
+
+        return ApiResponse.success(studyLogStatsService.getWeeklyStats(startDate, endDate, category));
+    }
+
+    /**
+     * 월별 합계
+     *
+     * GET /api/v1/logs/stats/monthly?startDate=2026-01-01&endDate=2026-12-31
+     */
+    @Operation(summary = "월별 통계", description = "기간 내 월별 학습 수, 학습 시간, 이해도 분포를 조회합니다.")
+    @GetMapping("/monthly")
+    public ApiResponse<List<StudyLogStatsResponse>> getMonthlyStats(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String category) {
+
+        return ApiResponse.success(studyLogStatsService.getMonthlyStats(startDate, endDate, category));
+    }
+}
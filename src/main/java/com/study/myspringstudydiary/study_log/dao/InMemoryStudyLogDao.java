@@ -1,15 +1,24 @@
 package com.study.myspringstudydiary.study_log.dao;
 
 import com.study.myspringstudydiary.common.Page;
+import com.study.myspringstudydiary.common.PagingMode;
+import com.study.myspringstudydiary.study_log.entity.Category;
 import com.study.myspringstudydiary.study_log.entity.StudyLog;
+import com.study.myspringstudydiary.study_log.event.StudyLogChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Repository;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.stream.Collectors;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 
 /**
  * StudyLogDao의 메모리 기반 구현체 (In-Memory Implementation)
@@ -37,159 +46,314 @@ import java.util.stream.Collectors;
 @Repository
 public class InMemoryStudyLogDao implements StudyLogDao {
 
-    // 데이터 저장소 (실제 DB 대신 Map 사용)
-    private final Map<Long, StudyLog> database = new HashMap<>();
+    /*
+     * 인덱스 구조
+     * - primary       : id 내림차순 정렬 (최신 순) → 전체 조회/페이징을 정렬 없이 순회
+     * - categoryIndex : Category별 id 내림차순 집합
+     * - dateIndex     : studyDate 오름차순 → 날짜 범위 검색 시 subMap()으로 범위 스캔
+     *
+     * 읽기는 ConcurrentSkipList 계열의 약한 일관성(weakly consistent) 순회로 락 없이 수행하고,
+     * 쓰기는 writeLock으로 직렬화하여 primary와 보조 인덱스가 항상 함께 갱신되도록 합니다.
+     *
+     * 저장소에는 방어적 복사본을 보관합니다.
+     * Service가 조회한 엔티티를 직접 수정한 뒤 update()를 호출하므로,
+     * 원본을 그대로 보관하면 보조 인덱스의 이전 키(카테고리/날짜)를 알 수 없게 됩니다.
+     */
+    private final ConcurrentSkipListMap<Long, StudyLog> primary =
+            new ConcurrentSkipListMap<>(Comparator.reverseOrder());
+
+    private final Map<Category, ConcurrentSkipListSet<Long>> categoryIndex = new EnumMap<>(Category.class);
+
+    private final ConcurrentSkipListMap<LocalDate, ConcurrentSkipListSet<Long>> dateIndex =
+            new ConcurrentSkipListMap<>();
+
+    // ConcurrentSkipListMap.size()는 O(n)이므로 개수는 별도로 관리
+    private final AtomicLong totalCount = new AtomicLong();
+    private final Map<Category, AtomicLong> categoryCounts = new EnumMap<>(Category.class);
+
+    // 마지막 쓰기 시각 (쓰기마다 반드시 증가, 목록 버전용)
+    private volatile LocalDateTime lastWriteAt = LocalDateTime.now();
+
+    // 쓰기 작업 직렬화용 락
+    private final ReentrantLock writeLock = new ReentrantLock();
 
     // ID 자동 증가를 위한 시퀀스
     private final AtomicLong sequence = new AtomicLong(1);
 
+    // 쓰기 후 StudyLogChangedEvent 발행 (직접 생성한 경우에는 발행하지 않음)
+    private final ApplicationEventPublisher eventPublisher;
+
+    public InMemoryStudyLogDao() {
+        this(event -> { });
+    }
+
+    @Autowired
+    public InMemoryStudyLogDao(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+        // EnumMap은 생성 시점에 모든 키를 채워두고 이후에는 읽기 전용으로만 사용
+        for (Category category : Category.values()) {
+            categoryIndex.put(category, new ConcurrentSkipListSet<>(Comparator.reverseOrder()));
+            categoryCounts.put(category, new AtomicLong());
+        }
+    }
+
     // ========== CREATE ==========
 
     @Override
     public StudyLog save(StudyLog studyLog) {
-        // ID가 없으면 새로운 ID 부여
-        if (studyLog.getId() == null) {
-            studyLog.setId(sequence.getAndIncrement());
+        writeLock.lock();
+        try {
+            // ID가 없으면 새로운 ID 부여
+            if (studyLog.getId() == null) {
+                studyLog.setId(sequence.getAndIncrement());
+            }
+
+            StudyLog previous = primary.put(studyLog.getId(), copyOf(studyLog));
+            if (previous != null) {
+                unindex(previous);
+            }
+            index(studyLog);
+
+            eventPublisher.publishEvent(previous != null
+                    ? StudyLogChangedEvent.updated(this, previous, studyLog)
+                    : StudyLogChangedEvent.created(this, List.of(studyLog)));
+            return studyLog;
+        } finally {
+            writeLock.unlock();
         }
+    }
 
-        // Map에 저장
-        database.put(studyLog.getId(), studyLog);
-
-        return studyLog;
+    @Override
+    public List<StudyLog> saveAll(List<StudyLog> studyLogs) {
+        // 락을 한 번만 잡고 전체를 저장하여 배치 도중 다른 쓰기가 끼어들지 않도록 함
+        writeLock.lock();
+        try {
+            List<StudyLog> replaced = new ArrayList<>();
+            for (StudyLog studyLog : studyLogs) {
+                if (studyLog.getId() == null) {
+                    studyLog.setId(sequence.getAndIncrement());
+                }
+
+                StudyLog previous = primary.put(studyLog.getId(), copyOf(studyLog));
+                if (previous != null) {
+                    unindex(previous);
+                    replaced.add(previous);
+                }
+                index(studyLog);
+            }
+
+            eventPublisher.publishEvent(StudyLogChangedEvent.changed(this, replaced, studyLogs));
+            return studyLogs;
+        } finally {
+            writeLock.unlock();
+        }
     }
 
     // ========== READ ==========
 
     @Override
     public Optional<StudyLog> findById(Long id) {
-        // Map에서 ID로 조회하고 Optional로 감싸서 반환
-        return Optional.ofNullable(database.get(id));
+        // 저장소의 복사본을 반환하여 호출자의 수정이 인덱스에 영향을 주지 않도록 함
+        return Optional.ofNullable(primary.get(id)).map(InMemoryStudyLogDao::copyOf);
     }
 
     @Override
-    public List<StudyLog> findAll() {
-        // Map의 모든 값을 리스트로 변환하여 반환
-        // 최신 순으로 정렬
-        return database.values().stream()
-                .sorted((a, b) -> b.getId().compareTo(a.getId()))
-                .collect(Collectors.toList());
+    public List<StudyLog> findAll(Set<StudyLogField> fields) {
+        // primary가 이미 최신 순으로 정렬되어 있으므로 순회만 하면 됨
+        return copyAll(primary.values(), fields);
     }
 
     @Override
-    public List<StudyLog> findByCategory(String category) {
-        return database.values().stream()
-                .filter(log -> log.getCategory().name().equals(category))
-                .sorted((a, b) -> b.getId().compareTo(a.getId()))
-                .collect(Collectors.toList());
+    public List<StudyLog> findByCategory(String category, Set<StudyLogField> fields) {
+        ConcurrentSkipListSet<Long> ids = categoryIds(category);
+        if (ids == null) {
+            return new ArrayList<>();
+        }
+        return resolve(ids, 0, Integer.MAX_VALUE, fields);
     }
 
 
     @Override
-    public List<StudyLog> findByStudyDate(LocalDate date) {
-        return database.values().stream()
-                .filter(log -> log.getStudyDate().equals(date))
-                .sorted((a, b) -> b.getId().compareTo(a.getId()))
-                .collect(Collectors.toList());
+    public List<StudyLog> findByStudyDate(LocalDate date, Set<StudyLogField> fields) {
+        ConcurrentSkipListSet<Long> ids = dateIndex.get(date);
+        if (ids == null) {
+            return new ArrayList<>();
+        }
+        return resolve(ids, 0, Integer.MAX_VALUE, fields);
     }
 
     @Override
     public boolean existsById(Long id) {
-        return database.containsKey(id);
+        return primary.containsKey(id);
     }
 
     @Override
     public long count() {
-        return database.size();
+        return totalCount.get();
     }
 
     @Override
     public long countByCategory(String category) {
-        return database.values().stream()
-                .filter(log -> log.getCategory().name().equals(category))
-                .count();
+        Category key = toCategory(category);
+        return key == null ? 0 : categoryCounts.get(key).get();
     }
 
-    // ========== PAGING ==========
+    // ========== VERSION ==========
 
     @Override
-    public Page<StudyLog> findAllWithPaging(int page, int size) {
-        List<StudyLog> allLogs = new ArrayList<>(database.values());
-        allLogs.sort((a, b) -> b.getId().compareTo(a.getId()));
+    public Optional<LocalDateTime> findUpdatedAtById(Long id) {
+        return Optional.ofNullable(primary.get(id)).map(StudyLog::getUpdatedAt);
+    }
 
-        int totalElements = allLogs.size();
-        int fromIndex = page * size;
-        int toIndex = Math.min(fromIndex + size, totalElements);
+    /**
+     * 검색 조건과 관계없이 저장소 전체의 버전 (전체 개수 + 마지막 쓰기 시각)
+     * 조건에 맞는 행을 세지 않아 O(1)이며, 어떤 쓰기든 버전이 바뀌므로
+     * 관련 없는 쓰기에도 304 대신 200이 나갈 수는 있지만 이전 목록이 304로 재사용되지는 않습니다.
+     */
+    @Override
+    public StudyLogVersion findVersion(String titleKeyword, String category,
+                                      LocalDate startDate, LocalDate endDate) {
+        return new StudyLogVersion(totalCount.get(), lastWriteAt);
+    }
 
-        if (fromIndex >= totalElements) {
-            return new Page<>(new ArrayList<>(), page, size, totalElements);
-        }
+    // ========== PAGING ==========
+    // 개수는 카운터로 O(1) 조회되므로 TOTAL 모드도 추가 비용이 없고,
+    // 검색(SLICE 모드)은 size + 1건을 찾는 즉시 순회를 멈춥니다.
 
-        List<StudyLog> content = allLogs.subList(fromIndex, toIndex);
-        return new Page<>(content, page, size, totalElements);
+    @Override
+    public Page<StudyLog> findAllWithPaging(int page, int size, PagingMode mode, Set<StudyLogField> fields) {
+        List<StudyLog> rows = resolve(primary.keySet(), (long) page * size, size + 1, fields);
+        Long totalElements = mode == PagingMode.TOTAL ? totalCount.get() : null;
+        return offsetPage(rows, page, size, totalElements);
     }
 
     @Override
-    public Page<StudyLog> findByCategoryWithPaging(String category, int page, int size) {
-        List<StudyLog> categoryLogs = database.values().stream()
-                .filter(log -> log.getCategory().name().equals(category))
-                .sorted((a, b) -> b.getId().compareTo(a.getId()))
-                .collect(Collectors.toList());
-
-        int totalElements = categoryLogs.size();
-        int fromIndex = page * size;
-        int toIndex = Math.min(fromIndex + size, totalElements);
-
-        if (fromIndex >= totalElements) {
-            return new Page<>(new ArrayList<>(), page, size, totalElements);
+    public Page<StudyLog> findByCategoryWithPaging(String category, int page, int size,
+                                                   PagingMode mode, Set<StudyLogField> fields) {
+        Category key = toCategory(category);
+        if (key == null) {
+            return offsetPage(new ArrayList<>(), page, size, mode == PagingMode.TOTAL ? 0L : null);
         }
 
-        List<StudyLog> content = categoryLogs.subList(fromIndex, toIndex);
-        return new Page<>(content, page, size, totalElements);
+        List<StudyLog> rows = resolve(categoryIndex.get(key), (long) page * size, size + 1, fields);
+        Long totalElements = mode == PagingMode.TOTAL ? categoryCounts.get(key).get() : null;
+        return offsetPage(rows, page, size, totalElements);
     }
 
     @Override
     public Page<StudyLog> searchWithPaging(String titleKeyword, String category,
                                           LocalDate startDate, LocalDate endDate,
-                                          int page, int size) {
-        List<StudyLog> filteredLogs = database.values().stream()
-                .filter(log -> {
-                    boolean matches = true;
+                                          int page, int size, PagingMode mode,
+                                          Set<StudyLogField> fields) {
+        boolean withTotal = mode == PagingMode.TOTAL;
+        boolean hasCategory = category != null && !category.isBlank();
+        Category categoryKey = hasCategory ? toCategory(category) : null;
+
+        // 존재하지 않는 카테고리는 결과가 없음
+        if (hasCategory && categoryKey == null) {
+            return offsetPage(new ArrayList<>(), page, size, withTotal ? 0L : null);
+        }
 
-                    // 제목 키워드 필터
-                    if (titleKeyword != null && !titleKeyword.isBlank()) {
-                        matches = log.getTitle().contains(titleKeyword);
-                    }
+        // 1단계: 인덱스로 후보 id 선택
+        Iterable<Long> candidates = searchCandidates(categoryKey, startDate, endDate);
+
+        // 2단계: 남은 조건으로 필터링하면서 페이지 구간(+1건)만 복사
+        long fromIndex = (long) page * size;
+        long totalElements = 0;
+        List<StudyLog> rows = new ArrayList<>();
+
+        for (Long id : candidates) {
+            StudyLog log = primary.get(id);
+            if (log == null || !matches(log, titleKeyword, categoryKey, startDate, endDate)) {
+                continue;  // 순회 도중 삭제되었거나 조건 불일치
+            }
+
+            if (totalElements >= fromIndex && rows.size() <= size) {
+                rows.add(copyOf(log, fields));
+            }
+            totalElements++;
+
+            // SLICE 모드는 다음 페이지 존재 여부만 알면 되므로 조기 종료
+            if (!withTotal && rows.size() > size) {
+                break;
+            }
+        }
 
-                    // 카테고리 필터
-                    if (matches && category != null && !category.isBlank()) {
-                        matches = log.getCategory().name().equals(category);
-                    }
+        return offsetPage(rows, page, size, withTotal ? totalElements : null);
+    }
 
-                    // 시작 날짜 필터
-                    if (matches && startDate != null) {
-                        matches = !log.getStudyDate().isBefore(startDate);
-                    }
+    // ========== CURSOR PAGING ==========
+    // 메모리 구현체는 id 내림차순으로 정렬하므로 커서의 id 이후부터 이어서 조회합니다.
 
-                    // 종료 날짜 필터
-                    if (matches && endDate != null) {
-                        matches = !log.getStudyDate().isAfter(endDate);
-                    }
+    @Override
+    public Page<StudyLog> findAllAfter(StudyLogCursor after, int size, PagingMode mode,
+                                       Set<StudyLogField> fields) {
+        // 역순 정렬 맵의 tailMap → after.id보다 작은 id들 (O(log n) 탐색 후 순회)
+        Collection<StudyLog> remaining = after == null
+                ? primary.values()
+                : primary.tailMap(after.getId(), false).values();
+
+        List<StudyLog> rows = new ArrayList<>(size + 1);
+        for (StudyLog log : remaining) {
+            rows.add(copyOf(log, fields));
+            if (rows.size() > size) {
+                break;
+            }
+        }
+        return cursorPage(rows, size, mode == PagingMode.TOTAL ? totalCount.get() : null, after);
+    }
+
+    @Override
+    public Page<StudyLog> searchAfter(String titleKeyword, String category,
+                                      LocalDate startDate, LocalDate endDate,
+                                      StudyLogCursor after, int size, PagingMode mode,
+                                      Set<StudyLogField> fields) {
+        boolean withTotal = mode == PagingMode.TOTAL;
+        boolean hasCategory = category != null && !category.isBlank();
+        Category categoryKey = hasCategory ? toCategory(category) : null;
+
+        if (hasCategory && categoryKey == null) {
+            return Page.ofCursor(new ArrayList<>(), size, withTotal ? 0L : null, after != null, null);
+        }
 
-                    return matches;
-                })
-                .sorted((a, b) -> b.getId().compareTo(a.getId()))
-                .collect(Collectors.toList());
+        // findAllAfter와 같이 인덱스에서 커서 id 다음 위치로 바로 이동한 뒤 나머지 조건으로 필터링
+        Long afterId = after == null ? null : after.getId();
+        List<StudyLog> rows = new ArrayList<>(size + 1);
+        for (Long id : searchCandidates(categoryKey, startDate, endDate, afterId)) {
+            StudyLog log = primary.get(id);
+            if (log == null || !matches(log, titleKeyword, categoryKey, startDate, endDate)) {
+                continue;
+            }
+            rows.add(copyOf(log, fields));
+            if (rows.size() > size) {
+                break;
+            }
+        }
+
+        Long totalElements = withTotal ? countMatches(titleKeyword, categoryKey, startDate, endDate) : null;
+        return cursorPage(rows, size, totalElements, after);
+    }
 
-        int totalElements = filteredLogs.size();
-        int fromIndex = page * size;
-        int toIndex = Math.min(fromIndex + size, totalElements);
+    // ========== STREAMING ==========
 
-        if (fromIndex >= totalElements) {
-            return new Page<>(new ArrayList<>(), page, size, totalElements);
+    @Override
+    public void streamSearch(String titleKeyword, String category,
+                             LocalDate startDate, LocalDate endDate,
+                             Set<StudyLogField> fields, Consumer<StudyLog> consumer) {
+        boolean hasCategory = category != null && !category.isBlank();
+        Category categoryKey = hasCategory ? toCategory(category) : null;
+
+        if (hasCategory && categoryKey == null) {
+            return;
         }
 
-        List<StudyLog> content = filteredLogs.subList(fromIndex, toIndex);
-        return new Page<>(content, page, size, totalElements);
+        // 인덱스를 약한 일관성(weakly consistent)으로 순회하며 한 건씩 복사해 전달
+        for (Long id : searchCandidates(categoryKey, startDate, endDate)) {
+            StudyLog log = primary.get(id);
+            if (log != null && matches(log, titleKeyword, categoryKey, startDate, endDate)) {
+                consumer.accept(copyOf(log, fields));
+            }
+        }
     }
 
     // ========== UPDATE ==========
@@ -199,32 +363,316 @@ public class InMemoryStudyLogDao implements StudyLogDao {
         if (studyLog.getId() == null) {
             throw new IllegalArgumentException("수정할 학습 일지의 ID가 없습니다.");
         }
-        if (!database.containsKey(studyLog.getId())) {
-            throw new IllegalArgumentException(
-                "해당 학습 일지를 찾을 수 없습니다. (id: " + studyLog.getId() + ")");
-        }
 
-        // updatedAt 갱신
-        studyLog.setUpdatedAt(java.time.LocalDateTime.now());
-
-        database.put(studyLog.getId(), studyLog);
-        return studyLog;
+        writeLock.lock();
+        try {
+            StudyLog previous = primary.get(studyLog.getId());
+            if (previous == null) {
+                throw new IllegalArgumentException(
+                    "해당 학습 일지를 찾을 수 없습니다. (id: " + studyLog.getId() + ")");
+            }
+
+            // updatedAt 갱신
+            studyLog.setUpdatedAt(java.time.LocalDateTime.now());
+
+            primary.put(studyLog.getId(), copyOf(studyLog));
+            unindex(previous);
+            index(studyLog);
+
+            eventPublisher.publishEvent(StudyLogChangedEvent.updated(this, previous, studyLog));
+            return studyLog;
+        } finally {
+            writeLock.unlock();
+        }
     }
 
     // ========== DELETE ==========
 
     @Override
     public boolean deleteById(Long id) {
-        // Map.remove()는 삭제된 값을 반환, 없으면 null 반환
-        StudyLog removed = database.remove(id);
-        return removed != null;
+        writeLock.lock();
+        try {
+            // Map.remove()는 삭제된 값을 반환, 없으면 null 반환
+            StudyLog removed = primary.remove(id);
+            if (removed == null) {
+                return false;
+            }
+            unindex(removed);
+
+            eventPublisher.publishEvent(StudyLogChangedEvent.deleted(this, removed));
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
     }
 
     @Override
     public void deleteAll() {
-        database.clear();
-        // 테스트 용도로 시퀀스도 초기화
-        sequence.set(1);
+        writeLock.lock();
+        try {
+            primary.clear();
+            categoryIndex.values().forEach(ConcurrentSkipListSet::clear);
+            categoryCounts.values().forEach(counter -> counter.set(0));
+            dateIndex.clear();
+            totalCount.set(0);
+            touch();
+            // 테스트 용도로 시퀀스도 초기화
+            sequence.set(1);
+
+            eventPublisher.publishEvent(StudyLogChangedEvent.cleared(this));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // ========== PRIVATE METHODS ==========
+
+    /**
+     * 보조 인덱스에 등록 (writeLock 보유 상태에서만 호출)
+     */
+    private void index(StudyLog log) {
+        Long id = log.getId();
+        categoryIndex.get(log.getCategory()).add(id);
+        categoryCounts.get(log.getCategory()).incrementAndGet();
+        dateIndex.computeIfAbsent(log.getStudyDate(),
+                date -> new ConcurrentSkipListSet<>(Comparator.reverseOrder())).add(id);
+        totalCount.incrementAndGet();
+        touch();
+    }
+
+    /**
+     * 보조 인덱스에서 제거 (writeLock 보유 상태에서만 호출)
+     */
+    private void unindex(StudyLog log) {
+        Long id = log.getId();
+        categoryIndex.get(log.getCategory()).remove(id);
+        categoryCounts.get(log.getCategory()).decrementAndGet();
+        ConcurrentSkipListSet<Long> ids = dateIndex.get(log.getStudyDate());
+        if (ids != null) {
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                dateIndex.remove(log.getStudyDate(), ids);
+            }
+        }
+        totalCount.decrementAndGet();
+        touch();
+    }
+
+    /**
+     * 마지막 쓰기 시각 갱신 (writeLock 보유 상태에서만 호출)
+     * 같은 시각에 쓰기가 이어져도 버전이 바뀌도록 이전 값보다 항상 뒤로 설정
+     */
+    private void touch() {
+        LocalDateTime now = LocalDateTime.now();
+        lastWriteAt = now.isAfter(lastWriteAt) ? now : lastWriteAt.plusNanos(1);
+    }
+
+    /**
+     * 검색 후보 id 선택 (날짜 범위 > 카테고리 > 전체 순으로 인덱스 사용)
+     */
+    private Iterable<Long> searchCandidates(Category categoryKey,
+                                            LocalDate startDate, LocalDate endDate) {
+        return searchCandidates(categoryKey, startDate, endDate, null);
+    }
+
+    /**
+     * 검색 후보 id 중 afterId보다 작은 id만 선택 (afterId가 null이면 전체)
+     * 역순 정렬 인덱스의 tailSet / tailMap으로 커서 위치까지 O(log n)에 이동합니다.
+     */
+    private Iterable<Long> searchCandidates(Category categoryKey, LocalDate startDate, LocalDate endDate,
+                                            Long afterId) {
+        if (startDate != null || endDate != null) {
+            return idsInDateRange(startDate, endDate, afterId);
+        }
+        if (categoryKey != null) {
+            ConcurrentSkipListSet<Long> ids = categoryIndex.get(categoryKey);
+            return afterId == null ? ids : ids.tailSet(afterId, false);
+        }
+        return afterId == null ? primary.keySet() : primary.tailMap(afterId, false).keySet();
+    }
+
+    /**
+     * 커서와 무관한 검색 결과 전체 개수 (TOTAL 모드)
+     * 인덱스만으로 정해지는 조건은 관리 중인 개수를 쓰고, 나머지는 후보를 순회하며 셉니다.
+     */
+    private long countMatches(String titleKeyword, Category categoryKey,
+                              LocalDate startDate, LocalDate endDate) {
+        boolean hasKeyword = titleKeyword != null && !titleKeyword.isBlank();
+        if (!hasKeyword && startDate == null && endDate == null) {
+            return categoryKey == null ? totalCount.get() : categoryCounts.get(categoryKey).get();
+        }
+
+        long count = 0;
+        for (Long id : searchCandidates(categoryKey, startDate, endDate)) {
+            StudyLog log = primary.get(id);
+            if (log != null && matches(log, titleKeyword, categoryKey, startDate, endDate)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 인덱스로 걸러지지 않은 나머지 검색 조건 확인
+     */
+    private static boolean matches(StudyLog log, String titleKeyword, Category categoryKey,
+                                   LocalDate startDate, LocalDate endDate) {
+        // 제목 키워드 필터
+        if (titleKeyword != null && !titleKeyword.isBlank() && !log.getTitle().contains(titleKeyword)) {
+            return false;
+        }
+        // 카테고리 필터
+        if (categoryKey != null && log.getCategory() != categoryKey) {
+            return false;
+        }
+        // 날짜 범위 필터
+        if (startDate != null && log.getStudyDate().isBefore(startDate)) {
+            return false;
+        }
+        return endDate == null || !log.getStudyDate().isAfter(endDate);
+    }
+
+    /**
+     * size + 1개까지 조회한 결과로 OFFSET 페이지 생성 (totalElements가 null이면 SLICE)
+     */
+    private static Page<StudyLog> offsetPage(List<StudyLog> rows, int page, int size, Long totalElements) {
+        boolean hasNext = rows.size() > size;
+        List<StudyLog> content = hasNext ? new ArrayList<>(rows.subList(0, size)) : rows;
+        if (totalElements == null) {
+            return Page.ofSlice(content, page, size, hasNext, lastCursor(content));
+        }
+        return new Page<>(content, page, size, totalElements, lastCursor(content));
+    }
+
+    /**
+     * size + 1개까지 조회한 결과로 커서 페이지 생성
+     */
+    private static Page<StudyLog> cursorPage(List<StudyLog> rows, int size, Long totalElements,
+                                             StudyLogCursor after) {
+        boolean hasNext = rows.size() > size;
+        List<StudyLog> content = hasNext ? new ArrayList<>(rows.subList(0, size)) : rows;
+        return Page.ofCursor(content, size, totalElements, after != null,
+                hasNext ? lastCursor(content) : null);
+    }
+
+    private static String lastCursor(List<StudyLog> content) {
+        return content.isEmpty() ? null : StudyLogCursor.of(content.get(content.size() - 1)).encode();
+    }
+
+    /**
+     * 날짜 범위에 해당하는 id를 최신 순으로 반환 (afterId가 있으면 그보다 작은 id만)
+     * 범위 안의 날짜 버킷만 스캔하므로 전체 데이터를 훑지 않습니다.
+     */
+    private List<Long> idsInDateRange(LocalDate startDate, LocalDate endDate, Long afterId) {
+        NavigableMap<LocalDate, ConcurrentSkipListSet<Long>> range;
+        if (startDate != null && endDate != null) {
+            if (startDate.isAfter(endDate)) {
+                return List.of();
+            }
+            range = dateIndex.subMap(startDate, true, endDate, true);
+        } else if (startDate != null) {
+            range = dateIndex.tailMap(startDate, true);
+        } else {
+            range = dateIndex.headMap(endDate, true);
+        }
+
+        List<Long> ids = new ArrayList<>();
+        // 날짜 버킷도 id 역순 집합이므로 tailSet으로 afterId 이후만 담음
+        range.values().forEach(bucket -> ids.addAll(afterId == null ? bucket : bucket.tailSet(afterId, false)));
+        ids.sort(Comparator.reverseOrder());
+        return ids;
+    }
+
+    /**
+     * id 집합을 순회하며 offset부터 limit개의 엔티티 복사본을 반환
+     */
+    private List<StudyLog> resolve(Iterable<Long> ids, long offset, int limit, Set<StudyLogField> fields) {
+        List<StudyLog> result = new ArrayList<>();
+        long skipped = 0;
+        for (Long id : ids) {
+            StudyLog log = primary.get(id);
+            if (log == null) {
+                continue;
+            }
+            if (skipped++ < offset) {
+                continue;
+            }
+            result.add(copyOf(log, fields));
+            if (result.size() == limit) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    private ConcurrentSkipListSet<Long> categoryIds(String category) {
+        Category key = toCategory(category);
+        return key == null ? null : categoryIndex.get(key);
+    }
+
+    /**
+     * 문자열 카테고리를 Enum으로 변환 (존재하지 않으면 null)
+     */
+    private static Category toCategory(String category) {
+        if (category == null) {
+            return null;
+        }
+        try {
+            return Category.valueOf(category);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static List<StudyLog> copyAll(Collection<StudyLog> logs, Set<StudyLogField> fields) {
+        List<StudyLog> result = new ArrayList<>();
+        for (StudyLog log : logs) {
+            result.add(copyOf(log, fields));
+        }
+        return result;
+    }
+
+    /**
+     * 선택한 필드만 복사 (MySQL 구현체와 동일하게 id, studyDate는 항상 포함)
+     */
+    private static StudyLog copyOf(StudyLog source, Set<StudyLogField> fields) {
+        if (fields.containsAll(StudyLogField.ALL)) {
+            return copyOf(source);
+        }
+
+        StudyLog copy = new StudyLog();
+        copy.setId(source.getId());
+        copy.setStudyDate(source.getStudyDate());
+        if (fields.contains(StudyLogField.TITLE)) {
+            copy.setTitle(source.getTitle());
+        }
+        if (fields.contains(StudyLogField.CONTENT)) {
+            copy.setContent(source.getContent());
+        }
+        if (fields.contains(StudyLogField.CATEGORY)) {
+            copy.setCategory(source.getCategory());
+        }
+        if (fields.contains(StudyLogField.UNDERSTANDING)) {
+            copy.setUnderstanding(source.getUnderstanding());
+        }
+        if (fields.contains(StudyLogField.STUDY_TIME)) {
+            copy.setStudyTime(source.getStudyTime());
+        }
+        return copy;
+    }
+
+    private static StudyLog copyOf(StudyLog source) {
+        StudyLog copy = new StudyLog();
+        copy.setId(source.getId());
+        copy.setTitle(source.getTitle());
+        copy.setContent(source.getContent());
+        copy.setCategory(source.getCategory());
+        copy.setUnderstanding(source.getUnderstanding());
+        copy.setStudyTime(source.getStudyTime());
+        copy.setStudyDate(source.getStudyDate());
+        copy.setCreatedAt(source.getCreatedAt());
+        copy.setUpdatedAt(source.getUpdatedAt());
+        return copy;
     }
 
 
@@ -235,7 +683,8 @@ public class InMemoryStudyLogDao implements StudyLogDao {
         System.out.println("========================================");
         System.out.println("📦 InMemoryStudyLogDao 초기화 완료!");
         System.out.println("   - StudyLogDao 인터페이스 구현");
-        System.out.println("   - 메모리 기반 데이터 저장소(HashMap) 준비");
+        System.out.println("   - 메모리 기반 데이터 저장소(ConcurrentSkipListMap) 준비");
+        System.out.println("   - 카테고리/날짜 보조 인덱스 준비");
         System.out.println("   - 페이징 기능 지원");
         System.out.println("   - ID 생성기 준비됨");
         System.out.println("   - DIP 원칙 준수");
@@ -246,9 +695,9 @@ public class InMemoryStudyLogDao implements StudyLogDao {
     public void cleanup() {
         System.out.println("========================================");
         System.out.println("🧹 InMemoryStudyLogDao 정리 중...");
-        System.out.println("   - 저장된 데이터 수: " + database.size());
+        System.out.println("   - 저장된 데이터 수: " + totalCount.get());
         System.out.println("   - 마지막 ID: " + (sequence.get() - 1));
-        database.clear();  // 데이터 정리
+        deleteAll();  // 데이터 및 인덱스 정리
         System.out.println("   - 메모리 데이터 정리 완료!");
         System.out.println("========================================");
     }
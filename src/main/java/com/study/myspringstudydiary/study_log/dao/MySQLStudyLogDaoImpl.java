@@ -1,21 +1,34 @@
 package com.study.myspringstudydiary.study_log.dao;
 
 import com.study.myspringstudydiary.common.Page;
+import com.study.myspringstudydiary.common.PagingMode;
 import com.study.myspringstudydiary.study_log.entity.Category;
 import com.study.myspringstudydiary.study_log.entity.StudyLog;
+import com.study.myspringstudydiary.study_log.entity.StudyLogDailyStats;
 import com.study.myspringstudydiary.study_log.entity.Understanding;
+import com.study.myspringstudydiary.study_log.event.StudyLogChangedEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.*;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.function.Consumer;
 
 /**
  * MySQL based StudyLog DAO implementation
@@ -25,24 +38,43 @@ import java.util.Optional;
  * - Automatically manages Connection, Statement, etc.
  * - Converts SQL exceptions to Spring's DataAccessException
  * - Reduces boilerplate code
+ *
+ * 일별 통계 롤업 (study_log_daily_stats):
+ * - save / saveAll / update / deleteById / deleteAll에서 (날짜, 카테고리) 행을 증감하여 함께 갱신
+ * - 원본 변경과 롤업 갱신을 하나의 트랜잭션으로 묶어 항상 일치하도록 유지
+ * - 여러 롤업 행을 갱신할 때는 (날짜, 카테고리) 순서로 잠가 데드락을 피함
+ *
+ * 쓰기 후에는 변경 전/후 값을 담은 StudyLogChangedEvent를 발행합니다.
  */
 @Repository
 @Primary
 public class MySQLStudyLogDaoImpl implements StudyLogDao {
 
     private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 한 번의 executeBatch로 보낼 최대 행 수
+    private static final int BATCH_CHUNK_SIZE = 500;
+
+    // 일별 통계 롤업 UPSERT 문 (이해도 컬럼은 Understanding enum에서 생성)
+    private static final String STATS_UPSERT_SQL = buildStatsUpsertSql();
+
+    // MySQL 외 드라이버에서 스트리밍 조회 시 한 번에 가져올 행 수
+    private static final int STREAM_FETCH_SIZE = 500;
 
     /**
      * Constructor injection
      * JdbcTemplate is automatically registered as Bean by Spring
      */
-    public MySQLStudyLogDaoImpl(JdbcTemplate jdbcTemplate) {
+    public MySQLStudyLogDaoImpl(JdbcTemplate jdbcTemplate, ApplicationEventPublisher eventPublisher) {
         this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
     }
 
     // ========== CREATE ==========
 
     @Override
+    @Transactional
     public StudyLog save(StudyLog studyLog) {
         String sql = """
             INSERT INTO study_logs (title, content, category, understanding, study_time, study_date)
@@ -69,9 +101,77 @@ public class MySQLStudyLogDaoImpl implements StudyLogDao {
             studyLog.setId(generatedId.longValue());
         }
 
+        // 일별 통계 롤업 반영
+        StatsDeltas deltas = new StatsDeltas();
+        deltas.add(studyLog, 1);
+        applyStatsDeltas(deltas);
+
+        eventPublisher.publishEvent(StudyLogChangedEvent.created(this, List.of(studyLog)));
         return studyLog;
     }
 
+    /**
+     * 배치 INSERT
+     *
+     * - BATCH_CHUNK_SIZE 단위로 addBatch/executeBatch 하여 왕복 횟수를 줄임
+     * - 접속 URL의 rewriteBatchedStatements=true 옵션이 있으면 MySQL 드라이버가
+     *   하나의 multi-row INSERT 문으로 재작성함
+     * - 생성된 ID는 KeyHolder로 받아 입력 순서대로 설정
+     *
+     * 여러 청크를 하나의 트랜잭션으로 묶으려면 호출하는 쪽에서 @Transactional을 사용해야 함
+     */
+    @Override
+    @Transactional
+    public List<StudyLog> saveAll(List<StudyLog> studyLogs) {
+        String sql = """
+            INSERT INTO study_logs (title, content, category, understanding, study_time, study_date)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+        for (int from = 0; from < studyLogs.size(); from += BATCH_CHUNK_SIZE) {
+            List<StudyLog> chunk = studyLogs.subList(from, Math.min(from + BATCH_CHUNK_SIZE, studyLogs.size()));
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+
+            jdbcTemplate.batchUpdate(
+                    connection -> connection.prepareStatement(sql, new String[]{"id"}),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            StudyLog studyLog = chunk.get(i);
+                            ps.setString(1, studyLog.getTitle());
+                            ps.setString(2, studyLog.getContent());
+                            ps.setString(3, studyLog.getCategory().name());
+                            ps.setString(4, studyLog.getUnderstanding().name());
+                            ps.setInt(5, studyLog.getStudyTime());
+                            ps.setDate(6, Date.valueOf(studyLog.getStudyDate()));
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return chunk.size();
+                        }
+                    },
+                    keyHolder);
+
+            // 드라이버가 돌려준 키를 입력 순서대로 매핑
+            List<Map<String, Object>> keys = keyHolder.getKeyList();
+            for (int i = 0; i < chunk.size() && i < keys.size(); i++) {
+                Object key = keys.get(i).values().stream().findFirst().orElse(null);
+                if (key instanceof Number generatedId) {
+                    chunk.get(i).setId(generatedId.longValue());
+                }
+            }
+        }
+
+        // 일별 통계 롤업 반영 (같은 날짜/카테고리는 합산하여 한 번만 갱신)
+        StatsDeltas deltas = new StatsDeltas();
+        studyLogs.forEach(studyLog -> deltas.add(studyLog, 1));
+        applyStatsDeltas(deltas);
+
+        eventPublisher.publishEvent(StudyLogChangedEvent.created(this, studyLogs));
+        return studyLogs;
+    }
+
     // ========== READ ==========
 
     @Override
@@ -88,21 +188,24 @@ public class MySQLStudyLogDaoImpl implements StudyLogDao {
     }
 
     @Override
-    public List<StudyLog> findAll() {
-        String sql = "SELECT * FROM study_logs ORDER BY study_date DESC, id DESC";
-        return jdbcTemplate.query(sql, studyLogRowMapper);
+    public List<StudyLog> findAll(Set<StudyLogField> fields) {
+        String sql = "SELECT " + selectColumns(fields)
+                   + " FROM study_logs ORDER BY study_date DESC, id DESC";
+        return jdbcTemplate.query(sql, rowMapperFor(fields));
     }
 
     @Override
-    public List<StudyLog> findByCategory(String category) {
-        String sql = "SELECT * FROM study_logs WHERE category = ? ORDER BY study_date DESC, id DESC";
-        return jdbcTemplate.query(sql, studyLogRowMapper, category);
+    public List<StudyLog> findByCategory(String category, Set<StudyLogField> fields) {
+        String sql = "SELECT " + selectColumns(fields)
+                   + " FROM study_logs WHERE category = ? ORDER BY study_date DESC, id DESC";
+        return jdbcTemplate.query(sql, rowMapperFor(fields), category);
     }
 
     @Override
-    public List<StudyLog> findByStudyDate(LocalDate date) {
-        String sql = "SELECT * FROM study_logs WHERE study_date = ? ORDER BY id DESC";
-        return jdbcTemplate.query(sql, studyLogRowMapper, Date.valueOf(date));
+    public List<StudyLog> findByStudyDate(LocalDate date, Set<StudyLogField> fields) {
+        String sql = "SELECT " + selectColumns(fields)
+                   + " FROM study_logs WHERE study_date = ? ORDER BY id DESC";
+        return jdbcTemplate.query(sql, rowMapperFor(fields), Date.valueOf(date));
     }
 
     @Override
@@ -114,7 +217,8 @@ public class MySQLStudyLogDaoImpl implements StudyLogDao {
 
     @Override
     public long count() {
-        String sql = "SELECT COUNT(*) FROM study_logs";
+        // 원본 테이블 전체 스캔 대신 롤업 테이블 합산
+        String sql = "SELECT COALESCE(SUM(log_count), 0) FROM study_log_daily_stats";
         Long count = jdbcTemplate.queryForObject(sql, Long.class);
         return count != null ? count : 0;
     }
@@ -122,7 +226,12 @@ public class MySQLStudyLogDaoImpl implements StudyLogDao {
     // ========== UPDATE ==========
 
     @Override
+    @Transactional
     public StudyLog update(StudyLog studyLog) {
+        // 롤업에서 뺄 수정 전 값을 행 잠금과 함께 조회
+        StudyLog previous = findForUpdate(studyLog.getId())
+                .orElseThrow(() -> new RuntimeException("Study log not found. ID: " + studyLog.getId()));
+
         String sql = """
             UPDATE study_logs
             SET title = ?, content = ?, category = ?, understanding = ?,
@@ -143,87 +252,356 @@ public class MySQLStudyLogDaoImpl implements StudyLogDao {
             throw new RuntimeException("Study log not found. ID: " + studyLog.getId());
         }
 
+        // 일별 통계 롤업 반영 (수정 전 값 -1, 수정 후 값 +1)
+        StatsDeltas deltas = new StatsDeltas();
+        deltas.add(previous, -1);
+        deltas.add(studyLog, 1);
+        applyStatsDeltas(deltas);
+
+        eventPublisher.publishEvent(StudyLogChangedEvent.updated(this, previous, studyLog));
         return studyLog;
     }
 
     // ========== DELETE ==========
 
     @Override
+    @Transactional
     public boolean deleteById(Long id) {
+        Optional<StudyLog> previous = findForUpdate(id);
+        if (previous.isEmpty()) {
+            return false;
+        }
+
         String sql = "DELETE FROM study_logs WHERE id = ?";
         int deleted = jdbcTemplate.update(sql, id);
+
+        // 일별 통계 롤업 반영
+        if (deleted > 0) {
+            StatsDeltas deltas = new StatsDeltas();
+            deltas.add(previous.get(), -1);
+            applyStatsDeltas(deltas);
+            eventPublisher.publishEvent(StudyLogChangedEvent.deleted(this, previous.get()));
+        }
         return deleted > 0;
     }
 
     @Override
+    @Transactional
     public void deleteAll() {
         String sql = "DELETE FROM study_logs";
         jdbcTemplate.update(sql);
+        jdbcTemplate.update("DELETE FROM study_log_daily_stats");
+        eventPublisher.publishEvent(StudyLogChangedEvent.cleared(this));
     }
 
     // ========== PAGING ==========
+    //
+    // 페이지당 DB 왕복은 1회입니다.
+    // - TOTAL: 전체 개수를 스칼라 서브쿼리로 데이터 쿼리에 함께 실어 보냄
+    // - SLICE: 전체 개수 없이 size + 1건만 조회하여 hasNext 판단
 
     @Override
-    public Page<StudyLog> findAllWithPaging(int page, int size) {
-        // 1단계: 전체 개수 조회
-        String countSql = "SELECT COUNT(*) FROM study_logs";
-        Long totalElements = jdbcTemplate.queryForObject(countSql, Long.class);
-
-        // 전체 데이터가 0건이면 빈 페이지 반환
-        if (totalElements == null || totalElements == 0) {
-            return new Page<>(List.of(), page, size, 0);
-        }
+    public Page<StudyLog> findAllWithPaging(int page, int size, PagingMode mode, Set<StudyLogField> fields) {
+        return queryOffsetPage("WHERE 1=1", List.of(), page, size, mode, fields);
+    }
 
-        // 2단계: 해당 페이지 데이터 조회
-        String dataSql = """
-            SELECT * FROM study_logs
-            ORDER BY study_date DESC, id DESC
-            LIMIT ? OFFSET ?
-            """;
+    @Override
+    public Page<StudyLog> findByCategoryWithPaging(String category, int page, int size,
+                                                   PagingMode mode, Set<StudyLogField> fields) {
+        return queryOffsetPage("WHERE category = ?", List.of(category), page, size, mode, fields);
+    }
 
-        int offset = page * size;
-        List<StudyLog> content = jdbcTemplate.query(dataSql, studyLogRowMapper, size, offset);
+    @Override
+    public Page<StudyLog> searchWithPaging(
+            String titleKeyword,
+            String category,
+            LocalDate startDate,
+            LocalDate endDate,
+            int page,
+            int size,
+            PagingMode mode,
+            Set<StudyLogField> fields) {
 
-        // 3단계: Page 객체 생성 및 반환
-        return new Page<>(content, page, size, totalElements);
+        // 공통 WHERE 절 구성
+        List<Object> params = new ArrayList<>();
+        String whereClause = buildSearchWhereClause(
+                params, titleKeyword, category, startDate, endDate);
+
+        return queryOffsetPage(whereClause, params, page, size, mode, fields);
+    }
+
+    // ========== CURSOR PAGING ==========
+
+    @Override
+    public Page<StudyLog> findAllAfter(StudyLogCursor after, int size, PagingMode mode,
+                                       Set<StudyLogField> fields) {
+        return searchAfter(null, null, null, null, after, size, mode, fields);
     }
 
     @Override
-    public Page<StudyLog> findByCategoryWithPaging(String category, int page, int size) {
-        // COUNT 쿼리에도 동일한 WHERE 조건 적용
-        String countSql = "SELECT COUNT(*) FROM study_logs WHERE category = ?";
-        Long totalElements = jdbcTemplate.queryForObject(countSql, Long.class, category);
+    public Page<StudyLog> searchAfter(
+            String titleKeyword,
+            String category,
+            LocalDate startDate,
+            LocalDate endDate,
+            StudyLogCursor after,
+            int size,
+            PagingMode mode,
+            Set<StudyLogField> fields) {
 
-        if (totalElements == null || totalElements == 0) {
-            return new Page<>(List.of(), page, size, 0);
+        List<Object> params = new ArrayList<>();
+        String whereClause = buildSearchWhereClause(
+                params, titleKeyword, category, startDate, endDate);
+
+        // OFFSET 대신 마지막 키 이후부터 seek
+        String seekClause = "";
+        List<Object> seekParams = new ArrayList<>();
+
+        if (after != null) {
+            // (study_date, id) < (?, ?) 를 풀어 쓴 형태
+            // study_date 인덱스(PK 포함)의 범위 스캔으로 바로 시작 위치를 찾음
+            seekClause = " AND (study_date < ? OR (study_date = ? AND id < ?))";
+            seekParams.add(Date.valueOf(after.getStudyDate()));
+            seekParams.add(Date.valueOf(after.getStudyDate()));
+            seekParams.add(after.getId());
         }
 
-        String dataSql = """
-            SELECT * FROM study_logs
-            WHERE category = ?
-            ORDER BY study_date DESC, id DESC
-            LIMIT ? OFFSET ?
-            """;
+        // 다음 페이지 존재 여부 확인을 위해 size + 1개 조회
+        // 전체 개수는 커서 조건을 제외한 WHERE 절로 계산 → 페이지 위치와 무관
+        PageRows result = queryPageRows(whereClause, params, seekClause, seekParams,
+                size + 1, 0, mode == PagingMode.TOTAL, fields);
 
-        int offset = page * size;
-        List<StudyLog> content = jdbcTemplate.query(
-                dataSql, studyLogRowMapper, category, size, offset);
+        // 초과 조회한 1건을 잘라내고 다음 커서 계산
+        boolean hasNext = result.rows.size() > size;
+        List<StudyLog> content = hasNext ? result.rows.subList(0, size) : result.rows;
+        String nextCursor = hasNext ? lastCursor(content) : null;
 
-        return new Page<>(content, page, size, totalElements);
+        return Page.ofCursor(content, size, result.totalElements, after != null, nextCursor);
     }
 
+    // ========== STREAMING ==========
+
+    /**
+     * 스트리밍 결과셋(JDBC 커서)으로 한 행씩 읽어 consumer에 전달
+     *
+     * - MySQL 드라이버는 기본적으로 결과 전체를 메모리에 적재하므로
+     *   TYPE_FORWARD_ONLY + CONCUR_READ_ONLY + fetchSize=Integer.MIN_VALUE로 행 단위 스트리밍을 켬
+     * - 그 외 드라이버(H2 등)는 일반 fetchSize로 나누어 가져옴
+     * - RowMapper로 List를 만들지 않고 RowCallbackHandler로 바로 넘기므로 메모리 사용량이 일정
+     */
     @Override
-    public Page<StudyLog> searchWithPaging(
+    public void streamSearch(
             String titleKeyword,
             String category,
             LocalDate startDate,
             LocalDate endDate,
-            int page,
-            int size) {
+            Set<StudyLogField> fields,
+            Consumer<StudyLog> consumer) {
 
-        // 공통 WHERE 절 구성
-        StringBuilder whereClause = new StringBuilder("WHERE 1=1");
         List<Object> params = new ArrayList<>();
+        String whereClause = buildSearchWhereClause(
+                params, titleKeyword, category, startDate, endDate);
+
+        String sql = "SELECT " + selectColumns(fields) + " FROM study_logs "
+                   + whereClause + " ORDER BY study_date DESC, id DESC";
+        RowMapper<StudyLog> rowMapper = rowMapperFor(fields);
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            boolean mysql = connection.getMetaData().getDatabaseProductName().toLowerCase().contains("mysql");
+            ps.setFetchSize(mysql ? Integer.MIN_VALUE : STREAM_FETCH_SIZE);
+            for (int i = 0; i < params.size(); i++) {
+                ps.setObject(i + 1, params.get(i));
+            }
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(rowMapper.mapRow(rs, rs.getRow())));
+    }
+
+    @Override
+    public long countByCategory(String category) {
+        // 원본 테이블 COUNT(*) 대신 롤업 테이블의 해당 카테고리 행만 합산
+        String sql = "SELECT COALESCE(SUM(log_count), 0) FROM study_log_daily_stats WHERE category = ?";
+        Long count = jdbcTemplate.queryForObject(sql, Long.class, category);
+        return count != null ? count : 0;
+    }
+
+    // ========== VERSION ==========
+
+    @Override
+    public Optional<LocalDateTime> findUpdatedAtById(Long id) {
+        // PK 조회로 updated_at 한 컬럼만 읽음 (content 등 본문은 읽지 않음)
+        String sql = "SELECT updated_at FROM study_logs WHERE id = ?";
+        List<LocalDateTime> rows = jdbcTemplate.query(sql,
+                (rs, rowNum) -> toLocalDateTime(rs.getTimestamp("updated_at")), id);
+        return rows.isEmpty() ? Optional.empty() : Optional.ofNullable(rows.get(0));
+    }
+
+    @Override
+    public StudyLogVersion findVersion(String titleKeyword, String category,
+                                      LocalDate startDate, LocalDate endDate) {
+        // 조건이 없거나 카테고리만 있으면 idx_study_logs_updated_at / idx_study_logs_category_updated_at
+        // 인덱스만으로 개수와 최대값을 계산 (테이블 행은 읽지 않음)
+        List<Object> params = new ArrayList<>();
+        String whereClause = buildSearchWhereClause(params, titleKeyword, category, startDate, endDate);
+
+        String sql = "SELECT COUNT(*) AS row_count, MAX(updated_at) AS last_modified FROM study_logs "
+                   + whereClause;
+        return jdbcTemplate.queryForObject(sql, (rs, rowNum) -> new StudyLogVersion(
+                rs.getLong("row_count"),
+                toLocalDateTime(rs.getTimestamp("last_modified"))), params.toArray());
+    }
+
+    // ========== PRIVATE METHODS ==========
+
+    /**
+     * 롤업 갱신에 필요한 컬럼만 행 잠금(FOR UPDATE)과 함께 조회
+     * 같은 행을 동시에 수정/삭제하는 트랜잭션이 같은 수정 전 값을 두 번 빼지 않도록 함
+     */
+    private Optional<StudyLog> findForUpdate(Long id) {
+        String sql = """
+            SELECT category, understanding, study_time, study_date
+            FROM study_logs WHERE id = ? FOR UPDATE
+            """;
+        List<StudyLog> rows = jdbcTemplate.query(sql, (rs, rowNum) -> {
+            StudyLog studyLog = new StudyLog();
+            studyLog.setId(id);
+            studyLog.setCategory(Category.valueOf(rs.getString("category")));
+            studyLog.setUnderstanding(Understanding.valueOf(rs.getString("understanding")));
+            studyLog.setStudyTime(rs.getInt("study_time"));
+            studyLog.setStudyDate(rs.getDate("study_date").toLocalDate());
+            return studyLog;
+        }, id);
+        return rows.isEmpty() ? Optional.empty() : Optional.ofNullable(rows.get(0));
+    }
+
+    /**
+     * (날짜, 카테고리)별 증감분을 롤업 테이블에 UPSERT
+     * 행이 없으면 증감분으로 INSERT, 있으면 기존 값에 더함
+     */
+    private void applyStatsDeltas(StatsDeltas deltas) {
+        List<StatsDelta> rows = deltas.sorted();
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        Understanding[] understandings = Understanding.values();
+        jdbcTemplate.batchUpdate(STATS_UPSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                StatsDelta delta = rows.get(i);
+                int index = 1;
+
+                // INSERT VALUES
+                ps.setDate(index++, Date.valueOf(delta.studyDate));
+                ps.setString(index++, delta.category.name());
+                ps.setLong(index++, delta.count);
+                ps.setLong(index++, delta.studyTime);
+                for (Understanding understanding : understandings) {
+                    ps.setLong(index++, delta.understandingCounts[understanding.ordinal()]);
+                }
+
+                // ON DUPLICATE KEY UPDATE
+                ps.setLong(index++, delta.count);
+                ps.setLong(index++, delta.studyTime);
+                for (Understanding understanding : understandings) {
+                    ps.setLong(index++, delta.understandingCounts[understanding.ordinal()]);
+                }
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+    }
+
+    private static String buildStatsUpsertSql() {
+        StringJoiner columns = new StringJoiner(", ");
+        StringJoiner placeholders = new StringJoiner(", ");
+        StringJoiner updates = new StringJoiner(", ");
+
+        columns.add("study_date").add("category");
+        placeholders.add("?").add("?");
+        for (String column : statsCounterColumns()) {
+            columns.add(column);
+            placeholders.add("?");
+            updates.add(column + " = " + column + " + ?");
+        }
+
+        return "INSERT INTO study_log_daily_stats (" + columns + ") VALUES (" + placeholders + ")"
+             + " ON DUPLICATE KEY UPDATE " + updates;
+    }
+
+    private static List<String> statsCounterColumns() {
+        List<String> columns = new ArrayList<>();
+        columns.add("log_count");
+        columns.add("total_study_time");
+        for (Understanding understanding : Understanding.values()) {
+            columns.add(StudyLogDailyStats.understandingColumn(understanding));
+        }
+        return columns;
+    }
+
+    /**
+     * (날짜, 카테고리) 한 행에 대한 증감분
+     */
+    private static final class StatsDelta {
+        private final LocalDate studyDate;
+        private final Category category;
+        private long count;
+        private long studyTime;
+        private final long[] understandingCounts = new long[Understanding.values().length];
+
+        private StatsDelta(LocalDate studyDate, Category category) {
+            this.studyDate = studyDate;
+            this.category = category;
+        }
+    }
+
+    /**
+     * 한 트랜잭션에서 반영할 증감분 모음
+     * (날짜, 카테고리) 문자열 키의 정렬 순서 = 날짜 → 카테고리 순서이므로 잠금 순서가 일정함
+     */
+    private static final class StatsDeltas {
+        private final Map<String, StatsDelta> deltas = new TreeMap<>();
+
+        private void add(StudyLog studyLog, int sign) {
+            StatsDelta delta = deltas.computeIfAbsent(
+                    studyLog.getStudyDate() + ":" + studyLog.getCategory().name(),
+                    key -> new StatsDelta(studyLog.getStudyDate(), studyLog.getCategory()));
+            delta.count += sign;
+            delta.studyTime += (long) sign * studyLog.getStudyTime();
+            delta.understandingCounts[studyLog.getUnderstanding().ordinal()] += sign;
+        }
+
+        private List<StatsDelta> sorted() {
+            // 증감이 모두 상쇄된 행(제목/내용만 수정한 경우 등)은 건너뜀
+            List<StatsDelta> rows = new ArrayList<>();
+            for (StatsDelta delta : deltas.values()) {
+                boolean changed = delta.count != 0 || delta.studyTime != 0;
+                for (long understandingCount : delta.understandingCounts) {
+                    changed |= understandingCount != 0;
+                }
+                if (changed) {
+                    rows.add(delta);
+                }
+            }
+            return rows;
+        }
+    }
+
+    /**
+     * 검색 조건으로 WHERE 절을 구성하고 바인딩 파라미터를 params에 추가
+     */
+    private String buildSearchWhereClause(
+            List<Object> params,
+            String titleKeyword,
+            String category,
+            LocalDate startDate,
+            LocalDate endDate) {
+
+        StringBuilder whereClause = new StringBuilder("WHERE 1=1");
 
         if (titleKeyword != null && !titleKeyword.isBlank()) {
             whereClause.append(" AND title LIKE ?");
@@ -245,39 +623,152 @@ public class MySQLStudyLogDaoImpl implements StudyLogDao {
             params.add(Date.valueOf(endDate));
         }
 
-        // 1단계: COUNT 쿼리 (WHERE 절 재사용)
-        String countSql = "SELECT COUNT(*) FROM study_logs " + whereClause;
-        Long totalElements = jdbcTemplate.queryForObject(countSql, Long.class, params.toArray());
+        return whereClause.toString();
+    }
 
-        if (totalElements == null || totalElements == 0) {
-            return new Page<>(List.of(), page, size, 0);
+    /**
+     * OFFSET 페이지 조회
+     * 마지막 행의 커서도 함께 담아, 클라이언트가 다음 페이지부터 커서 방식으로 전환할 수 있게 함
+     */
+    private Page<StudyLog> queryOffsetPage(String whereClause, List<Object> params,
+                                           int page, int size, PagingMode mode,
+                                           Set<StudyLogField> fields) {
+        long offset = (long) page * size;
+
+        if (mode == PagingMode.SLICE) {
+            PageRows result = queryPageRows(whereClause, params, "", List.of(), size + 1, offset, false, fields);
+            boolean hasNext = result.rows.size() > size;
+            List<StudyLog> content = hasNext ? result.rows.subList(0, size) : result.rows;
+            return Page.ofSlice(content, page, size, hasNext, lastCursor(content));
         }
 
-        // 2단계: 데이터 쿼리 (WHERE 절 재사용 + 페이징)
-        String dataSql = "SELECT * FROM study_logs "
-                       + whereClause
-                       + " ORDER BY study_date DESC, id DESC"
-                       + " LIMIT ? OFFSET ?";
+        PageRows result = queryPageRows(whereClause, params, "", List.of(), size, offset, true, fields);
+        return new Page<>(result.rows, page, size, result.totalElements, lastCursor(result.rows));
+    }
 
-        // 페이징 파라미터를 기존 파라미터에 추가
-        List<Object> dataParams = new ArrayList<>(params);
-        dataParams.add(size);
-        dataParams.add(page * size);
+    /**
+     * 페이지 데이터 조회 (필요 시 전체 개수 포함, 1회 왕복)
+     *
+     * withTotal이면 SELECT 절에 (SELECT COUNT(*) ... ) 스칼라 서브쿼리를 추가합니다.
+     * 상관 관계가 없는 서브쿼리라 한 번만 실행되고, 인덱스만으로 개수를 셀 수 있어
+     * 별도의 COUNT 쿼리를 보내는 것과 같은 비용을 네트워크 왕복 없이 처리합니다.
+     *
+     * @param whereClause 검색 조건 (전체 개수 계산에도 사용)
+     * @param seekClause  커서 조건 (데이터 조회에만 사용, 없으면 빈 문자열)
+     * @param fields      조회할 필드 (SELECT 컬럼 목록)
+     */
+    private PageRows queryPageRows(String whereClause, List<Object> params,
+                                   String seekClause, List<Object> seekParams,
+                                   int limit, long offset, boolean withTotal,
+                                   Set<StudyLogField> fields) {
+        RowMapper<StudyLog> rowMapper = rowMapperFor(fields);
+        StringBuilder sql = new StringBuilder("SELECT ").append(selectColumns(fields));
+        List<Object> args = new ArrayList<>();
+
+        if (withTotal) {
+            sql.append(", (SELECT COUNT(*) FROM study_logs ").append(whereClause).append(") AS total_count");
+            args.addAll(params);
+        }
 
-        List<StudyLog> content = jdbcTemplate.query(
-                dataSql, studyLogRowMapper, dataParams.toArray());
+        sql.append(" FROM study_logs s ")
+           .append(whereClause)
+           .append(seekClause)
+           .append(" ORDER BY study_date DESC, id DESC LIMIT ? OFFSET ?");
+        args.addAll(params);
+        args.addAll(seekParams);
+        args.add(limit);
+        args.add(offset);
+
+        long[] totalCount = {0};
+        List<StudyLog> rows = jdbcTemplate.query(sql.toString(), (rs, rowNum) -> {
+            if (withTotal && rowNum == 0) {
+                totalCount[0] = rs.getLong("total_count");
+            }
+            return rowMapper.mapRow(rs, rowNum);
+        }, args.toArray());
+
+        if (!withTotal) {
+            return new PageRows(rows, null);
+        }
 
-        return new Page<>(content, page, size, totalElements);
+        // 결과 행이 없으면 서브쿼리 값도 받을 수 없음
+        // 첫 페이지라면 0건이 확실하고, 범위를 벗어난 페이지만 개수를 따로 조회
+        if (rows.isEmpty() && (offset > 0 || !seekClause.isEmpty())) {
+            Long count = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM study_logs " + whereClause, Long.class, params.toArray());
+            totalCount[0] = count != null ? count : 0;
+        }
+
+        return new PageRows(rows, totalCount[0]);
     }
 
-    @Override
-    public long countByCategory(String category) {
-        String sql = "SELECT COUNT(*) FROM study_logs WHERE category = ?";
-        Long count = jdbcTemplate.queryForObject(sql, Long.class, category);
-        return count != null ? count : 0;
+    /**
+     * SELECT 컬럼 목록 생성
+     * id, study_date는 정렬과 커서 계산에 필요하므로 요청 필드와 관계없이 항상 포함
+     */
+    private static String selectColumns(Set<StudyLogField> fields) {
+        if (fields.containsAll(StudyLogField.ALL)) {
+            return "*";
+        }
+
+        StringJoiner columns = new StringJoiner(", ");
+        columns.add(StudyLogField.ID.getColumn());
+        columns.add(StudyLogField.STUDY_DATE.getColumn());
+        for (StudyLogField field : fields) {
+            if (field != StudyLogField.ID && field != StudyLogField.STUDY_DATE) {
+                columns.add(field.getColumn());
+            }
+        }
+        return columns.toString();
     }
 
-    // ========== PRIVATE METHODS ==========
+    /**
+     * 선택한 컬럼만 읽는 RowMapper (전체 필드면 기본 RowMapper 사용)
+     */
+    private RowMapper<StudyLog> rowMapperFor(Set<StudyLogField> fields) {
+        if (fields.containsAll(StudyLogField.ALL)) {
+            return studyLogRowMapper;
+        }
+
+        return (rs, rowNum) -> {
+            StudyLog studyLog = new StudyLog();
+            studyLog.setId(rs.getLong("id"));
+            studyLog.setStudyDate(rs.getDate("study_date").toLocalDate());
+            if (fields.contains(StudyLogField.TITLE)) {
+                studyLog.setTitle(rs.getString("title"));
+            }
+            if (fields.contains(StudyLogField.CONTENT)) {
+                studyLog.setContent(rs.getString("content"));
+            }
+            if (fields.contains(StudyLogField.CATEGORY)) {
+                studyLog.setCategory(Category.valueOf(rs.getString("category")));
+            }
+            if (fields.contains(StudyLogField.UNDERSTANDING)) {
+                studyLog.setUnderstanding(Understanding.valueOf(rs.getString("understanding")));
+            }
+            if (fields.contains(StudyLogField.STUDY_TIME)) {
+                studyLog.setStudyTime(rs.getInt("study_time"));
+            }
+            return studyLog;
+        };
+    }
+
+    private static String lastCursor(List<StudyLog> content) {
+        return content.isEmpty() ? null : StudyLogCursor.of(content.get(content.size() - 1)).encode();
+    }
+
+    /**
+     * 페이지 조회 결과 (데이터 + 전체 개수, SLICE 모드면 전체 개수는 null)
+     */
+    private static final class PageRows {
+        private final List<StudyLog> rows;
+        private final Long totalElements;
+
+        private PageRows(List<StudyLog> rows, Long totalElements) {
+            this.rows = rows;
+            this.totalElements = totalElements;
+        }
+    }
 
     /**
      * RowMapper: Converts each row of ResultSet to StudyLog object
@@ -292,6 +783,12 @@ public class MySQLStudyLogDaoImpl implements StudyLogDao {
         studyLog.setUnderstanding(Understanding.valueOf(rs.getString("understanding")));
         studyLog.setStudyTime(rs.getInt("study_time"));
         studyLog.setStudyDate(rs.getDate("study_date").toLocalDate());
+        studyLog.setCreatedAt(toLocalDateTime(rs.getTimestamp("created_at")));
+        studyLog.setUpdatedAt(toLocalDateTime(rs.getTimestamp("updated_at")));
         return studyLog;
     };
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
 }
\ No newline at end of file
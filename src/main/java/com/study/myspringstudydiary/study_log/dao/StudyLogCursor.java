@@ -0,0 +1,74 @@
+package com.study.myspringstudydiary.study_log.dao;
+
+import com.study.myspringstudydiary.study_log.entity.StudyLog;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 커서(keyset) 페이징의 위치 정보
+ *
+ * 목록 정렬 기준인 (study_date DESC, id DESC)에서 마지막으로 본 행의 키를 담습니다.
+ * 클라이언트에는 Base64(URL-safe)로 인코딩한 불투명 토큰으로 전달되므로
+ * 내부 키 구성이 바뀌어도 API는 그대로 유지됩니다.
+ */
+public final class StudyLogCursor {
+
+    private static final char SEPARATOR = '_';
+
+    private final LocalDate studyDate;
+    private final Long id;
+
+    public StudyLogCursor(LocalDate studyDate, Long id) {
+        this.studyDate = studyDate;
+        this.id = id;
+    }
+
+    /**
+     * 페이지의 마지막 행으로부터 커서 생성
+     */
+    public static StudyLogCursor of(StudyLog lastSeen) {
+        return new StudyLogCursor(lastSeen.getStudyDate(), lastSeen.getId());
+    }
+
+    /**
+     * 토큰을 커서로 복원
+     *
+     * @param token 클라이언트가 전달한 after 값 (null 또는 빈 값이면 첫 페이지)
+     * @throws IllegalArgumentException 형식이 올바르지 않은 토큰
+     */
+    public static StudyLogCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new StudyLogCursor(
+                    LocalDate.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            // Base64 디코딩 실패(IllegalArgumentException), 구분자 누락, 날짜/숫자 형식 오류
+            throw new IllegalArgumentException("유효하지 않은 커서입니다: " + token);
+        }
+    }
+
+    /**
+     * 커서를 불투명 토큰으로 인코딩
+     */
+    public String encode() {
+        String raw = studyDate + String.valueOf(SEPARATOR) + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDate getStudyDate() {
+        return studyDate;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
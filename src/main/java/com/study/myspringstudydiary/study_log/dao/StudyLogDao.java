@@ -1,11 +1,15 @@
 package com.study.myspringstudydiary.study_log.dao;
 
 import com.study.myspringstudydiary.common.Page;
+import com.study.myspringstudydiary.common.PagingMode;
 import com.study.myspringstudydiary.study_log.entity.StudyLog;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * StudyLog DAO 인터페이스
@@ -20,14 +24,37 @@ public interface StudyLogDao {
     // ========== CREATE ==========
     StudyLog save(StudyLog studyLog);
 
+    /**
+     * 여러 학습 일지를 한 번에 저장 (배치 INSERT)
+     * 저장 후 각 StudyLog에 생성된 ID가 입력 순서대로 설정됩니다.
+     */
+    List<StudyLog> saveAll(List<StudyLog> studyLogs);
+
     // ========== READ ==========
     Optional<StudyLog> findById(Long id);
 
-    List<StudyLog> findByStudyDate(LocalDate date);
+    default List<StudyLog> findByStudyDate(LocalDate date) {
+        return findByStudyDate(date, StudyLogField.ALL);
+    }
 
-    List<StudyLog> findAll();
+    default List<StudyLog> findAll() {
+        return findAll(StudyLogField.ALL);
+    }
 
-    List<StudyLog> findByCategory(String category);
+    default List<StudyLog> findByCategory(String category) {
+        return findByCategory(category, StudyLogField.ALL);
+    }
+
+    /*
+     * 아래 목록 조회 메서드의 fields 파라미터는 조회할 컬럼(Projection)입니다.
+     * 지정하지 않은 필드는 반환되는 StudyLog에서 null로 남습니다.
+     * (id, studyDate는 정렬/커서 계산을 위해 항상 채워질 수 있음)
+     */
+    List<StudyLog> findByStudyDate(LocalDate date, Set<StudyLogField> fields);
+
+    List<StudyLog> findAll(Set<StudyLogField> fields);
+
+    List<StudyLog> findByCategory(String category, Set<StudyLogField> fields);
 
     // ========== UPDATE ==========
     StudyLog update(StudyLog studyLog);
@@ -46,14 +73,17 @@ public interface StudyLogDao {
      *
      * @param page 페이지 번호 (0-based)
      * @param size 페이지당 데이터 개수
+     * @param mode TOTAL이면 전체 개수 포함, SLICE면 전체 개수 없이 hasNext만 계산
+     * @param fields 조회할 필드
      * @return 페이징된 결과
      */
-    Page<StudyLog> findAllWithPaging(int page, int size);
+    Page<StudyLog> findAllWithPaging(int page, int size, PagingMode mode, Set<StudyLogField> fields);
 
     /**
      * 카테고리별 학습 일지를 페이징하여 조회
      */
-    Page<StudyLog> findByCategoryWithPaging(String category, int page, int size);
+    Page<StudyLog> findByCategoryWithPaging(String category, int page, int size,
+                                            PagingMode mode, Set<StudyLogField> fields);
 
     /**
      * 검색 조건과 함께 페이징하여 조회
@@ -66,7 +96,51 @@ public interface StudyLogDao {
             String category,
             LocalDate startDate,
             LocalDate endDate,
-            int page, int size);
+            int page, int size,
+            PagingMode mode,
+            Set<StudyLogField> fields);
+
+    // ========== CURSOR PAGING ==========
+
+    /**
+     * 커서(keyset) 방식으로 전체 학습 일지를 조회
+     * - OFFSET 없이 마지막으로 본 행 다음부터 조회하므로 페이지 깊이와 무관한 비용
+     *
+     * @param after 마지막으로 본 행의 커서 (null이면 첫 페이지)
+     * @param size  페이지당 데이터 개수
+     * @param mode  TOTAL이면 전체 개수 포함, SLICE면 생략
+     * @param fields 조회할 필드
+     * @return nextCursor가 채워진 페이징 결과
+     */
+    Page<StudyLog> findAllAfter(StudyLogCursor after, int size, PagingMode mode, Set<StudyLogField> fields);
+
+    /**
+     * 검색 조건과 함께 커서(keyset) 방식으로 조회
+     */
+    Page<StudyLog> searchAfter(
+            String titleKeyword,
+            String category,
+            LocalDate startDate,
+            LocalDate endDate,
+            StudyLogCursor after,
+            int size,
+            PagingMode mode,
+            Set<StudyLogField> fields);
+
+    // ========== STREAMING ==========
+
+    /**
+     * 검색 조건에 맞는 학습 일지를 한 건씩 consumer에 전달 (목록을 메모리에 모으지 않음)
+     * - searchWithPaging과 같은 필터를 지원하며 정렬 순서도 동일
+     * - consumer가 호출되는 동안 DB 커넥션을 점유하므로 consumer는 빠르게 처리해야 함
+     */
+    void streamSearch(
+            String titleKeyword,
+            String category,
+            LocalDate startDate,
+            LocalDate endDate,
+            Set<StudyLogField> fields,
+            Consumer<StudyLog> consumer);
 
     /**
      * 전체 데이터 개수 조회
@@ -77,4 +151,21 @@ public interface StudyLogDao {
      * 조건부 데이터 개수 조회
      */
     long countByCategory(String category);
+
+    // ========== VERSION ==========
+
+    /**
+     * 학습 일지의 마지막 수정 시각만 조회 (조건부 GET의 ETag 비교용, 본문 컬럼은 읽지 않음)
+     *
+     * @return 존재하지 않으면 빈 Optional
+     */
+    Optional<LocalDateTime> findUpdatedAtById(Long id);
+
+    /**
+     * 검색 조건에 맞는 목록의 버전 (행 개수 + 가장 최근 수정 시각)
+     * - searchWithPaging과 같은 필터를 사용하며, 모든 조건이 null이면 전체 목록
+     * - 추가/수정은 최근 수정 시각을, 삭제는 행 개수를 바꾸므로 목록이 바뀌면 버전도 바뀜
+     * - 구현체는 더 넓은 범위(저장소 전체)의 버전을 돌려줘도 됨 (버전이 더 자주 바뀔 뿐 틀리지 않음)
+     */
+    StudyLogVersion findVersion(String titleKeyword, String category, LocalDate startDate, LocalDate endDate);
 }
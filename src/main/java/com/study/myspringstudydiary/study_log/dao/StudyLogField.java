@@ -0,0 +1,81 @@
+package com.study.myspringstudydiary.study_log.dao;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 조회할 학습 일지 필드 (Sparse Fieldset)
+ *
+ * 목록 API의 fields 파라미터를 DAO까지 전달하여 필요한 컬럼만 SELECT 합니다.
+ * 예) fields=id,title,category,studyDate → content(TEXT) 컬럼을 읽지 않음
+ *
+ * categoryIcon, understandingEmoji는 각각 category, understanding 컬럼에서 파생되므로
+ * 같은 필드로 취급합니다.
+ */
+public enum StudyLogField {
+    ID("id", "id"),
+    TITLE("title", "title"),
+    CONTENT("content", "content"),
+    CATEGORY("category", "category"),
+    UNDERSTANDING("understanding", "understanding"),
+    STUDY_TIME("studyTime", "study_time"),
+    STUDY_DATE("studyDate", "study_date");
+
+    /** 전체 필드 (fields 파라미터를 생략한 경우) */
+    public static final Set<StudyLogField> ALL =
+            Collections.unmodifiableSet(EnumSet.allOf(StudyLogField.class));
+
+    private final String fieldName;
+    private final String column;
+
+    StudyLogField(String fieldName, String column) {
+        this.fieldName = fieldName;
+        this.column = column;
+    }
+
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    public String getColumn() {
+        return column;
+    }
+
+    /**
+     * fields 파라미터 파싱
+     *
+     * @param fields 콤마로 구분된 필드명 (null 또는 빈 값이면 전체 필드)
+     * @throws IllegalArgumentException 지원하지 않는 필드명
+     */
+    public static Set<StudyLogField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+
+        EnumSet<StudyLogField> result = EnumSet.noneOf(StudyLogField.class);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (!trimmed.isEmpty()) {
+                result.add(fromFieldName(trimmed));
+            }
+        }
+        return result.isEmpty() ? ALL : Collections.unmodifiableSet(result);
+    }
+
+    private static StudyLogField fromFieldName(String name) {
+        switch (name) {
+            case "categoryIcon":
+                return CATEGORY;
+            case "understandingEmoji":
+                return UNDERSTANDING;
+            default:
+                for (StudyLogField field : values()) {
+                    if (field.fieldName.equals(name)) {
+                        return field;
+                    }
+                }
+                throw new IllegalArgumentException("지원하지 않는 필드입니다: " + name);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.study.myspringstudydiary.study_log.dao;
+
+import com.study.myspringstudydiary.study_log.entity.Category;
+import com.study.myspringstudydiary.study_log.entity.StudyLogDailyStats;
+import com.study.myspringstudydiary.study_log.entity.Understanding;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+
+/**
+ * 일별 통계 롤업(study_log_daily_stats) 조회 DAO
+ *
+ * 롤업은 (날짜, 카테고리)마다 한 행이므로 1년 범위도 최대 365 × 카테고리 수 만큼만 읽습니다.
+ * 쓰기는 MySQLStudyLogDaoImpl이 원본 변경과 같은 트랜잭션에서 수행합니다.
+ */
+@Repository
+public class StudyLogStatsDao {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public StudyLogStatsDao(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 기간 내 일별 롤업 행 조회 (날짜 오름차순)
+     *
+     * @param category 카테고리 (null이면 전체)
+     */
+    public List<StudyLogDailyStats> findDaily(LocalDate startDate, LocalDate endDate, String category) {
+        List<Object> params = new ArrayList<>();
+        String sql = "SELECT study_date, category, " + String.join(", ", counterColumns(""))
+                   + " FROM study_log_daily_stats" + whereClause(params, startDate, endDate, category)
+                   + " ORDER BY study_date, category";
+
+        return jdbcTemplate.query(sql, dailyStatsRowMapper, params.toArray());
+    }
+
+    /**
+     * 기간 내 카테고리별 합계 조회
+     */
+    public List<StudyLogDailyStats> sumByCategory(LocalDate startDate, LocalDate endDate) {
+        List<Object> params = new ArrayList<>();
+        String sql = "SELECT NULL AS study_date, category, " + String.join(", ", counterColumns("SUM"))
+                   + " FROM study_log_daily_stats" + whereClause(params, startDate, endDate, null)
+                   + " GROUP BY category ORDER BY category";
+
+        return jdbcTemplate.query(sql, dailyStatsRowMapper, params.toArray());
+    }
+
+    // ========== PRIVATE METHODS ==========
+
+    private static String whereClause(List<Object> params, LocalDate startDate, LocalDate endDate,
+                                      String category) {
+        StringBuilder where = new StringBuilder(" WHERE log_count > 0");
+        if (startDate != null) {
+            where.append(" AND study_date >= ?");
+            params.add(Date.valueOf(startDate));
+        }
+        if (endDate != null) {
+            where.append(" AND study_date <= ?");
+            params.add(Date.valueOf(endDate));
+        }
+        if (category != null) {
+            where.append(" AND category = ?");
+            params.add(category);
+        }
+        return where.toString();
+    }
+
+    /**
+     * 집계 컬럼 목록 (aggregate가 비어 있지 않으면 "SUM(col) AS col" 형태)
+     */
+    private static List<String> counterColumns(String aggregate) {
+        List<String> columns = new ArrayList<>();
+        columns.add("log_count");
+        columns.add("total_study_time");
+        for (Understanding understanding : Understanding.values()) {
+            columns.add(StudyLogDailyStats.understandingColumn(understanding));
+        }
+        if (aggregate.isEmpty()) {
+            return columns;
+        }
+
+        List<String> aggregated = new ArrayList<>();
+        for (String column : columns) {
+            aggregated.add(aggregate + "(" + column + ") AS " + column);
+        }
+        return aggregated;
+    }
+
+    private final RowMapper<StudyLogDailyStats> dailyStatsRowMapper = (rs, rowNum) -> {
+        Date studyDate = rs.getDate("study_date");
+        return StudyLogDailyStats.builder()
+                .studyDate(studyDate != null ? studyDate.toLocalDate() : null)
+                .category(Category.valueOf(rs.getString("category")))
+                .logCount(rs.getLong("log_count"))
+                .totalStudyTime(rs.getLong("total_study_time"))
+                .understandingCounts(understandingCounts(rs))
+                .build();
+    };
+
+    private static EnumMap<Understanding, Long> understandingCounts(ResultSet rs) throws SQLException {
+        EnumMap<Understanding, Long> counts = new EnumMap<>(Understanding.class);
+        for (Understanding understanding : Understanding.values()) {
+            counts.put(understanding, rs.getLong(StudyLogDailyStats.understandingColumn(understanding)));
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,17 @@
+package com.study.myspringstudydiary.study_log.dao;
+
+import java.time.LocalDateTime;
+
+/**
+ * 학습 일지 목록의 버전
+ *
+ * 목록 조회 결과가 바뀌었는지 본문을 읽지 않고 판단하기 위한 값입니다.
+ * (조건에 맞는 행 개수, 그 중 가장 최근 updated_at)
+ *
+ * @param count 조건에 맞는 행 개수
+ * @param lastModified 가장 최근 수정 시각 (행이 없으면 null)
+ */
+public record StudyLogVersion(long count, LocalDateTime lastModified) {
+
+    public static final StudyLogVersion EMPTY = new StudyLogVersion(0, null);
+}
@@ -0,0 +1,222 @@
+package com.study.myspringstudydiary.study_log.dto.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 직렬화가 끝난 StudyLogResponse (UTF-8 JSON 바이트)
+ *
+ * 같은 (id, updatedAt)의 학습 일지는 응답 JSON도 같으므로, 한 번 만든 바이트를 그대로 재사용합니다.
+ * - 단건 응답: 바이트(또는 gzip 바이트)를 그대로 응답 본문으로 씀
+ * - 목록 응답: Page 안의 원소로 두면 Jackson이 객체를 다시 만들지 않고 바이트를 그대로 끼워 넣음
+ *
+ * 바이트 배열은 공유되므로 호출자는 수정하면 안 됩니다.
+ */
+@JsonSerialize(using = StudyLogJson.RawJsonSerializer.class)
+@Schema(implementation = StudyLogResponse.class)
+public final class StudyLogJson {
+
+    /** gzip 변형을 만들지 않음 */
+    public static final int NO_GZIP = -1;
+
+    private final Long id;
+    private final LocalDateTime updatedAt;
+    private final byte[] json;
+    private final int gzipMinSize;
+
+    // 처음 요청될 때 한 번만 압축 (동시에 두 번 압축되어도 결과가 같으므로 락 없이 저장)
+    private volatile byte[] gzipped;
+
+    private StudyLogJson(Long id, LocalDateTime updatedAt, byte[] json, int gzipMinSize) {
+        this.id = id;
+        this.updatedAt = updatedAt;
+        this.json = json;
+        this.gzipMinSize = gzipMinSize;
+    }
+
+    /**
+     * 응답 DTO를 JSON 바이트로 직렬화
+     *
+     * @param gzipMinSize 이 크기(바이트) 이상일 때만 gzip 변형 제공 (NO_GZIP이면 제공하지 않음)
+     */
+    public static StudyLogJson serialize(ObjectMapper objectMapper, StudyLogResponse response, int gzipMinSize) {
+        try {
+            return new StudyLogJson(response.getId(), response.getUpdatedAt(),
+                    objectMapper.writeValueAsBytes(response), gzipMinSize);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(
+                    "학습 일지 응답을 JSON으로 변환하지 못했습니다. (id: " + response.getId() + ")", e);
+        }
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    /**
+     * UTF-8 JSON 바이트
+     */
+    public byte[] getJson() {
+        return json;
+    }
+
+    /**
+     * gzip으로 압축한 JSON 바이트 (gzip을 쓰지 않거나 본문이 작으면 null)
+     */
+    public byte[] getGzipped() {
+        if (gzipMinSize == NO_GZIP || json.length < gzipMinSize) {
+            return null;
+        }
+        byte[] result = gzipped;
+        if (result == null) {
+            result = gzip(json);
+            gzipped = result;
+        }
+        return result;
+    }
+
+    private static byte[] gzip(byte[] source) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(source.length / 2 + 32);
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(source);
+        } catch (IOException e) {
+            // 메모리 스트림이므로 발생하지 않음
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    /**
+     * JSON 바이트를 그대로 출력하는 Serializer
+     * (UTF-8 출력이면 문자열 변환 없이 출력 버퍼에 바로 복사됨)
+     */
+    public static class RawJsonSerializer extends JsonSerializer<StudyLogJson> {
+
+        @Override
+        public void serialize(StudyLogJson value, JsonGenerator gen, SerializerProvider serializers)
+                throws IOException {
+            gen.writeRawValue(new RawUtf8(value.json));
+        }
+    }
+
+    /**
+     * 이미 JSON인 UTF-8 바이트를 감싼 SerializableString
+     * 원시 값 출력은 unquoted 메서드만 사용하며, quoted 메서드는 문자열로 바꿔 위임합니다.
+     */
+    private static final class RawUtf8 implements SerializableString {
+
+        private final byte[] utf8;
+
+        private RawUtf8(byte[] utf8) {
+            this.utf8 = utf8;
+        }
+
+        @Override
+        public String getValue() {
+            return new String(utf8, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public int charLength() {
+            return getValue().length();
+        }
+
+        @Override
+        public byte[] asUnquotedUTF8() {
+            return utf8;
+        }
+
+        @Override
+        public int appendUnquotedUTF8(byte[] buffer, int offset) {
+            if (offset + utf8.length > buffer.length) {
+                return -1;
+            }
+            System.arraycopy(utf8, 0, buffer, offset, utf8.length);
+            return utf8.length;
+        }
+
+        @Override
+        public int appendUnquoted(char[] buffer, int offset) {
+            String value = getValue();
+            if (offset + value.length() > buffer.length) {
+                return -1;
+            }
+            value.getChars(0, value.length(), buffer, offset);
+            return value.length();
+        }
+
+        @Override
+        public int writeUnquotedUTF8(OutputStream out) throws IOException {
+            out.write(utf8);
+            return utf8.length;
+        }
+
+        @Override
+        public int putUnquotedUTF8(ByteBuffer out) {
+            if (out.remaining() < utf8.length) {
+                return -1;
+            }
+            out.put(utf8);
+            return utf8.length;
+        }
+
+        @Override
+        public char[] asQuotedChars() {
+            return quoted().asQuotedChars();
+        }
+
+        @Override
+        public byte[] asQuotedUTF8() {
+            return quoted().asQuotedUTF8();
+        }
+
+        @Override
+        public int appendQuotedUTF8(byte[] buffer, int offset) {
+            return quoted().appendQuotedUTF8(buffer, offset);
+        }
+
+        @Override
+        public int appendQuoted(char[] buffer, int offset) {
+            return quoted().appendQuoted(buffer, offset);
+        }
+
+        @Override
+        public int writeQuotedUTF8(OutputStream out) throws IOException {
+            return quoted().writeQuotedUTF8(out);
+        }
+
+        @Override
+        public int putQuotedUTF8(ByteBuffer buffer) throws IOException {
+            return quoted().putQuotedUTF8(buffer);
+        }
+
+        private SerializedString quoted() {
+            return new SerializedString(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return getValue();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.study.myspringstudydiary.study_log.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * 학습 통계 응답 DTO
+ *
+ * - 카테고리별 합계: category가 채워지고 periodStart는 생략
+ * - 주별/월별 합계: periodStart(주의 월요일 또는 월의 1일)가 채워지고 category는 생략
+ */
+@Value
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class StudyLogStatsResponse {
+
+    String category;
+    String categoryIcon;
+    LocalDate periodStart;
+    long count;
+    long totalStudyTime;
+    Map<String, Long> understanding;
+}
@@ -0,0 +1,21 @@
+package com.study.myspringstudydiary.study_log.dto.response;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.Map;
+
+/**
+ * 전체 학습 요약 응답 DTO (인메모리 카운터 스냅샷)
+ *
+ * 카운터별로 따로 읽으므로 쓰기가 진행 중이면 항목 간 합계가 순간적으로 어긋날 수 있습니다.
+ */
+@Value
+@Builder
+public class StudyLogSummaryResponse {
+
+    long totalCount;
+    long totalStudyTime;
+    Map<String, Long> categories;
+    Map<String, Long> understanding;
+}
@@ -55,6 +55,17 @@ public class StudyLog {
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
     public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
 
+    /**
+     * 모든 필드를 복사한 새 인스턴스 반환
+     * 캐시나 메모리 저장소가 보관 중인 객체를 호출자가 직접 수정하지 못하도록 사용합니다.
+     */
+    public StudyLog copy() {
+        StudyLog copy = new StudyLog(id, title, content, category, understanding, studyTime, studyDate);
+        copy.setCreatedAt(createdAt);
+        copy.setUpdatedAt(updatedAt);
+        return copy;
+    }
+
     /**
      * 학습 일지 정보 수정
      *
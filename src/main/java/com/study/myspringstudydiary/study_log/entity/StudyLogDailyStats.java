@@ -0,0 +1,34 @@
+package com.study.myspringstudydiary.study_log.entity;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+
+/**
+ * study_log_daily_stats 롤업 테이블의 한 행 (날짜 + 카테고리별 집계)
+ *
+ * 여러 행을 합산한 결과를 담을 때는 합산 기준이 아닌 항목(studyDate 또는 category)이 null입니다.
+ */
+@Getter
+@Builder
+public class StudyLogDailyStats {
+
+    private final LocalDate studyDate;
+    private final Category category;
+    private final long logCount;
+    private final long totalStudyTime;
+    private final EnumMap<Understanding, Long> understandingCounts;
+
+    /**
+     * 이해도 컬럼명 (예: VERY_GOOD → very_good_count)
+     */
+    public static String understandingColumn(Understanding understanding) {
+        return understanding.name().toLowerCase() + "_count";
+    }
+
+    public long getUnderstandingCount(Understanding understanding) {
+        return understandingCounts.getOrDefault(understanding, 0L);
+    }
+}
@@ -0,0 +1,63 @@
+package com.study.myspringstudydiary.study_log.event;
+
+import com.study.myspringstudydiary.study_log.entity.StudyLog;
+import org.springframework.context.ApplicationEvent;
+
+import java.util.List;
+
+/**
+ * 학습 일지 변경 이벤트 (DAO가 쓰기 후 발행)
+ *
+ * - removed: 변경 전 값 (수정 전 행, 삭제된 행)
+ * - added: 변경 후 값 (새로 저장된 행, 수정 후 행)
+ * - cleared: 전체 삭제(deleteAll) 여부
+ *
+ * 변경 전 값은 DAO가 쓰기 시점에 잠금 상태에서 읽은 값이므로,
+ * 같은 행을 동시에 수정하더라도 증감 계산이 어긋나지 않습니다.
+ * 담긴 StudyLog는 모두 복사본입니다.
+ */
+public class StudyLogChangedEvent extends ApplicationEvent {
+
+    private final List<StudyLog> removed;
+    private final List<StudyLog> added;
+    private final boolean cleared;
+
+    private StudyLogChangedEvent(Object source, List<StudyLog> removed, List<StudyLog> added, boolean cleared) {
+        super(source);
+        this.removed = removed.stream().map(StudyLog::copy).toList();
+        this.added = added.stream().map(StudyLog::copy).toList();
+        this.cleared = cleared;
+    }
+
+    public static StudyLogChangedEvent created(Object source, List<StudyLog> created) {
+        return new StudyLogChangedEvent(source, List.of(), created, false);
+    }
+
+    public static StudyLogChangedEvent updated(Object source, StudyLog previous, StudyLog current) {
+        return new StudyLogChangedEvent(source, List.of(previous), List.of(current), false);
+    }
+
+    public static StudyLogChangedEvent changed(Object source, List<StudyLog> removed, List<StudyLog> added) {
+        return new StudyLogChangedEvent(source, removed, added, false);
+    }
+
+    public static StudyLogChangedEvent deleted(Object source, StudyLog deleted) {
+        return new StudyLogChangedEvent(source, List.of(deleted), List.of(), false);
+    }
+
+    public static StudyLogChangedEvent cleared(Object source) {
+        return new StudyLogChangedEvent(source, List.of(), List.of(), true);
+    }
+
+    public List<StudyLog> getRemoved() {
+        return removed;
+    }
+
+    public List<StudyLog> getAdded() {
+        return added;
+    }
+
+    public boolean isCleared() {
+        return cleared;
+    }
+}
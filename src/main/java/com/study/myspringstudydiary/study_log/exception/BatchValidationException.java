@@ -0,0 +1,21 @@
+package com.study.myspringstudydiary.study_log.exception;
+
+import java.util.Map;
+
+/**
+ * 배치 요청 중 일부 항목이 검증에 실패했을 때 발생
+ * errors: 항목 인덱스 → (필드명 → 에러 메시지)
+ */
+public class BatchValidationException extends RuntimeException {
+
+    private final Map<Integer, Map<String, String>> errors;
+
+    public BatchValidationException(Map<Integer, Map<String, String>> errors) {
+        super(errors.size() + "개 항목의 검증에 실패했습니다.");
+        this.errors = errors;
+    }
+
+    public Map<Integer, Map<String, String>> getErrors() {
+        return errors;
+    }
+}
@@ -2,11 +2,23 @@ package com.study.myspringstudydiary.study_log.exception;
 
 public class DuplicateResourceException extends RuntimeException {
 
+    // 중복된 필드명 (예: username, email), 알 수 없으면 null
+    private final String field;
+
     public DuplicateResourceException(String message) {
-        super(message);
+        this(message, null, null);
     }
 
     public DuplicateResourceException(String message, Throwable cause) {
+        this(message, null, cause);
+    }
+
+    public DuplicateResourceException(String message, String field, Throwable cause) {
         super(message, cause);
+        this.field = field;
+    }
+
+    public String getField() {
+        return field;
     }
-}
\ No newline at end of file
+}
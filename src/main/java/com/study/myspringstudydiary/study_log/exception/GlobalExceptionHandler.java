@@ -1,13 +1,23 @@
 package com.study.myspringstudydiary.study_log.exception;
 
+import com.study.myspringstudydiary.auth.exception.AuthException;
+import com.study.myspringstudydiary.auth.exception.ExpiredTokenException;
+import com.study.myspringstudydiary.auth.exception.InvalidTokenException;
+import com.study.myspringstudydiary.auth.exception.PasswordHashingUnavailableException;
+import com.study.myspringstudydiary.auth.exception.UsernameNotFoundException;
 import com.study.myspringstudydiary.study_log.dto.response.ApiResponse;
 import jakarta.validation.ConstraintViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.sql.SQLTransientConnectionException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -29,14 +39,20 @@ public class GlobalExceptionHandler {
 
     /**
      * Handle DuplicateResourceException
+     * 중복된 필드를 알면 data에 필드 → 메시지로 담음 (예: {"email": "Email already exists: ..."})
      */
     @ExceptionHandler(DuplicateResourceException.class)
-    public ResponseEntity<ApiResponse<Void>> handleDuplicateResource(
+    public ResponseEntity<ApiResponse<Map<String, String>>> handleDuplicateResource(
             DuplicateResourceException e) {
 
         return ResponseEntity
                 .status(HttpStatus.CONFLICT)
-                .body(ApiResponse.error("DUPLICATE_RESOURCE", e.getMessage()));
+                .body(ApiResponse.<Map<String, String>>builder()
+                        .success(false)
+                        .errorCode("DUPLICATE_RESOURCE")
+                        .errorMessage(e.getMessage())
+                        .data(e.getField() != null ? Map.of(e.getField(), e.getMessage()) : null)
+                        .build());
     }
 
     /**
@@ -67,6 +83,24 @@ public class GlobalExceptionHandler {
                         .build());
     }
 
+    /**
+     * Handle per-item validation errors from batch requests
+     * 배치 요청의 항목별 검증 실패 시 발생 (data: 인덱스 → 필드별 에러)
+     */
+    @ExceptionHandler(BatchValidationException.class)
+    public ResponseEntity<ApiResponse<Map<Integer, Map<String, String>>>> handleBatchValidation(
+            BatchValidationException e) {
+
+        return ResponseEntity
+                .badRequest()
+                .body(ApiResponse.<Map<Integer, Map<String, String>>>builder()
+                        .success(false)
+                        .errorCode("VALIDATION_ERROR")
+                        .errorMessage(e.getMessage())
+                        .data(e.getErrors())
+                        .build());
+    }
+
     /**
      * Handle validation errors from @PathVariable and @RequestParam
      * @PathVariable, @RequestParam 검증 실패 시 발생
@@ -96,6 +130,67 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error("INVALID_ARGUMENT", e.getMessage()));
     }
 
+    /**
+     * Handle CannotGetJdbcConnectionException
+     * DB 커넥션을 제한 시간 안에 얻지 못한 경우 (풀 포화) → 잠시 후 재시도하도록 503 응답
+     */
+    @ExceptionHandler(CannotGetJdbcConnectionException.class)
+    public ResponseEntity<ApiResponse<Void>> handleCannotGetJdbcConnection(
+            CannotGetJdbcConnectionException e) {
+
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ApiResponse.error("SERVICE_UNAVAILABLE",
+                        "요청이 많아 잠시 후 다시 시도해주세요."));
+    }
+
+    /**
+     * Handle CannotCreateTransactionException
+     * @Transactional 메서드는 트랜잭션 매니저가 커넥션을 얻으므로, 커넥션 획득 실패(풀/세마포어 포화)가
+     * CannotCreateTransactionException으로 감싸져 옴 → 원인이 SQLTransientConnectionException이면 503
+     */
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    public ResponseEntity<ApiResponse<Void>> handleCannotCreateTransaction(
+            CannotCreateTransactionException e) {
+
+        if (NestedExceptionUtils.getRootCause(e) instanceof SQLTransientConnectionException) {
+            return ResponseEntity
+                    .status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(ApiResponse.error("SERVICE_UNAVAILABLE",
+                            "요청이 많아 잠시 후 다시 시도해주세요."));
+        }
+        return handleGeneral(e);
+    }
+
+    /**
+     * Handle PasswordHashingUnavailableException
+     * 비밀번호 해시 풀이 포화된 경우 → 기다리지 않고 503 + Retry-After
+     */
+    @ExceptionHandler(PasswordHashingUnavailableException.class)
+    public ResponseEntity<ApiResponse<Void>> handlePasswordHashingUnavailable(
+            PasswordHashingUnavailableException e) {
+
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, e.getRetryAfter().toSeconds())))
+                .body(ApiResponse.error("SERVICE_UNAVAILABLE", e.getMessage()));
+    }
+
+    /**
+     * Handle authentication failures
+     * 로그인 실패(아이디/비밀번호 불일치), 유효하지 않거나 만료된 토큰 → 401
+     */
+    @ExceptionHandler({AuthException.class, UsernameNotFoundException.class,
+            InvalidTokenException.class, ExpiredTokenException.class})
+    public ResponseEntity<ApiResponse<Void>> handleUnauthorized(RuntimeException e) {
+
+        return ResponseEntity
+                .status(HttpStatus.UNAUTHORIZED)
+                .body(ApiResponse.error("UNAUTHORIZED", e.getMessage()));
+    }
+
     /**
      * Handle general exceptions (unexpected errors)
      */
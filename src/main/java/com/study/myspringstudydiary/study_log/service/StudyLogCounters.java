@@ -0,0 +1,221 @@
+package com.study.myspringstudydiary.study_log.service;
+
+import com.study.myspringstudydiary.study_log.dao.StudyLogDao;
+import com.study.myspringstudydiary.study_log.dao.StudyLogStatsDao;
+import com.study.myspringstudydiary.study_log.dto.response.StudyLogSummaryResponse;
+import com.study.myspringstudydiary.study_log.entity.Category;
+import com.study.myspringstudydiary.study_log.entity.StudyLog;
+import com.study.myspringstudydiary.study_log.entity.StudyLogDailyStats;
+import com.study.myspringstudydiary.study_log.entity.Understanding;
+import com.study.myspringstudydiary.study_log.event.StudyLogChangedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 학습 일지 인메모리 카운터
+ *
+ * - 카테고리별 / 이해도별 개수, 전체 개수, 전체 학습 시간을 LongAdder로 보관
+ *   (스레드별로 셀을 나눠 더하므로 동시 쓰기가 많아도 락이나 CAS 경합이 없음)
+ * - 시작 시 일별 롤업(study_log_daily_stats)을 카테고리별로 한 번 합산해 채우고
+ *   (원본 테이블을 스캔하지 않으므로 일지 수와 무관하게 최대 카테고리 수만큼의 행만 읽음),
+ *   이후에는 DAO가 발행하는
+ *   StudyLogChangedEvent의 변경 전 값을 빼고 변경 후 값을 더함
+ * - 변경 전 값은 DAO가 잠금(행 잠금 / writeLock) 상태에서 읽은 값이므로
+ *   같은 일지의 카테고리를 동시에 바꿔도 증감이 어긋나지 않음
+ * - 트랜잭션 안에서 발행된 이벤트는 커밋 후에만 반영하고, 롤백되면 버림
+ *
+ * 이벤트는 이 인스턴스의 DAO가 발행한 것만 받으므로, 여러 인스턴스로 운영하면
+ * 다른 인스턴스의 쓰기는 반영되지 않습니다. 이를 보정하기 위해 reseed-interval마다
+ * 롤업을 다시 합산해 새 카운터로 교체합니다. (0이면 재시드하지 않음 - 단일 인스턴스 전용)
+ * 재시드 도중 반영된 로컬 변경이 새 카운터에서 빠질 수 있으나, 다음 재시드에서 보정됩니다.
+ */
+@Slf4j
+@Component
+public class StudyLogCounters {
+
+    private final StudyLogDao studyLogDao;
+    private final StudyLogStatsDao studyLogStatsDao;
+    private final Duration reseedInterval;
+
+    // 재시드 시 새로 채운 카운터로 통째로 교체
+    private volatile Counts counts = new Counts();
+
+    private ScheduledExecutorService reseedScheduler;
+
+    public StudyLogCounters(StudyLogDao studyLogDao, StudyLogStatsDao studyLogStatsDao) {
+        this(studyLogDao, studyLogStatsDao, Duration.ZERO);
+    }
+
+    @Autowired
+    public StudyLogCounters(StudyLogDao studyLogDao, StudyLogStatsDao studyLogStatsDao,
+                            @Value("${study-log.counters.reseed-interval:5m}") Duration reseedInterval) {
+        this.studyLogDao = studyLogDao;
+        this.studyLogStatsDao = studyLogStatsDao;
+        this.reseedInterval = reseedInterval;
+    }
+
+    /**
+     * 시작 시 카운터를 채우고, 재시드 주기가 있으면 주기적 재시드를 시작
+     */
+    @PostConstruct
+    public void start() {
+        seed();
+        if (reseedInterval.isNegative() || reseedInterval.isZero()) {
+            return;
+        }
+        reseedScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "study-log-counters-reseed");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = reseedInterval.toMillis();
+        reseedScheduler.scheduleWithFixedDelay(this::reseedQuietly,
+                intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (reseedScheduler != null) {
+            reseedScheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * 롤업의 카테고리별 합계(GROUP BY category 한 번)로 새 카운터를 채운 뒤 교체
+     * (롤업은 원본 변경과 같은 트랜잭션에서 갱신되므로 원본과 항상 일치)
+     */
+    public void seed() {
+        Counts fresh = new Counts();
+        studyLogStatsDao.sumByCategory(null, null).forEach(fresh::add);
+        counts = fresh;
+        log.debug("학습 일지 카운터 시드 완료 - total={}, totalStudyTime={}",
+                fresh.totalCount.sum(), fresh.totalStudyTime.sum());
+    }
+
+    /**
+     * DAO 변경 이벤트 반영
+     *
+     * 주입받은 DAO가 아닌 다른 DAO 빈(예: 사용하지 않는 InMemory DAO)의 이벤트는 무시합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChanged(StudyLogChangedEvent event) {
+        if (event.getSource() != AopProxyUtils.getSingletonTarget(studyLogDao)
+                && event.getSource() != studyLogDao) {
+            return;
+        }
+        if (event.isCleared()) {
+            counts = new Counts();
+            return;
+        }
+        Counts current = counts;
+        event.getRemoved().forEach(studyLog -> current.apply(studyLog, -1));
+        event.getAdded().forEach(studyLog -> current.apply(studyLog, 1));
+    }
+
+    // ========== READ ==========
+
+    public long getTotalCount() {
+        return counts.totalCount.sum();
+    }
+
+    public long getCategoryCount(Category category) {
+        return counts.categoryCounts.get(category).sum();
+    }
+
+    public long getUnderstandingCount(Understanding understanding) {
+        return counts.understandingCounts.get(understanding).sum();
+    }
+
+    public long getTotalStudyTime() {
+        return counts.totalStudyTime.sum();
+    }
+
+    /**
+     * 현재 카운터 스냅샷 (DAO를 거치지 않음)
+     */
+    public StudyLogSummaryResponse snapshot() {
+        Counts current = counts;
+
+        Map<String, Long> categories = new LinkedHashMap<>();
+        current.categoryCounts.forEach((category, count) -> categories.put(category.name(), count.sum()));
+
+        Map<String, Long> understanding = new LinkedHashMap<>();
+        current.understandingCounts.forEach((key, count) -> understanding.put(key.name(), count.sum()));
+
+        return StudyLogSummaryResponse.builder()
+                .totalCount(current.totalCount.sum())
+                .totalStudyTime(current.totalStudyTime.sum())
+                .categories(categories)
+                .understanding(understanding)
+                .build();
+    }
+
+    // ========== PRIVATE METHODS ==========
+
+    private void reseedQuietly() {
+        try {
+            seed();
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 시도 (그 사이에는 기존 카운터 유지)
+            log.warn("Failed to reseed study log counters: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 한 번의 시드로 채운 카운터 묶음
+     */
+    private static final class Counts {
+
+        private final LongAdder totalCount = new LongAdder();
+        private final LongAdder totalStudyTime = new LongAdder();
+        private final Map<Category, LongAdder> categoryCounts = new EnumMap<>(Category.class);
+        private final Map<Understanding, LongAdder> understandingCounts = new EnumMap<>(Understanding.class);
+
+        private Counts() {
+            // EnumMap은 생성 시점에 모든 키를 채워두고 이후에는 읽기 전용으로만 사용
+            for (Category category : Category.values()) {
+                categoryCounts.put(category, new LongAdder());
+            }
+            for (Understanding understanding : Understanding.values()) {
+                understandingCounts.put(understanding, new LongAdder());
+            }
+        }
+
+        private void add(StudyLogDailyStats stats) {
+            totalCount.add(stats.getLogCount());
+            totalStudyTime.add(stats.getTotalStudyTime());
+            categoryCounts.get(stats.getCategory()).add(stats.getLogCount());
+            for (Understanding understanding : Understanding.values()) {
+                understandingCounts.get(understanding).add(stats.getUnderstandingCount(understanding));
+            }
+        }
+
+        private void apply(StudyLog studyLog, int sign) {
+            totalCount.add(sign);
+            if (studyLog.getStudyTime() != null) {
+                totalStudyTime.add((long) sign * studyLog.getStudyTime());
+            }
+            if (studyLog.getCategory() != null) {
+                categoryCounts.get(studyLog.getCategory()).add(sign);
+            }
+            if (studyLog.getUnderstanding() != null) {
+                understandingCounts.get(studyLog.getUnderstanding()).add(sign);
+            }
+        }
+    }
+}
@@ -1,22 +1,54 @@
 package com.study.myspringstudydiary.study_log.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.myspringstudydiary.common.ExportFormat;
 import com.study.myspringstudydiary.common.Page;
+import com.study.myspringstudydiary.common.PagingMode;
+import com.study.myspringstudydiary.common.ResourceVersion;
+import com.study.myspringstudydiary.study_log.cache.StudyLogCache;
+import com.study.myspringstudydiary.study_log.cache.StudyLogCacheStats;
+import com.study.myspringstudydiary.study_log.cache.StudyLogJsonCache;
+import com.study.myspringstudydiary.study_log.cache.StudyLogPageCache;
 import com.study.myspringstudydiary.study_log.dto.request.StudyLogCreateRequest;
 import com.study.myspringstudydiary.study_log.dto.request.StudyLogRequest;
 import com.study.myspringstudydiary.study_log.dto.request.StudyLogUpdateRequest;
+import com.study.myspringstudydiary.study_log.dto.response.StudyLogJson;
 import com.study.myspringstudydiary.study_log.dto.response.StudyLogResponse;
+import com.study.myspringstudydiary.study_log.dto.response.StudyLogSummaryResponse;
 import com.study.myspringstudydiary.study_log.dto.response.StudyLogDeleteResponse;
+import com.study.myspringstudydiary.study_log.exception.BatchValidationException;
 import com.study.myspringstudydiary.study_log.exception.StudyLogNotFoundException;
 import com.study.myspringstudydiary.study_log.entity.Category;
 import com.study.myspringstudydiary.study_log.entity.StudyLog;
 import com.study.myspringstudydiary.study_log.entity.Understanding;
+import com.study.myspringstudydiary.study_log.dao.StudyLogCursor;
 import com.study.myspringstudydiary.study_log.dao.StudyLogDao;
+import com.study.myspringstudydiary.study_log.dao.StudyLogField;
+import com.study.myspringstudydiary.study_log.dao.StudyLogVersion;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 /**
@@ -37,18 +69,41 @@ public class StudyLogService {
     // ⭐ 의존성 주입: DAO를 직접 주입받음
     private final StudyLogDao studyLogDao;
 
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper projectionMapper;
+    private final StudyLogCache studyLogCache;
+    private final StudyLogPageCache studyLogPageCache;
+    private final StudyLogJsonCache studyLogJsonCache;
+    private final StudyLogCounters studyLogCounters;
+
     // 페이징 관련 상수
     private static final int DEFAULT_PAGE_SIZE = 10;
     private static final int MAX_PAGE_SIZE = 100;
 
+    // 배치 생성 관련 상수
+    private static final int MAX_BATCH_SIZE = 1000;
+
+    // 내보내기 출력 버퍼 크기 (이 크기만큼 쌓이면 응답으로 flush)
+    private static final int EXPORT_BUFFER_SIZE = 8192;
+
     /**
      * 생성자 주입 (Constructor Injection)
      *
      * Spring이 StudyLogDao Bean을 찾아서 자동으로 주입해줍니다.
      * DAO 패턴을 사용하여 데이터 접근 로직을 직접 처리합니다.
      */
-    public StudyLogService(StudyLogDao studyLogDao) {
+    public StudyLogService(StudyLogDao studyLogDao, Validator validator, ObjectMapper objectMapper,
+                           StudyLogCache studyLogCache, StudyLogPageCache studyLogPageCache,
+                           StudyLogJsonCache studyLogJsonCache, StudyLogCounters studyLogCounters) {
         this.studyLogDao = studyLogDao;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.projectionMapper = StudyLogResponse.projectionMapper(objectMapper);
+        this.studyLogCache = studyLogCache;
+        this.studyLogPageCache = studyLogPageCache;
+        this.studyLogJsonCache = studyLogJsonCache;
+        this.studyLogCounters = studyLogCounters;
     }
 
     // ========== CREATE ==========
@@ -74,12 +129,75 @@ public class StudyLogService {
             request.getStudyDate() != null ? request.getStudyDate() : LocalDate.now()
         );
 
-        // 3. 저장 (DAO 사용)
+        // 3. 저장 (DAO 사용) 후 페이지 캐시 무효화
         StudyLog savedStudyLog = studyLogDao.save(studyLog);
+        invalidatePages();
 
         // 4. Entity → Response DTO 변환 후 반환
         return StudyLogResponse.from(savedStudyLog);
     }
+
+    /**
+     * 학습 일지 일괄 생성
+     *
+     * 1. 모든 항목을 먼저 검증하고, 하나라도 실패하면 항목별 에러와 함께 전체를 거부
+     * 2. 검증을 통과하면 DAO의 배치 INSERT로 한 번에 저장
+     *
+     * @param requests 생성 요청 DTO 리스트
+     * @return 생성된 학습 일지 응답 DTO 리스트 (요청 순서 유지)
+     */
+    @Transactional
+    public List<StudyLogResponse> createStudyLogs(List<StudyLogCreateRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("생성할 학습 일지가 없습니다.");
+        }
+        if (requests.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException(
+                    "한 번에 생성할 수 있는 학습 일지는 최대 " + MAX_BATCH_SIZE + "개입니다.");
+        }
+
+        // 1. 항목별 유효성 검증
+        Map<Integer, Map<String, String>> errors = new TreeMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            StudyLogCreateRequest request = requests.get(i);
+            if (request == null) {
+                errors.put(i, Map.of("item", "항목이 비어 있습니다."));
+                continue;
+            }
+            Map<String, String> itemErrors = new LinkedHashMap<>();
+            for (ConstraintViolation<StudyLogCreateRequest> violation : validator.validate(request)) {
+                itemErrors.putIfAbsent(violation.getPropertyPath().toString(), violation.getMessage());
+            }
+            if (!itemErrors.isEmpty()) {
+                errors.put(i, itemErrors);
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new BatchValidationException(errors);
+        }
+
+        // 2. DTO → Entity 변환
+        List<StudyLog> studyLogs = requests.stream()
+                .map(request -> new StudyLog(
+                        null,
+                        request.getTitle(),
+                        request.getContent(),
+                        Category.valueOf(request.getCategory()),
+                        Understanding.valueOf(request.getUnderstanding()),
+                        request.getStudyTime(),
+                        request.getStudyDate() != null ? request.getStudyDate() : LocalDate.now()))
+                .collect(Collectors.toList());
+
+        // 3. 배치 저장 (DAO 사용) 후 페이지 캐시 무효화
+        List<StudyLog> savedStudyLogs = studyLogDao.saveAll(studyLogs);
+        invalidatePages();
+
+        // 4. Entity → Response DTO 변환 후 반환
+        return savedStudyLogs.stream()
+                .map(StudyLogResponse::from)
+                .collect(Collectors.toList());
+    }
+
     public StudyLogResponse createStudyLog(StudyLogRequest request) {
         StudyLog studyLog = new StudyLog(
                 null,  // ID는 DAO에서 자동 생성
@@ -91,8 +209,9 @@ public class StudyLogService {
                 request.getStudyDate() != null ? request.getStudyDate() : LocalDate.now()
         );
 
-        // 3. 저장 (DAO 사용)
+        // 3. 저장 (DAO 사용) 후 페이지 캐시 무효화
         StudyLog savedStudyLog = studyLogDao.save(studyLog);
+        invalidatePages();
 
         // 4. Entity → Response DTO 변환 후 반환
         return StudyLogResponse.from(savedStudyLog);
@@ -101,15 +220,16 @@ public class StudyLogService {
 
     /**
      * 모든 학습 일지 조회
+     * @param fields 조회할 필드 (Sparse Fieldset)
      * @return 모든 학습 일지 응답 DTO 리스트
      */
-    public List<StudyLogResponse> getAllStudyLogs() {
-        // 1. DAO에서 모든 학습 일지 조회
-        List<StudyLog> studyLogs = studyLogDao.findAll();
+    public List<StudyLogJson> getAllStudyLogs(Set<StudyLogField> fields) {
+        // 1. DAO에서 모든 학습 일지 조회 (필요한 컬럼만)
+        List<StudyLog> studyLogs = studyLogDao.findAll(fields);
 
-        // 2. Entity 리스트 → Response DTO 리스트 변환
+        // 2. Entity 리스트 → 응답 JSON 리스트 변환
         return studyLogs.stream()
-                .map(StudyLogResponse::from)
+                .map(studyLog -> toJson(studyLog, fields))
                 .collect(Collectors.toList());
     }
 
@@ -119,8 +239,8 @@ public class StudyLogService {
      * @return 학습 일지 응답 DTO
      */
     public StudyLogResponse getStudyLogById(Long id) {
-        // 1. DAO에서 ID로 조회 (Optional 반환)
-        Optional<StudyLog> studyLogOpt = studyLogDao.findById(id);
+        // 1. 캐시 → (미적중 시) DAO 순서로 ID 조회 (Optional 반환)
+        Optional<StudyLog> studyLogOpt = studyLogCache.get(id, studyLogDao::findById);
 
         // 2. 존재하지 않으면 예외 처리
         StudyLog studyLog = studyLogOpt.orElseThrow(() ->
@@ -131,36 +251,53 @@ public class StudyLogService {
         return StudyLogResponse.from(studyLog);
     }
 
+    /**
+     * ID로 학습 일지 조회 (직렬화된 JSON 바이트)
+     * 같은 (id, updatedAt)이면 응답 DTO 생성과 JSON 직렬화 없이 캐시된 바이트를 반환
+     *
+     * @param id 조회할 학습 일지 ID
+     * @return 학습 일지 응답 JSON
+     */
+    public StudyLogJson getStudyLogJsonById(Long id) {
+        StudyLog studyLog = studyLogCache.get(id, studyLogDao::findById).orElseThrow(() ->
+            new IllegalArgumentException("ID " + id + "에 해당하는 학습 일지를 찾을 수 없습니다.")
+        );
+        return studyLogJsonCache.get(studyLog);
+    }
+
     /**
      * 날짜로 학습 일지 조회
      * @param date 조회할 날짜
+     * @param fields 조회할 필드
      * @return 해당 날짜의 학습 일지 리스트
      */
-    public List<StudyLogResponse> getStudyLogsByDate(LocalDate date) {
-        List<StudyLog> studyLogs = studyLogDao.findByStudyDate(date);
+    public List<StudyLogJson> getStudyLogsByDate(LocalDate date, Set<StudyLogField> fields) {
+        List<StudyLog> studyLogs = studyLogDao.findByStudyDate(date, fields);
         return studyLogs.stream()
-                .map(StudyLogResponse::from)
+                .map(studyLog -> toJson(studyLog, fields))
                 .collect(Collectors.toList());
     }
 
     /**
      * 카테고리로 학습 일지 조회
      * @param category 조회할 카테고리
+     * @param fields 조회할 필드
      * @return 해당 카테고리의 학습 일지 리스트
      */
-    public List<StudyLogResponse> getStudyLogsByCategory(Category category) {
-        List<StudyLog> studyLogs = studyLogDao.findByCategory(category.toString());
+    public List<StudyLogJson> getStudyLogsByCategory(Category category, Set<StudyLogField> fields) {
+        List<StudyLog> studyLogs = studyLogDao.findByCategory(category.toString(), fields);
         return studyLogs.stream()
-                .map(StudyLogResponse::from)
+                .map(studyLog -> toJson(studyLog, fields))
                 .collect(Collectors.toList());
     }
 
     /**
      * 카테고리로 학습 일지 조회 (String 버전)
      * @param categoryStr 조회할 카테고리 문자열
+     * @param fields 조회할 필드
      * @return 해당 카테고리의 학습 일지 리스트
      */
-    public List<StudyLogResponse> getStudyLogsByCategoryString(String categoryStr) {
+    public List<StudyLogJson> getStudyLogsByCategoryString(String categoryStr, Set<StudyLogField> fields) {
         // 유효한 카테고리인지 확인
         Category category;
         try {
@@ -168,16 +305,16 @@ public class StudyLogService {
         } catch (IllegalArgumentException e) {
             throw new IllegalArgumentException("유효하지 않은 카테고리입니다: " + categoryStr);
         }
-        return getStudyLogsByCategory(category);
+        return getStudyLogsByCategory(category, fields);
     }
 
     /**
-     * 학습 일지 총 개수를 반환합니다.
+     * 학습 일지 총 개수를 반환합니다. (인메모리 카운터, DAO 조회 없음)
      *
      * @return 학습 일지 총 개수
      */
     public long getStudyLogCount() {
-        return studyLogDao.count();
+        return studyLogCounters.getTotalCount();
     }
 
     // ========== PAGING ==========
@@ -186,21 +323,24 @@ public class StudyLogService {
      * 전체 학습 일지 페이징 조회
      * @param page 페이지 번호 (0-based)
      * @param size 페이지 크기
+     * @param mode TOTAL(전체 개수 포함) 또는 SLICE(전체 개수 생략)
+     * @param fields 조회할 필드
      * @return 페이징된 학습 일지 응답
      */
-    public Page<StudyLogResponse> getStudyLogsWithPaging(int page, int size) {
+    public Page<StudyLogJson> getStudyLogsWithPaging(int page, int size, PagingMode mode,
+                                                         Set<StudyLogField> fields) {
         // 파라미터 유효성 검증
         page = Math.max(0, page);  // 음수 방지
         size = Math.min(Math.max(1, size), MAX_PAGE_SIZE);  // 1~100 범위
 
-        Page<StudyLog> studyLogPage = studyLogDao.findAllWithPaging(page, size);
+        int pageNumber = page;
+        int pageSize = size;
+        Page<StudyLog> studyLogPage = studyLogPageCache.get(
+                pageCacheKey("all", pageNumber, pageSize, mode, fields),
+                () -> studyLogDao.findAllWithPaging(pageNumber, pageSize, mode, fields));
 
-        // Entity -> DTO 변환
-        List<StudyLogResponse> content = studyLogPage.getContent().stream()
-                .map(StudyLogResponse::from)
-                .collect(Collectors.toList());
-
-        return new Page<>(content, page, size, studyLogPage.getTotalElements());
+        // Entity -> JSON 변환 (nextCursor 등 페이지 정보 유지)
+        return studyLogPage.map(studyLog -> toJson(studyLog, fields));
     }
 
     /**
@@ -208,24 +348,30 @@ public class StudyLogService {
      * @param categoryStr 카테고리 문자열
      * @param page 페이지 번호
      * @param size 페이지 크기
+     * @param mode 페이징 모드
+     * @param fields 조회할 필드
      * @return 페이징된 학습 일지 응답
      */
-    public Page<StudyLogResponse> getStudyLogsByCategoryWithPaging(String categoryStr, int page, int size) {
+    public Page<StudyLogJson> getStudyLogsByCategoryWithPaging(String categoryStr, int page, int size,
+                                                                   PagingMode mode, Set<StudyLogField> fields) {
         page = Math.max(0, page);
         size = Math.min(Math.max(1, size), MAX_PAGE_SIZE);
 
         // 카테고리 유효성 검증
         if (categoryStr == null || categoryStr.isBlank()) {
-            return new Page<>(List.of(), page, size, 0);
+            return mode == PagingMode.SLICE
+                    ? Page.ofSlice(List.of(), page, size, false, null)
+                    : new Page<>(List.of(), page, size, 0);
         }
 
-        Page<StudyLog> studyLogPage = studyLogDao.findByCategoryWithPaging(categoryStr.toUpperCase(), page, size);
+        String category = categoryStr.toUpperCase();
+        int pageNumber = page;
+        int pageSize = size;
+        Page<StudyLog> studyLogPage = studyLogPageCache.get(
+                pageCacheKey("category", category, pageNumber, pageSize, mode, fields),
+                () -> studyLogDao.findByCategoryWithPaging(category, pageNumber, pageSize, mode, fields));
 
-        List<StudyLogResponse> content = studyLogPage.getContent().stream()
-                .map(StudyLogResponse::from)
-                .collect(Collectors.toList());
-
-        return new Page<>(content, page, size, studyLogPage.getTotalElements());
+        return studyLogPage.map(studyLog -> toJson(studyLog, fields));
     }
 
     /**
@@ -236,15 +382,19 @@ public class StudyLogService {
      * @param endDate 종료 날짜
      * @param page 페이지 번호
      * @param size 페이지 크기
+     * @param mode 페이징 모드
+     * @param fields 조회할 필드
      * @return 페이징된 학습 일지 응답
      */
-    public Page<StudyLogResponse> searchStudyLogsWithPaging(
+    public Page<StudyLogJson> searchStudyLogsWithPaging(
             String titleKeyword,
             String categoryStr,
             LocalDate startDate,
             LocalDate endDate,
             int page,
-            int size) {
+            int size,
+            PagingMode mode,
+            Set<StudyLogField> fields) {
 
         page = Math.max(0, page);
         size = Math.min(Math.max(1, size), MAX_PAGE_SIZE);
@@ -255,26 +405,144 @@ public class StudyLogService {
             category = categoryStr.toUpperCase();
         }
 
-        Page<StudyLog> studyLogPage = studyLogDao.searchWithPaging(
-                titleKeyword, category, startDate, endDate, page, size);
+        String searchCategory = category;
+        int pageNumber = page;
+        int pageSize = size;
+        Page<StudyLog> studyLogPage = studyLogPageCache.get(
+                pageCacheKey("search", titleKeyword, searchCategory, startDate, endDate,
+                        pageNumber, pageSize, mode, fields),
+                () -> studyLogDao.searchWithPaging(titleKeyword, searchCategory, startDate, endDate,
+                        pageNumber, pageSize, mode, fields));
 
-        List<StudyLogResponse> content = studyLogPage.getContent().stream()
-                .map(StudyLogResponse::from)
-                .collect(Collectors.toList());
+        return studyLogPage.map(studyLog -> toJson(studyLog, fields));
+    }
+
+    // ========== CURSOR PAGING ==========
+
+    /**
+     * 전체 학습 일지 커서(keyset) 페이징 조회
+     * OFFSET 없이 이전 페이지의 마지막 행 다음부터 조회하므로 깊은 페이지도 첫 페이지와 같은 비용
+     *
+     * @param after 이전 응답의 nextCursor (null이면 첫 페이지)
+     * @param size 페이지 크기
+     * @param mode 페이징 모드
+     * @param fields 조회할 필드
+     * @return 커서 페이징된 학습 일지 응답
+     */
+    public Page<StudyLogJson> getStudyLogsAfter(String after, int size, PagingMode mode,
+                                                    Set<StudyLogField> fields) {
+        size = Math.min(Math.max(1, size), MAX_PAGE_SIZE);
+
+        // 형식이 잘못된 커서는 IllegalArgumentException → 400 응답
+        StudyLogCursor cursor = StudyLogCursor.decode(after);
 
-        return new Page<>(content, page, size, studyLogPage.getTotalElements());
+        return studyLogDao.findAllAfter(cursor, size, mode, fields)
+                .map(studyLog -> toJson(studyLog, fields));
     }
 
     /**
-     * 카테고리별 학습 일지 개수 조회
+     * 검색 + 커서(keyset) 페이징 조회
+     * @param after 이전 응답의 nextCursor (null이면 첫 페이지)
+     */
+    public Page<StudyLogJson> searchStudyLogsAfter(
+            String titleKeyword,
+            String categoryStr,
+            LocalDate startDate,
+            LocalDate endDate,
+            String after,
+            int size,
+            PagingMode mode,
+            Set<StudyLogField> fields) {
+
+        size = Math.min(Math.max(1, size), MAX_PAGE_SIZE);
+
+        String category = null;
+        if (categoryStr != null && !categoryStr.isBlank()) {
+            category = categoryStr.toUpperCase();
+        }
+
+        StudyLogCursor cursor = StudyLogCursor.decode(after);
+
+        return studyLogDao.searchAfter(titleKeyword, category, startDate, endDate, cursor, size, mode, fields)
+                .map(studyLog -> toJson(studyLog, fields));
+    }
+
+    /**
+     * 카테고리별 학습 일지 개수 조회 (인메모리 카운터, DAO 조회 없음)
      * @param categoryStr 카테고리 문자열
-     * @return 해당 카테고리의 학습 일지 개수
+     * @return 해당 카테고리의 학습 일지 개수 (알 수 없는 카테고리는 0)
      */
     public long getStudyLogCountByCategory(String categoryStr) {
         if (categoryStr == null || categoryStr.isBlank()) {
             return 0;
         }
-        return studyLogDao.countByCategory(categoryStr.toUpperCase());
+        try {
+            return studyLogCounters.getCategoryCount(Category.valueOf(categoryStr.toUpperCase()));
+        } catch (IllegalArgumentException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * 전체 학습 요약 (카테고리별 / 이해도별 개수, 전체 학습 시간)
+     * @return 인메모리 카운터 스냅샷
+     */
+    public StudyLogSummaryResponse getStudyLogSummary() {
+        return studyLogCounters.snapshot();
+    }
+
+    // ========== EXPORT ==========
+
+    /**
+     * 검색 조건에 맞는 학습 일지를 out으로 바로 써 내려감 (스트리밍 내보내기)
+     *
+     * DAO가 한 행씩 넘겨주면 즉시 한 줄로 직렬화하여 버퍼에 쓰므로
+     * 테이블 크기와 무관하게 메모리 사용량이 일정합니다.
+     *
+     * @param format NDJSON 또는 CSV
+     * @param fields 내보낼 필드 (CSV 컬럼 순서는 StudyLogField 선언 순서)
+     * @param out 응답 출력 스트림
+     */
+    public void exportStudyLogs(
+            String titleKeyword,
+            String categoryStr,
+            LocalDate startDate,
+            LocalDate endDate,
+            ExportFormat format,
+            Set<StudyLogField> fields,
+            OutputStream out) throws IOException {
+
+        String category = null;
+        if (categoryStr != null && !categoryStr.isBlank()) {
+            category = categoryStr.toUpperCase();
+        }
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), EXPORT_BUFFER_SIZE);
+
+        if (format == ExportFormat.CSV) {
+            writer.write(fields.stream()
+                    .map(StudyLogField::getFieldName)
+                    .collect(Collectors.joining(",")));
+            writer.write('\n');
+        }
+
+        try {
+            studyLogDao.streamSearch(titleKeyword, category, startDate, endDate, fields, studyLog -> {
+                try {
+                    writer.write(format == ExportFormat.CSV
+                            ? toCsvLine(studyLog, fields)
+                            : mapperFor(fields).writeValueAsString(StudyLogResponse.from(studyLog, fields)));
+                    writer.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            // 클라이언트 연결 종료 등 쓰기 실패 → 원래 IOException으로 전달
+            throw e.getCause();
+        }
+
+        writer.flush();
     }
 
     // ========== UPDATE ==========
@@ -288,8 +556,8 @@ public class StudyLogService {
      */
     public StudyLogResponse updateStudyLog(Long id, StudyLogUpdateRequest request) {
 
-        // 1. 기존 학습 일지 조회 (DAO 사용)
-        Optional<StudyLog> studyLogOpt = studyLogDao.findById(id);
+        // 1. 기존 학습 일지 조회 (캐시 적중 시 DB 왕복 없음, 반환값은 복사본이라 수정해도 안전)
+        Optional<StudyLog> studyLogOpt = studyLogCache.get(id, studyLogDao::findById);
         StudyLog studyLog = studyLogOpt.orElseThrow(() ->
             new IllegalArgumentException("해당 학습 일지를 찾을 수 없습니다. (id: " + id + ")")
         );
@@ -333,8 +601,13 @@ public class StudyLogService {
             request.getStudyDate()
         );
 
-        // 6. 저장 및 응답 반환 (DAO 사용)
-        StudyLog updatedStudyLog = studyLogDao.update(studyLog);
+        // 6. 저장 후 페이지 캐시 무효화 및 응답 반환 (엔티티 캐시는 StudyLogCacheInvalidator가 무효화)
+        StudyLog updatedStudyLog;
+        try {
+            updatedStudyLog = studyLogDao.update(studyLog);
+        } finally {
+            invalidatePages();
+        }
         return StudyLogResponse.from(updatedStudyLog);
     }
 
@@ -348,20 +621,152 @@ public class StudyLogService {
      * @throws StudyLogNotFoundException 해당 ID의 학습 일지가 없는 경우
      */
     public StudyLogDeleteResponse deleteStudyLog(Long id) {
-        // 1. 존재 여부 확인 (DAO 사용)
-        if (!studyLogDao.existsById(id)) {
+        // 1. 존재 여부 확인 (캐시 적중 시 DB 왕복 없음)
+        if (studyLogCache.get(id, studyLogDao::findById).isEmpty()) {
             throw new StudyLogNotFoundException(id);
         }
 
-        // 2. 삭제 수행 (DAO 사용)
-        studyLogDao.deleteById(id);
+        // 2. 삭제 수행 후 페이지 캐시 무효화 (엔티티 캐시는 StudyLogCacheInvalidator가 무효화)
+        try {
+            studyLogDao.deleteById(id);
+        } finally {
+            invalidatePages();
+        }
 
         // 3. 삭제 결과 반환
         return StudyLogDeleteResponse.of(id);
     }
 
+    // ========== CONDITIONAL GET ==========
+
+    /**
+     * 단건 조회의 현재 버전 (본문 없이 updated_at만 PK로 조회)
+     * 클라이언트가 가진 ETag와 같으면 컨트롤러가 본문을 읽지 않고 304로 응답합니다.
+     *
+     * @return 학습 일지가 없거나 수정 시각이 없으면 빈 Optional
+     */
+    public Optional<ResourceVersion> getStudyLogVersion(Long id) {
+        return studyLogDao.findUpdatedAtById(id)
+                .map(updatedAt -> ResourceVersion.of(id, updatedAt));
+    }
+
+    /**
+     * 목록(페이징/검색) 조회의 현재 버전 (행 개수 + 최근 수정 시각)
+     * 필터는 searchStudyLogsWithPaging과 같고, 모든 조건이 null이면 전체 목록의 버전입니다.
+     *
+     * @param representationKey 페이지 번호, 크기, 커서, 필드 등 응답 모양을 결정하는 요청 조건
+     */
+    public ResourceVersion getStudyLogsVersion(String titleKeyword, String categoryStr,
+                                               LocalDate startDate, LocalDate endDate,
+                                               String representationKey) {
+        String category = null;
+        if (categoryStr != null && !categoryStr.isBlank()) {
+            category = categoryStr.toUpperCase();
+        }
+
+        StudyLogVersion version = studyLogDao.findVersion(titleKeyword, category, startDate, endDate);
+        return ResourceVersion.ofCollection(representationKey, version.count(), version.lastModified());
+    }
+
+    // ========== CACHE ==========
+
+    /**
+     * 엔티티 캐시 통계 조회 (적중/미적중/제거 횟수)
+     */
+    public StudyLogCacheStats getCacheStats() {
+        return studyLogCache.stats();
+    }
+
     // ========== PRIVATE METHODS ==========
 
+    /**
+     * 페이지 캐시 무효화 (세대 증가)
+     * 트랜잭션 안이면 커밋 이후에 실행하여, 커밋 전 데이터가 새 세대로 캐시되지 않도록 함
+     */
+    private void invalidatePages() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    studyLogPageCache.invalidateAll();
+                }
+            });
+            return;
+        }
+        studyLogPageCache.invalidateAll();
+    }
+
+    /**
+     * 목록 원소를 JSON 바이트로 변환
+     * 전체 필드면 (id, updatedAt)별 캐시를 사용하고, 일부 필드만 조회한 경우는 응답 모양이 달라 매번 직렬화
+     */
+    private StudyLogJson toJson(StudyLog studyLog, Set<StudyLogField> fields) {
+        if (fields.containsAll(StudyLogField.ALL)) {
+            return studyLogJsonCache.get(studyLog);
+        }
+        return StudyLogJson.serialize(projectionMapper, StudyLogResponse.from(studyLog, fields), StudyLogJson.NO_GZIP);
+    }
+
+    /**
+     * 조회 필드에 맞는 ObjectMapper (일부 필드만 조회하면 제외된 필드를 생략)
+     */
+    private ObjectMapper mapperFor(Set<StudyLogField> fields) {
+        return fields.containsAll(StudyLogField.ALL) ? objectMapper : projectionMapper;
+    }
+
+    /**
+     * 페이지 캐시 키 생성 (정규화된 조회 조건을 ':'로 연결)
+     * - null은 빈 문자열, 필드는 선언 순서로 정렬, 문자열 값은 URL 인코딩하여 구분자 충돌 방지
+     */
+    private static String pageCacheKey(String query, Object... params) {
+        StringJoiner key = new StringJoiner(":").add(query);
+        for (Object param : params) {
+            if (param == null) {
+                key.add("");
+            } else if (param instanceof Set<?> fields) {
+                key.add(fields.stream()
+                        .map(field -> (StudyLogField) field)
+                        .sorted()
+                        .map(Enum::name)
+                        .collect(Collectors.joining(",")));
+            } else {
+                key.add(URLEncoder.encode(param.toString(), StandardCharsets.UTF_8));
+            }
+        }
+        return key.toString();
+    }
+
+    /**
+     * 요청한 필드만 CSV 한 줄로 변환 (쉼표, 따옴표, 줄바꿈이 포함된 값은 따옴표로 감쌈)
+     */
+    private static String toCsvLine(StudyLog studyLog, Set<StudyLogField> fields) {
+        StringJoiner line = new StringJoiner(",");
+        for (StudyLogField field : fields) {
+            Object value = switch (field) {
+                case ID -> studyLog.getId();
+                case TITLE -> studyLog.getTitle();
+                case CONTENT -> studyLog.getContent();
+                case CATEGORY -> studyLog.getCategory() != null ? studyLog.getCategory().name() : null;
+                case UNDERSTANDING -> studyLog.getUnderstanding() != null ? studyLog.getUnderstanding().name() : null;
+                case STUDY_TIME -> studyLog.getStudyTime();
+                case STUDY_DATE -> studyLog.getStudyDate();
+            };
+            line.add(escapeCsv(value));
+        }
+        return line.toString();
+    }
+
+    private static String escapeCsv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+
     /**
      * 생성 요청 유효성 검증
      */
@@ -0,0 +1,120 @@
+package com.study.myspringstudydiary.study_log.service;
+
+import com.study.myspringstudydiary.study_log.dao.StudyLogStatsDao;
+import com.study.myspringstudydiary.study_log.dto.response.StudyLogStatsResponse;
+import com.study.myspringstudydiary.study_log.entity.Category;
+import com.study.myspringstudydiary.study_log.entity.StudyLogDailyStats;
+import com.study.myspringstudydiary.study_log.entity.Understanding;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 학습 통계 서비스
+ *
+ * 원본 테이블을 스캔하지 않고 일별 롤업(study_log_daily_stats)만 읽어
+ * 카테고리별 / 주별 / 월별 합계를 계산합니다.
+ */
+@Slf4j
+@Service
+public class StudyLogStatsService {
+
+    private final StudyLogStatsDao studyLogStatsDao;
+
+    public StudyLogStatsService(StudyLogStatsDao studyLogStatsDao) {
+        this.studyLogStatsDao = studyLogStatsDao;
+    }
+
+    /**
+     * 카테고리별 합계
+     */
+    public List<StudyLogStatsResponse> getCategoryStats(LocalDate startDate, LocalDate endDate) {
+        validateRange(startDate, endDate);
+
+        return studyLogStatsDao.sumByCategory(startDate, endDate).stream()
+                .map(stats -> StudyLogStatsResponse.builder()
+                        .category(stats.getCategory().name())
+                        .categoryIcon(stats.getCategory().getIcon())
+                        .count(stats.getLogCount())
+                        .totalStudyTime(stats.getTotalStudyTime())
+                        .understanding(understandingHistogram(List.of(stats)))
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 주별 합계 (월요일 시작)
+     */
+    public List<StudyLogStatsResponse> getWeeklyStats(LocalDate startDate, LocalDate endDate, String categoryStr) {
+        return getPeriodStats(startDate, endDate, categoryStr,
+                date -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)));
+    }
+
+    /**
+     * 월별 합계
+     */
+    public List<StudyLogStatsResponse> getMonthlyStats(LocalDate startDate, LocalDate endDate, String categoryStr) {
+        return getPeriodStats(startDate, endDate, categoryStr, date -> date.withDayOfMonth(1));
+    }
+
+    // ========== PRIVATE METHODS ==========
+
+    /**
+     * 일별 롤업 행을 기간 시작일 기준으로 묶어 합산
+     */
+    private List<StudyLogStatsResponse> getPeriodStats(LocalDate startDate, LocalDate endDate, String categoryStr,
+                                                       Function<LocalDate, LocalDate> periodOf) {
+        validateRange(startDate, endDate);
+        String category = toCategoryName(categoryStr);
+
+        Map<LocalDate, List<StudyLogDailyStats>> byPeriod = new TreeMap<>();
+        for (StudyLogDailyStats daily : studyLogStatsDao.findDaily(startDate, endDate, category)) {
+            byPeriod.computeIfAbsent(periodOf.apply(daily.getStudyDate()), key -> new ArrayList<>()).add(daily);
+        }
+
+        List<StudyLogStatsResponse> result = new ArrayList<>();
+        byPeriod.forEach((periodStart, rows) -> result.add(StudyLogStatsResponse.builder()
+                .periodStart(periodStart)
+                .count(rows.stream().mapToLong(StudyLogDailyStats::getLogCount).sum())
+                .totalStudyTime(rows.stream().mapToLong(StudyLogDailyStats::getTotalStudyTime).sum())
+                .understanding(understandingHistogram(rows))
+                .build()));
+        return result;
+    }
+
+    private static Map<String, Long> understandingHistogram(List<StudyLogDailyStats> rows) {
+        Map<String, Long> histogram = new LinkedHashMap<>();
+        for (Understanding understanding : Understanding.values()) {
+            histogram.put(understanding.name(),
+                    rows.stream().mapToLong(row -> row.getUnderstandingCount(understanding)).sum());
+        }
+        return histogram;
+    }
+
+    private static void validateRange(LocalDate startDate, LocalDate endDate) {
+        if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("시작 날짜는 종료 날짜보다 이후일 수 없습니다.");
+        }
+    }
+
+    private static String toCategoryName(String categoryStr) {
+        if (categoryStr == null || categoryStr.isBlank()) {
+            return null;
+        }
+        try {
+            return Category.valueOf(categoryStr.trim().toUpperCase()).name();
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("유효하지 않은 카테고리입니다: " + categoryStr);
+        }
+    }
+}
@@ -24,6 +24,20 @@ VALUES ('Spring Boot 시작하기', 'Spring Boot 프로젝트 생성과 기본 
         DATE_SUB(CURDATE(), INTERVAL 7 DAY));
 
 
+-- 일별 통계 롤업 재계산 (직접 INSERT한 데이터는 DAO를 거치지 않으므로)
+DELETE FROM study_log_daily_stats;
+INSERT INTO study_log_daily_stats
+    (study_date, category, log_count, total_study_time,
+     very_good_count, good_count, normal_count, bad_count, very_bad_count)
+SELECT study_date, category, COUNT(*), SUM(study_time),
+       SUM(CASE WHEN understanding = 'VERY_GOOD' THEN 1 ELSE 0 END),
+       SUM(CASE WHEN understanding = 'GOOD' THEN 1 ELSE 0 END),
+       SUM(CASE WHEN understanding = 'NORMAL' THEN 1 ELSE 0 END),
+       SUM(CASE WHEN understanding = 'BAD' THEN 1 ELSE 0 END),
+       SUM(CASE WHEN understanding = 'VERY_BAD' THEN 1 ELSE 0 END)
+FROM study_logs
+GROUP BY study_date, category;
+
 
 -- 샘플 사용자 데이터 (비밀번호: password123)
 INSERT INTO users (email, password, username, role) VALUES
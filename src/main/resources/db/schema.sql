@@ -5,6 +5,7 @@ CREATE DATABASE IF NOT EXISTS diary_db CHARACTER SET utf8mb4 COLLATE utf8mb4_uni
 USE diary_db;
 
 -- 기존 테이블 삭제 (초기화를 위해)
+DROP TABLE IF EXISTS study_log_daily_stats;
 DROP TABLE IF EXISTS study_logs;
 
 -- 학습 일지 테이블 생성
@@ -16,8 +17,9 @@ CREATE TABLE study_logs (
     understanding VARCHAR(20) NOT NULL COMMENT '이해도 (VERY_GOOD, GOOD, NORMAL, BAD, VERY_BAD)',
     study_time INT NOT NULL COMMENT '학습 시간 (분)',
     study_date DATE NOT NULL COMMENT '학습 날짜',
-    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '생성 일시',
-    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정 일시'
+    created_at TIMESTAMP(6) DEFAULT CURRENT_TIMESTAMP(6) COMMENT '생성 일시',
+    -- ETag 계산에 쓰이므로 같은 초 안의 연속 수정도 구분되도록 마이크로초까지 저장
+    updated_at TIMESTAMP(6) DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6) COMMENT '수정 일시'
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='학습 일지 테이블';
 
 -- 인덱스 생성
@@ -25,6 +27,11 @@ CREATE INDEX idx_study_logs_category ON study_logs(category);
 CREATE INDEX idx_study_logs_study_date ON study_logs(study_date);
 CREATE INDEX idx_study_logs_understanding ON study_logs(understanding);
 CREATE INDEX idx_study_logs_created_at ON study_logs(created_at);
+-- 카테고리 필터 + (study_date, id) 정렬/커서 조회용 복합 인덱스 (InnoDB 보조 인덱스는 PK를 포함)
+CREATE INDEX idx_study_logs_category_date ON study_logs(category, study_date);
+-- 조건부 GET의 목록 버전(COUNT(*), MAX(updated_at)) 계산용 (전체 / 카테고리별 모두 인덱스만 읽음)
+CREATE INDEX idx_study_logs_updated_at ON study_logs(updated_at);
+CREATE INDEX idx_study_logs_category_updated_at ON study_logs(category, updated_at);
 
 -- 초기 테스트 데이터 삽입
 INSERT INTO study_logs (title, content, category, understanding, study_time, study_date) VALUES
@@ -35,6 +42,37 @@ INSERT INTO study_logs (title, content, category, understanding, study_time, stu
 ('Spring Boot Global Response', 'Learned about standardizing API responses with ApiResponse wrapper', 'SPRING', 'GOOD', 150, '2026-01-27'),
 ('Lombok 적용 완료', 'Spring Boot 프로젝트에 Lombok을 성공적으로 적용했습니다. @Getter, @Setter, @Builder, @Slf4j 등을 활용했습니다.', 'SPRING', 'VERY_GOOD', 180, '2026-01-27');
 
+-- 일별 통계 롤업 테이블 생성
+-- (날짜, 카테고리)마다 한 행이며 MySQLStudyLogDaoImpl의 저장/수정/삭제 시 함께 증감됨
+CREATE TABLE study_log_daily_stats (
+    study_date DATE NOT NULL COMMENT '학습 날짜',
+    category VARCHAR(50) NOT NULL COMMENT '카테고리',
+    log_count INT NOT NULL DEFAULT 0 COMMENT '학습 일지 수',
+    total_study_time BIGINT NOT NULL DEFAULT 0 COMMENT '총 학습 시간 (분)',
+    very_good_count INT NOT NULL DEFAULT 0 COMMENT '이해도 VERY_GOOD 수',
+    good_count INT NOT NULL DEFAULT 0 COMMENT '이해도 GOOD 수',
+    normal_count INT NOT NULL DEFAULT 0 COMMENT '이해도 NORMAL 수',
+    bad_count INT NOT NULL DEFAULT 0 COMMENT '이해도 BAD 수',
+    very_bad_count INT NOT NULL DEFAULT 0 COMMENT '이해도 VERY_BAD 수',
+    PRIMARY KEY (study_date, category)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='학습 일지 일별 통계 롤업';
+
+-- 카테고리별 합계 조회용 인덱스
+CREATE INDEX idx_daily_stats_category_date ON study_log_daily_stats(category, study_date);
+
+-- 초기 데이터로 롤업 채우기
+INSERT INTO study_log_daily_stats
+    (study_date, category, log_count, total_study_time,
+     very_good_count, good_count, normal_count, bad_count, very_bad_count)
+SELECT study_date, category, COUNT(*), SUM(study_time),
+       SUM(CASE WHEN understanding = 'VERY_GOOD' THEN 1 ELSE 0 END),
+       SUM(CASE WHEN understanding = 'GOOD' THEN 1 ELSE 0 END),
+       SUM(CASE WHEN understanding = 'NORMAL' THEN 1 ELSE 0 END),
+       SUM(CASE WHEN understanding = 'BAD' THEN 1 ELSE 0 END),
+       SUM(CASE WHEN understanding = 'VERY_BAD' THEN 1 ELSE 0 END)
+FROM study_logs
+GROUP BY study_date, category;
+
 -- 테이블 생성 확인
 SELECT 'study_logs table created successfully with initial data' AS message;
 
@@ -43,15 +81,24 @@ SELECT 'study_logs table created successfully with initial data' AS message;
 -- Users 테이블 생성
 CREATE TABLE users (
                        id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '사용자 ID',
-                       email VARCHAR(255) NOT NULL UNIQUE COMMENT '이메일',
-                       password VARCHAR(255) NOT NULL COMMENT '비밀번호 (BCrypt)',
+                       email VARCHAR(255) NULL COMMENT '이메일 (카카오 이메일 동의를 안 한 소셜 사용자는 NULL)',
+                       password VARCHAR(255) NULL COMMENT '비밀번호 (BCrypt, 소셜 로그인 사용자는 NULL)',
                        username VARCHAR(100) NOT NULL COMMENT '사용자명',
                        role VARCHAR(50) NOT NULL DEFAULT 'USER' COMMENT '권한 (USER, ADMIN, MANAGER)',
                        enabled BOOLEAN DEFAULT TRUE COMMENT '활성화 여부',
+                       provider VARCHAR(20) NULL COMMENT '소셜 로그인 제공자 (KAKAO), 일반 가입은 NULL',
+                       provider_id VARCHAR(100) NULL COMMENT '제공자가 발급한 사용자 ID',
+                       nickname VARCHAR(100) NULL COMMENT '소셜 프로필 닉네임',
+                       profile_image VARCHAR(500) NULL COMMENT '소셜 프로필 이미지 URL',
                        created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '생성 일시',
                        updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정 일시'
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='사용자 테이블';
 
 -- 인덱스 생성
-CREATE INDEX idx_users_email ON users(email);
-CREATE INDEX idx_users_role ON users(role);
\ No newline at end of file
+-- 가입 시 중복 검사는 두 유니크 인덱스가 담당 (위반 시 인덱스 이름으로 중복 필드를 판별하므로 이름 변경 주의)
+CREATE UNIQUE INDEX uk_users_email ON users(email);
+CREATE INDEX idx_users_role ON users(role);
+-- 로그인/인증 시 사용자명 조회 (전체 스캔 방지 + 중복 가입 방지)
+CREATE UNIQUE INDEX uk_users_username ON users(username);
+-- 소셜 로그인 사용자 조회 + 같은 카카오 계정의 중복 가입 방지 (일반 가입 사용자는 NULL이라 제약을 받지 않음)
+CREATE UNIQUE INDEX uk_users_provider_provider_id ON users(provider, provider_id);
\ No newline at end of file
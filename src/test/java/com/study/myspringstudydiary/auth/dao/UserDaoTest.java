@@ -0,0 +1,227 @@
+package com.study.myspringstudydiary.auth.dao;
+
+import com.study.myspringstudydiary.auth.entity.User;
+import com.study.myspringstudydiary.auth.entity.UserRole;
+import com.study.myspringstudydiary.auth.event.UserChangedEvent;
+import com.study.myspringstudydiary.study_log.exception.DuplicateResourceException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * UserDao 테스트 (H2, MySQL 모드)
+ */
+class UserDaoTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private UserDao userDao;
+    private List<UserChangedEvent> events;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:users;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        dataSource.setDriverClassName("org.h2.Driver");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS users");
+        jdbcTemplate.execute("""
+                CREATE TABLE users (
+                    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                    email VARCHAR(255) NULL,
+                    password VARCHAR(255) NULL,
+                    username VARCHAR(100) NOT NULL,
+                    role VARCHAR(50) NOT NULL DEFAULT 'USER',
+                    enabled BOOLEAN DEFAULT TRUE,
+                    provider VARCHAR(20) NULL,
+                    provider_id VARCHAR(100) NULL,
+                    nickname VARCHAR(100) NULL,
+                    profile_image VARCHAR(500) NULL,
+                    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+                )""");
+        jdbcTemplate.execute("CREATE UNIQUE INDEX uk_users_email ON users(email)");
+        jdbcTemplate.execute("CREATE UNIQUE INDEX uk_users_username ON users(username)");
+        jdbcTemplate.execute("CREATE UNIQUE INDEX uk_users_provider_provider_id ON users(provider, provider_id)");
+        events = new ArrayList<>();
+        userDao = new UserDao(jdbcTemplate, event -> events.add((UserChangedEvent) event));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS users");
+    }
+
+    @Test
+    @DisplayName("provider와 providerId로 소셜 로그인 사용자를 조회한다")
+    void findByProviderAndProviderId() {
+        userDao.save(kakaoUser("1234"));
+
+        assertThat(userDao.findByProviderAndProviderId("KAKAO", "1234"))
+                .get()
+                .extracting(User::getNickname)
+                .isEqualTo("nick-1234");
+        assertThat(userDao.findByProviderAndProviderId("KAKAO", "9999")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 카카오 계정으로 동시에 가입해도 사용자는 한 명만 생성된다")
+    void saveSocialUserIfAbsent_concurrent() throws Exception {
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<User>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return userDao.saveSocialUserIfAbsent(kakaoUser("1234"));
+                }));
+            }
+            start.countDown();
+
+            Long id = null;
+            for (Future<User> future : futures) {
+                User user = future.get();
+                if (id == null) {
+                    id = user.getId();
+                }
+                assertThat(user.getId()).isEqualTo(id);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Integer.class);
+        assertThat(count).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 사용자명으로는 저장할 수 없다 (uk_users_username)")
+    void save_duplicateUsername() {
+        userDao.save(localUser("tester", "a@example.com"));
+
+        assertThatThrownBy(() -> userDao.save(localUser("tester", "b@example.com")))
+                .isInstanceOf(DuplicateKeyException.class);
+    }
+
+    @Test
+    @DisplayName("가입 시 중복된 사용자명/이메일은 해당 필드를 담은 DuplicateResourceException으로 바뀐다")
+    void saveUnique_reportsDuplicateField() {
+        userDao.saveUnique(localUser("tester", "a@example.com"));
+
+        assertThatThrownBy(() -> userDao.saveUnique(localUser("tester", "b@example.com")))
+                .isInstanceOf(DuplicateResourceException.class)
+                .extracting("field").isEqualTo("username");
+        assertThatThrownBy(() -> userDao.saveUnique(localUser("other", "a@example.com")))
+                .isInstanceOf(DuplicateResourceException.class)
+                .extracting("field").isEqualTo("email");
+    }
+
+    @Test
+    @DisplayName("입력값에 다른 인덱스 이름이 들어 있어도 실제로 위반한 인덱스로 필드를 판별한다")
+    void saveUnique_valueContainingIndexName() {
+        userDao.saveUnique(localUser("first", "uk_users_username@example.com"));
+
+        assertThatThrownBy(() -> userDao.saveUnique(localUser("second", "uk_users_username@example.com")))
+                .isInstanceOf(DuplicateResourceException.class)
+                .extracting("field").isEqualTo("email");
+    }
+
+    @Test
+    @DisplayName("MySQL 메시지에서는 입력값이 아닌 for key 뒤의 인덱스 이름을 읽는다")
+    void violatedIndexName_mysql() {
+        assertThat(UserDao.violatedIndexName(
+                "Duplicate entry 'uk_users_username@x.com' for key 'users.uk_users_email'"))
+                .isEqualTo("uk_users_email");
+        assertThat(UserDao.violatedIndexName(
+                "Duplicate entry 'x' for key 'users.uk_users_email' for key 'users.uk_users_username'"))
+                .isEqualTo("uk_users_username");
+        assertThat(UserDao.violatedIndexName("Deadlock found when trying to get lock")).isNull();
+    }
+
+    @Test
+    @DisplayName("같은 사용자명으로 동시에 가입해도 한 건만 저장되고 나머지는 중복 예외를 받는다")
+    void saveUnique_concurrent() throws Exception {
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<Boolean>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < threads; i++) {
+                String email = "user" + i + "@example.com";
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        userDao.saveUnique(localUser("tester", email));
+                        return true;
+                    } catch (DuplicateResourceException e) {
+                        assertThat(e.getField()).isEqualTo("username");
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+
+            int saved = 0;
+            for (Future<Boolean> future : futures) {
+                if (future.get()) {
+                    saved++;
+                }
+            }
+            assertThat(saved).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Integer.class);
+        assertThat(count).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("저장과 비밀번호 교체 후 UserChangedEvent를 발행한다")
+    void publishesUserChangedEvent() {
+        User saved = userDao.save(localUser("tester", "a@example.com"));
+        userDao.updatePassword(saved.getId(), "hash", "new-hash");
+        userDao.updatePassword(saved.getId(), "stale-hash", "other-hash");
+
+        assertThat(events).hasSize(2);
+        assertThat(events.get(0).getUsername()).isEqualTo("tester");
+        assertThat(events.get(1).getUserId()).isEqualTo(saved.getId());
+    }
+
+    private static User localUser(String username, String email) {
+        return User.builder()
+                .username(username)
+                .email(email)
+                .password("hash")
+                .role(UserRole.USER)
+                .enabled(true)
+                .build();
+    }
+
+    private static User kakaoUser(String providerId) {
+        return User.builder()
+                .username("kakao_" + providerId)
+                .email(null)
+                .provider("KAKAO")
+                .providerId(providerId)
+                .nickname("nick-" + providerId)
+                .role(UserRole.USER)
+                .enabled(true)
+                .build();
+    }
+}
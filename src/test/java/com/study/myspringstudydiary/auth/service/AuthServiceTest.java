@@ -0,0 +1,147 @@
+package com.study.myspringstudydiary.auth.service;
+
+import com.study.myspringstudydiary.auth.dao.UserDao;
+import com.study.myspringstudydiary.auth.dto.LoginRequest;
+import com.study.myspringstudydiary.auth.dto.LoginResponse;
+import com.study.myspringstudydiary.auth.dto.RefreshTokenRequest;
+import com.study.myspringstudydiary.auth.dto.SignupRequest;
+import com.study.myspringstudydiary.auth.dto.SingupResponse;
+import com.study.myspringstudydiary.auth.entity.User;
+import com.study.myspringstudydiary.auth.entity.UserRole;
+import com.study.myspringstudydiary.auth.event.UserChangedEvent;
+import com.study.myspringstudydiary.auth.exception.PasswordHashingUnavailableException;
+import com.study.myspringstudydiary.auth.token.InMemoryRefreshTokenStore;
+import com.study.myspringstudydiary.auth.token.RefreshTokenService;
+import com.study.myspringstudydiary.global.security.jwt.JwtTokenProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AuthServiceTest {
+
+    private UserDao userDao;
+    private PasswordEncoder passwordEncoder;
+    private UserDetailsCache userDetailsCache;
+    private AuthService authService;
+
+    @BeforeEach
+    void setUp() {
+        userDao = mock(UserDao.class);
+        passwordEncoder = mock(PasswordEncoder.class);
+        userDetailsCache = new UserDetailsCache(100, Duration.ofMinutes(5));
+        authService = new AuthService(userDao, passwordEncoder,
+                new JwtTokenProvider("test-secret-key-for-jwt-token-generation-must-be-longer-than-256-bits", 1800, 604800),
+                new RefreshTokenService(new InMemoryRefreshTokenStore(100, Clock.systemUTC()),
+                        Duration.ofDays(7), Duration.ofDays(30), Clock.systemUTC()),
+                userDetailsCache);
+
+        User user = User.builder().id(1L).username("tester").password("old-hash").role(UserRole.USER).build();
+        when(userDao.findByUserName("tester")).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches("password", "old-hash")).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("저장된 해시의 비용이 목표와 다르면 로그인 시 다시 해시하여 저장한다")
+    void rehashesOnLogin() {
+        when(passwordEncoder.upgradeEncoding("old-hash")).thenReturn(true);
+        when(passwordEncoder.encode("password")).thenReturn("new-hash");
+
+        authService.login(new LoginRequest("tester", "password"));
+
+        verify(userDao).updatePassword(1L, "old-hash", "new-hash");
+    }
+
+    @Test
+    @DisplayName("비용이 목표와 같으면 재해시하지 않는다")
+    void skipsRehashWhenOnTarget() {
+        when(passwordEncoder.upgradeEncoding("old-hash")).thenReturn(false);
+
+        authService.login(new LoginRequest("tester", "password"));
+
+        verify(passwordEncoder, never()).encode(any());
+        verify(userDao, never()).updatePassword(anyLong(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("해시 풀이 포화되어 재해시를 못 해도 로그인은 성공한다")
+    void loginSucceedsWhenRehashRejected() {
+        when(passwordEncoder.upgradeEncoding("old-hash")).thenReturn(true);
+        when(passwordEncoder.encode("password"))
+                .thenThrow(new PasswordHashingUnavailableException("busy", Duration.ofSeconds(1)));
+
+        assertThat(authService.login(new LoginRequest("tester", "password")).getUsername()).isEqualTo("tester");
+        verify(userDao, never()).updatePassword(anyLong(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("로그인 성공 시 액세스 토큰과 리프레시 토큰을 발급한다")
+    void loginIssuesAccessToken() {
+        when(passwordEncoder.upgradeEncoding("old-hash")).thenReturn(false);
+
+        LoginResponse response = authService.login(new LoginRequest("tester", "password"));
+
+        assertThat(response.getAccessToKen()).isNotBlank();
+        assertThat(response.getRefreshToken()).isNotBlank();
+        assertThat(response.getUserRole()).isEqualTo("USER");
+    }
+
+    @Test
+    @DisplayName("반복 로그인은 캐시된 사용자로 처리하고, 사용자가 변경되면 다시 조회한다")
+    void loginUsesUserCache() {
+        when(passwordEncoder.upgradeEncoding("old-hash")).thenReturn(false);
+
+        authService.login(new LoginRequest("tester", "password"));
+        authService.login(new LoginRequest("tester", "password"));
+        verify(userDao, times(1)).findByUserName("tester");
+
+        userDetailsCache.onUserChanged(new UserChangedEvent(userDao, 1L, null));
+        authService.login(new LoginRequest("tester", "password"));
+        verify(userDao, times(2)).findByUserName("tester");
+    }
+
+    @Test
+    @DisplayName("회원가입은 중복 조회 없이 INSERT 한 번으로 처리한다")
+    void signupInsertsOnce() {
+        when(passwordEncoder.encode("password")).thenReturn("hash");
+        when(userDao.saveUnique(any())).thenAnswer(invocation -> {
+            User user = invocation.getArgument(0);
+            user.setId(2L);
+            return user;
+        });
+
+        SingupResponse response = authService.signup(new SignupRequest("newbie", "password", "new@example.com"));
+
+        assertThat(response.getUsername()).isEqualTo("newbie");
+        verify(userDao, never()).existsByUsername(anyString());
+        verify(userDao, never()).existsByEmail(anyString());
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰으로 비밀번호 확인 없이 토큰을 재발급한다")
+    void refreshWithoutPassword() {
+        when(passwordEncoder.upgradeEncoding("old-hash")).thenReturn(false);
+        LoginResponse login = authService.login(new LoginRequest("tester", "password"));
+
+        LoginResponse refreshed = authService.refresh(new RefreshTokenRequest(login.getRefreshToken()));
+
+        assertThat(refreshed.getAccessToKen()).isNotBlank();
+        assertThat(refreshed.getRefreshToken()).isNotEqualTo(login.getRefreshToken());
+        assertThat(refreshed.getUsername()).isEqualTo("tester");
+        verify(passwordEncoder, times(1)).matches("password", "old-hash");
+    }
+}
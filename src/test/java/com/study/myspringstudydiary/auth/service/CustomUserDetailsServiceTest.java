@@ -0,0 +1,95 @@
+package com.study.myspringstudydiary.auth.service;
+
+import com.study.myspringstudydiary.auth.dao.UserDao;
+import com.study.myspringstudydiary.auth.entity.User;
+import com.study.myspringstudydiary.auth.entity.UserRole;
+import com.study.myspringstudydiary.auth.event.UserChangedEvent;
+import com.study.myspringstudydiary.auth.exception.UsernameNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CustomUserDetailsServiceTest {
+
+    private UserDao userDao;
+    private UserDetailsCache userDetailsCache;
+    private CustomUserDetailsService service;
+
+    @BeforeEach
+    void setUp() {
+        userDao = mock(UserDao.class);
+        userDetailsCache = new UserDetailsCache(100, Duration.ofMinutes(5));
+        service = new CustomUserDetailsService(userDao, userDetailsCache);
+
+        when(userDao.findByUserName("tester")).thenReturn(Optional.of(user("hash")));
+    }
+
+    @Test
+    @DisplayName("같은 사용자를 반복 조회하면 DB는 한 번만 조회한다")
+    void cachesLookup() {
+        UserDetails first = service.loadUserByUsername("tester");
+        service.loadUserByUsername("tester");
+        service.loadUserByUsername("tester");
+
+        verify(userDao, times(1)).findByUserName("tester");
+        assertThat(first.getPassword()).isEqualTo("hash");
+        assertThat(first.getAuthorities()).extracting(Object::toString).containsExactly("ROLE_USER");
+    }
+
+    @Test
+    @DisplayName("사용자가 변경되면 캐시를 무효화하고 새 값을 읽는다")
+    void invalidatesOnUserChanged() {
+        service.loadUserByUsername("tester");
+        when(userDao.findByUserName("tester")).thenReturn(Optional.of(user("new-hash")));
+
+        // 비밀번호 교체처럼 ID만 담긴 이벤트
+        userDetailsCache.onUserChanged(new UserChangedEvent(userDao, 1L, null));
+
+        assertThat(service.loadUserByUsername("tester").getPassword()).isEqualTo("new-hash");
+        verify(userDao, times(2)).findByUserName("tester");
+    }
+
+    @Test
+    @DisplayName("반환된 UserDetails의 비밀번호를 지워도 캐시된 값은 그대로다")
+    void returnsCopies() {
+        ((CredentialsContainer) service.loadUserByUsername("tester")).eraseCredentials();
+
+        assertThat(service.loadUserByUsername("tester").getPassword()).isEqualTo("hash");
+    }
+
+    @Test
+    @DisplayName("없는 사용자는 캐시하지 않고 예외를 던진다")
+    void missingUserIsNotCached() {
+        when(userDao.findByUserName("nobody")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.loadUserByUsername("nobody"))
+                .isInstanceOf(UsernameNotFoundException.class);
+        assertThatThrownBy(() -> service.loadUserByUsername("nobody"))
+                .isInstanceOf(UsernameNotFoundException.class);
+
+        verify(userDao, times(2)).findByUserName("nobody");
+        assertThat(userDetailsCache.size()).isZero();
+    }
+
+    private static User user(String password) {
+        return User.builder()
+                .id(1L)
+                .username("tester")
+                .password(password)
+                .role(UserRole.USER)
+                .enabled(true)
+                .build();
+    }
+}
@@ -0,0 +1,115 @@
+package com.study.myspringstudydiary.auth.service;
+
+import com.study.myspringstudydiary.auth.entity.User;
+import com.study.myspringstudydiary.auth.event.UserChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SocialUserCacheTest {
+
+    private final SocialUserCache cache = new SocialUserCache(100, Duration.ofMinutes(1));
+
+    @Test
+    @DisplayName("같은 카카오 ID로 동시에 첫 로그인해도 loader는 한 번만 실행된다")
+    void concurrentFirstLogin() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<User>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return cache.get("KAKAO", "1234", () -> {
+                        loads.incrementAndGet();
+                        sleep(50);
+                        return User.builder().id(1L).providerId("1234").build();
+                    });
+                }));
+            }
+            start.countDown();
+            for (Future<User> future : futures) {
+                assertThat(future.get().getId()).isEqualTo(1L);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("두 번째 로그인부터는 loader(DB)를 거치지 않는다")
+    void cachesLoadedUser() {
+        AtomicInteger loads = new AtomicInteger();
+        for (int i = 0; i < 3; i++) {
+            cache.get("KAKAO", "1", () -> {
+                loads.incrementAndGet();
+                return User.builder().id(1L).build();
+            });
+        }
+
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("꺼낸 객체를 수정해도 캐시된 값은 바뀌지 않는다")
+    void returnsCopies() {
+        User first = cache.get("KAKAO", "1", () -> User.builder().id(1L).nickname("원본").build());
+        first.setNickname("변경");
+
+        User second = cache.get("KAKAO", "1", () -> null);
+
+        assertThat(second.getNickname()).isEqualTo("원본");
+    }
+
+    @Test
+    @DisplayName("사용자 변경 이벤트를 받으면 같은 ID의 항목을 무효화한다")
+    void onUserChanged_invalidatesById() {
+        AtomicInteger loads = new AtomicInteger();
+        cache.get("KAKAO", "1", () -> {
+            loads.incrementAndGet();
+            return User.builder().id(1L).username("kakao_1").nickname("원본").build();
+        });
+        cache.get("KAKAO", "2", () -> User.builder().id(2L).username("kakao_2").build());
+
+        cache.onUserChanged(new UserChangedEvent(this, 1L, null));
+
+        User reloaded = cache.get("KAKAO", "1", () -> {
+            loads.incrementAndGet();
+            return User.builder().id(1L).username("kakao_1").nickname("변경").build();
+        });
+        assertThat(reloaded.getNickname()).isEqualTo("변경");
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(cache.get("KAKAO", "2", () -> null)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("username만 있는 사용자 변경 이벤트로도 무효화한다")
+    void onUserChanged_invalidatesByUsername() {
+        cache.get("KAKAO", "1", () -> User.builder().id(1L).username("kakao_1").build());
+
+        cache.onUserChanged(new UserChangedEvent(this, null, "kakao_1"));
+
+        assertThat(cache.get("KAKAO", "1", () -> null)).isNull();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
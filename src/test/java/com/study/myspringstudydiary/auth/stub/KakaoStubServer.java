@@ -0,0 +1,150 @@
+package com.study.myspringstudydiary.auth.stub;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 카카오 OAuth / 사용자 정보 API 스텁 서버 (오프라인 부하 테스트 / 테스트용)
+ *
+ * - POST /oauth/token: 인가 코드를 그대로 담은 액세스 토큰 발급
+ * - GET /v2/user/me: 액세스 토큰에서 만든 고정 사용자 정보 (같은 코드 → 같은 카카오 ID)
+ * - 모든 응답은 latencyMillis만큼 늦게 보내 실제 카카오 API 지연을 흉내
+ * - 접속한 클라이언트 포트 수로 실제로 맺어진 TCP 연결 수를 셈 (keep-alive 확인용)
+ *
+ * 실행: ./gradlew kakaoStub -PstubPort=8089 -PstubLatencyMillis=50
+ */
+public class KakaoStubServer {
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final long latencyMillis;
+    private final Set<InetSocketAddress> connections = ConcurrentHashMap.newKeySet();
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicInteger failuresLeft = new AtomicInteger();
+
+    private KakaoStubServer(int port, long latencyMillis) throws IOException {
+        this.latencyMillis = latencyMillis;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 1024);
+        this.executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.createContext("/oauth/token", this::token);
+        server.createContext("/v2/user/me", this::userInfo);
+    }
+
+    public static KakaoStubServer start(int port, long latencyMillis) throws IOException {
+        KakaoStubServer stub = new KakaoStubServer(port, latencyMillis);
+        stub.server.start();
+        return stub;
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 8089;
+        long latencyMillis = args.length > 1 ? Long.parseLong(args[1]) : 50;
+        KakaoStubServer stub = start(port, latencyMillis);
+        System.out.printf("카카오 스텁 서버 시작 - http://localhost:%d (지연 %dms)%n", stub.getPort(), latencyMillis);
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public int getConnectionCount() {
+        return connections.size();
+    }
+
+    public long getRequestCount() {
+        return requests.get();
+    }
+
+    /**
+     * 다음 count번의 요청에 503을 응답 (재시도 확인용)
+     */
+    public void failNext(int count) {
+        failuresLeft.set(count);
+    }
+
+    // ========== HANDLERS ==========
+
+    private void token(HttpExchange exchange) throws IOException {
+        if (!begin(exchange)) {
+            return;
+        }
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        String code = formValue(body, "code");
+        respond(exchange, 200, """
+                {"access_token":"stub-%s","token_type":"bearer","refresh_token":"stub-refresh-%s","expires_in":21599}"""
+                .formatted(code, code));
+    }
+
+    private void userInfo(HttpExchange exchange) throws IOException {
+        if (!begin(exchange)) {
+            return;
+        }
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        String token = authorization == null ? "" : authorization.replaceFirst("^Bearer ", "");
+        long id = Math.abs((long) token.hashCode()) + 1;
+        respond(exchange, 200, """
+                {"id":%d,"kakao_account":{"email":"user%d@stub.kakao.com","profile":{"nickname":"stub%d","profile_image_url":"http://localhost/stub/%d.png"}}}"""
+                .formatted(id, id, id, id));
+    }
+
+    // ========== PRIVATE METHODS ==========
+
+    private boolean begin(HttpExchange exchange) throws IOException {
+        connections.add(exchange.getRemoteAddress());
+        requests.incrementAndGet();
+        sleep();
+        if (failuresLeft.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+            exchange.getRequestBody().readAllBytes();
+            respond(exchange, 503, "{\"msg\":\"stub failure\"}");
+            return false;
+        }
+        return true;
+    }
+
+    private void sleep() {
+        if (latencyMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(latencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static String formValue(String form, String name) {
+        for (String pair : form.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0 && pair.substring(0, eq).equals(name)) {
+                return pair.substring(eq + 1);
+            }
+        }
+        return "";
+    }
+}
@@ -0,0 +1,151 @@
+package com.study.myspringstudydiary.auth.token;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * RedisRefreshTokenStore 테스트
+ *
+ * Redis 서버 없이 StringRedisTemplate을 메모리 맵 기반 스텁으로 바꾸고,
+ * Lua 스크립트는 스크립트가 호출하는 명령 순서대로 흉내 내어 결과를 확인합니다.
+ */
+class RedisRefreshTokenStoreTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+    private static final String PREFIX = "refresh:";
+
+    private StubRedisTemplate redisTemplate;
+    private RedisRefreshTokenStore store;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = new StubRedisTemplate();
+        store = new RedisRefreshTokenStore(redisTemplate, PREFIX, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("저장은 필드와 만료 시각을 스크립트 한 번으로 기록하고, 조회하면 같은 토큰을 돌려준다")
+    void save_singleScriptWithExpiry() {
+        RefreshToken token = token("hash-1");
+
+        store.save(token);
+
+        assertThat(redisTemplate.scripts).hasSize(1);
+        assertThat(redisTemplate.scripts.get(0)).contains("HSET", "PEXPIREAT");
+        assertThat(redisTemplate.expireAtMillis).containsEntry(PREFIX + "hash-1", token.expiresAt().toEpochMilli());
+        assertThat(store.find("hash-1")).contains(token);
+    }
+
+    @Test
+    @DisplayName("없는 토큰이나 만료 시각이 지난 토큰은 조회되지 않는다")
+    void find_missingOrExpired() {
+        store.save(token("hash-1"));
+
+        RedisRefreshTokenStore later = new RedisRefreshTokenStore(
+                redisTemplate, PREFIX, Clock.fixed(NOW.plus(Duration.ofDays(7)), ZoneOffset.UTC));
+
+        assertThat(store.find("unknown")).isEmpty();
+        assertThat(later.find("hash-1")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("사용됨 표시는 처음 한 번만 성공하고, 이후 조회에서 used로 보인다")
+    void markUsed_onlyOnce() {
+        store.save(token("hash-1"));
+
+        assertThat(store.markUsed("hash-1")).isTrue();
+        assertThat(store.markUsed("hash-1")).isFalse();
+
+        assertThat(redisTemplate.scripts.get(1)).contains("EXISTS", "HSETNX");
+        assertThat(store.find("hash-1")).hasValueSatisfying(token -> assertThat(token.used()).isTrue());
+    }
+
+    @Test
+    @DisplayName("없는 토큰은 사용됨으로 표시하지 않고 키도 만들지 않는다")
+    void markUsed_missingToken() {
+        assertThat(store.markUsed("unknown")).isFalse();
+
+        assertThat(redisTemplate.hashes).doesNotContainKey(PREFIX + "unknown");
+        assertThat(store.find("unknown")).isEmpty();
+    }
+
+    // ========== PRIVATE METHODS ==========
+
+    private static RefreshToken token(String tokenHash) {
+        return new RefreshToken(tokenHash, "tester", "USER", "family-1",
+                NOW.plus(Duration.ofDays(7)), NOW.plus(Duration.ofDays(30)), false);
+    }
+
+    /**
+     * 해시는 메모리 맵에 보관하고, 스크립트는 본문에 담긴 명령으로 구분해 같은 동작을 수행하는 스텁
+     */
+    private static class StubRedisTemplate extends StringRedisTemplate {
+
+        private final Map<String, Map<Object, Object>> hashes = new HashMap<>();
+        private final Map<String, Long> expireAtMillis = new HashMap<>();
+        private final List<String> scripts = new ArrayList<>();
+        private final HashOperations<String, Object, Object> hashOperations;
+
+        @SuppressWarnings("unchecked")
+        StubRedisTemplate() {
+            hashOperations = mock(HashOperations.class);
+            when(hashOperations.entries(anyString())).thenAnswer(invocation ->
+                    new HashMap<>(hashes.getOrDefault(invocation.<String>getArgument(0), Map.of())));
+        }
+
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        public <HK, HV> HashOperations<String, HK, HV> opsForHash() {
+            return (HashOperations) hashOperations;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T execute(RedisScript<T> script, List<String> keys, Object... args) {
+            String source = script.getScriptAsString();
+            scripts.add(source);
+            String key = keys.get(0);
+
+            if (source.contains("HSETNX")) {
+                // EXISTS → 0이면 0, 아니면 HSETNX used 1
+                Map<Object, Object> fields = hashes.get(key);
+                if (fields == null || fields.containsKey("used")) {
+                    return (T) Long.valueOf(0);
+                }
+                fields.put("used", "1");
+                return (T) Long.valueOf(1);
+            }
+            if (source.contains("PEXPIREAT")) {
+                // HSET username role family expiresAt familyExpiresAt → PEXPIREAT expiresAt
+                Map<Object, Object> fields = hashes.computeIfAbsent(key, k -> new LinkedHashMap<>());
+                fields.put("username", args[0]);
+                fields.put("role", args[1]);
+                fields.put("family", args[2]);
+                fields.put("expiresAt", args[3]);
+                fields.put("familyExpiresAt", args[4]);
+                expireAtMillis.put(key, Long.parseLong((String) args[3]));
+                return (T) Long.valueOf(1);
+            }
+            throw new IllegalArgumentException("Unexpected script: " + source);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.study.myspringstudydiary.auth.token;
+
+import com.study.myspringstudydiary.auth.exception.InvalidTokenException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RefreshTokenServiceTest {
+
+    private MutableClock clock;
+    private RefreshTokenService service;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+        service = new RefreshTokenService(new InMemoryRefreshTokenStore(100, clock),
+                Duration.ofDays(7), Duration.ofDays(30), clock);
+    }
+
+    @Test
+    @DisplayName("회전하면 새 토큰을 발급하고 사용자 정보를 그대로 넘긴다")
+    void rotate() {
+        String token = service.issue("tester", "USER");
+
+        RefreshTokenService.Rotation rotation = service.rotate(token);
+
+        assertThat(rotation.username()).isEqualTo("tester");
+        assertThat(rotation.role()).isEqualTo("USER");
+        assertThat(rotation.refreshToken()).isNotEqualTo(token);
+    }
+
+    @Test
+    @DisplayName("이미 사용한 토큰이 다시 오면 같은 묶음의 최신 토큰까지 모두 폐기한다")
+    void reuseRevokesFamily() {
+        String first = service.issue("tester", "USER");
+        String second = service.rotate(first).refreshToken();
+
+        assertThatThrownBy(() -> service.rotate(first)).isInstanceOf(InvalidTokenException.class);
+        assertThatThrownBy(() -> service.rotate(second)).isInstanceOf(InvalidTokenException.class);
+    }
+
+    @Test
+    @DisplayName("회전할 때마다 만료가 뒤로 밀리지만 최대 수명은 넘지 않는다")
+    void slidingExpiryCappedByMaxLifetime() {
+        String token = service.issue("tester", "USER");
+
+        // 6일마다 회전하면 7일 만료에 걸리지 않고 계속 이어짐
+        for (int i = 0; i < 4; i++) {
+            clock.advance(Duration.ofDays(6));
+            token = service.rotate(token).refreshToken();
+        }
+
+        // 24일째 발급된 토큰은 최대 수명(30일)까지만 유효
+        clock.advance(Duration.ofDays(6).plusSeconds(1));
+        String expired = token;
+        assertThatThrownBy(() -> service.rotate(expired)).isInstanceOf(InvalidTokenException.class);
+    }
+
+    @Test
+    @DisplayName("회전하지 않으면 슬라이딩 만료 시간이 지나 무효가 된다")
+    void expiresWithoutRotation() {
+        String token = service.issue("tester", "USER");
+
+        clock.advance(Duration.ofDays(7));
+
+        assertThatThrownBy(() -> service.rotate(token)).isInstanceOf(InvalidTokenException.class);
+    }
+
+    @Test
+    @DisplayName("로그아웃하면 그 토큰으로 더 이상 재발급할 수 없다")
+    void revoke() {
+        String token = service.issue("tester", "USER");
+
+        service.revoke(token);
+
+        assertThatThrownBy(() -> service.rotate(token)).isInstanceOf(InvalidTokenException.class);
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.study.myspringstudydiary.global.metrics;
+
+import com.study.myspringstudydiary.common.PagingMode;
+import com.study.myspringstudydiary.study_log.dao.InMemoryStudyLogDao;
+import com.study.myspringstudydiary.study_log.dao.StudyLogDao;
+import com.study.myspringstudydiary.study_log.dao.StudyLogField;
+import com.study.myspringstudydiary.study_log.entity.StudyLog;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DaoMetricsAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private StudyLogDao studyLogDao;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        AspectJProxyFactory factory = new AspectJProxyFactory(new InMemoryStudyLogDao());
+        factory.addAspect(new DaoMetricsAspect(meterRegistry));
+        studyLogDao = factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("검색 조건 중 값이 있는 것만 filters 태그로 남긴다")
+    void tagsPresentFilters() {
+        studyLogDao.searchWithPaging("Spring", "", LocalDate.of(2026, 1, 1), null,
+                0, 10, PagingMode.SLICE, StudyLogField.ALL);
+
+        Timer timer = meterRegistry.find(DaoMetricsAspect.METRIC_NAME)
+                .tag("dao", "InMemoryStudyLogDao")
+                .tag("operation", "searchWithPaging")
+                .tag("filters", "title+startDate")
+                .tag("mode", "SLICE")
+                .tag("outcome", "success")
+                .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("조건이 없는 메서드는 filters=none으로 기록한다")
+    void noFilters() {
+        studyLogDao.count();
+        studyLogDao.count();
+
+        Timer timer = meterRegistry.find(DaoMetricsAspect.METRIC_NAME)
+                .tag("operation", "count")
+                .tag("filters", "none")
+                .tag("mode", "none")
+                .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("예외가 나도 outcome=error로 기록하고 예외는 그대로 던진다")
+    void recordsErrors() {
+        assertThatThrownBy(() -> studyLogDao.update(new StudyLog()))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        Timer timer = meterRegistry.find(DaoMetricsAspect.METRIC_NAME)
+                .tag("operation", "update")
+                .tag("outcome", "error")
+                .tag("exception", "IllegalArgumentException")
+                .timer();
+        assertThat(timer).isNotNull();
+    }
+}
@@ -0,0 +1,75 @@
+package com.study.myspringstudydiary.global.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimiter rateLimiter = new RateLimiter(List.of(
+                new RateLimitRule("signup", "POST", "/api/v1/logs/signup", RateLimitRule.KeyType.IP,
+                        1, Duration.ofMinutes(1))),
+                1000, new SimpleMeterRegistry(), System::nanoTime);
+        filter = new RateLimitFilter(rateLimiter, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("허용된 요청에는 RateLimit 헤더를 붙이고 다음 필터로 넘긴다")
+    void addsHeaders() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(signupRequest(), response, chain);
+
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(response.getHeader(RateLimitFilter.HEADER_LIMIT)).isEqualTo("1");
+        assertThat(response.getHeader(RateLimitFilter.HEADER_REMAINING)).isEqualTo("0");
+        assertThat(response.getHeader(RateLimitFilter.HEADER_RESET)).isEqualTo("60");
+    }
+
+    @Test
+    @DisplayName("한도를 넘으면 다음 필터로 넘기지 않고 429와 Retry-After로 응답한다")
+    void rejectsWith429() throws Exception {
+        filter.doFilter(signupRequest(), new MockHttpServletResponse(), new MockFilterChain());
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(signupRequest(), response, chain);
+
+        assertThat(chain.getRequest()).isNull();
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("60");
+        assertThat(response.getContentAsString()).contains("TOO_MANY_REQUESTS");
+    }
+
+    @Test
+    @DisplayName("규칙이 없는 경로에는 헤더를 붙이지 않는다")
+    void passesThroughUnmatched() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/logs");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain());
+
+        assertThat(response.getHeader(RateLimitFilter.HEADER_LIMIT)).isNull();
+    }
+
+    private static MockHttpServletRequest signupRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/logs/signup");
+        request.setRemoteAddr("10.0.0.1");
+        return request;
+    }
+}
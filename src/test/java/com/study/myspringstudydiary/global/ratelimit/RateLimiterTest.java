@@ -0,0 +1,90 @@
+package com.study.myspringstudydiary.global.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimiterTest {
+
+    private AtomicLong now;
+    private SimpleMeterRegistry registry;
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+        registry = new SimpleMeterRegistry();
+        rateLimiter = new RateLimiter(List.of(
+                new RateLimitRule("login", "POST", "/api/v1/logs/login", RateLimitRule.KeyType.IP,
+                        3, Duration.ofSeconds(3)),
+                new RateLimitRule("search", "GET", "/api/v1/logs/search", RateLimitRule.KeyType.USER,
+                        2, Duration.ofSeconds(1))),
+                1000, registry, now::get);
+    }
+
+    @Test
+    @DisplayName("버킷 크기만큼 허용하고 그 다음 요청은 거절한다")
+    void rejectsWhenBucketIsEmpty() {
+        assertThat(check("POST", "/api/v1/logs/login", "1.1.1.1", null).remaining()).isEqualTo(2);
+        assertThat(check("POST", "/api/v1/logs/login", "1.1.1.1", null).remaining()).isEqualTo(1);
+        assertThat(check("POST", "/api/v1/logs/login", "1.1.1.1", null).remaining()).isZero();
+
+        RateLimiter.Decision rejected = check("POST", "/api/v1/logs/login", "1.1.1.1", null);
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.retryAfterSeconds()).isEqualTo(1);
+        assertThat(rejected.resetSeconds()).isEqualTo(3);
+
+        assertThat(registry.counter("rate_limit.requests", "route", "login", "outcome", "allowed").count())
+                .isEqualTo(3);
+        assertThat(registry.counter("rate_limit.requests", "route", "login", "outcome", "rejected").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 refillPeriod / capacity마다 토큰이 하나씩 다시 생긴다")
+    void refillsOverTime() {
+        for (int i = 0; i < 3; i++) {
+            check("POST", "/api/v1/logs/login", "1.1.1.1", null);
+        }
+        assertThat(check("POST", "/api/v1/logs/login", "1.1.1.1", null).allowed()).isFalse();
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+        assertThat(check("POST", "/api/v1/logs/login", "1.1.1.1", null).allowed()).isTrue();
+        assertThat(check("POST", "/api/v1/logs/login", "1.1.1.1", null).allowed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("IP 규칙은 IP별로, 사용자 규칙은 사용자별로 버킷을 나눈다")
+    void separatesBucketsByKey() {
+        for (int i = 0; i < 3; i++) {
+            check("POST", "/api/v1/logs/login", "1.1.1.1", null);
+        }
+        assertThat(check("POST", "/api/v1/logs/login", "2.2.2.2", null).allowed()).isTrue();
+
+        // 같은 IP라도 사용자가 다르면 다른 버킷
+        check("GET", "/api/v1/logs/search", "1.1.1.1", "alice");
+        check("GET", "/api/v1/logs/search", "1.1.1.1", "alice");
+        assertThat(check("GET", "/api/v1/logs/search", "1.1.1.1", "alice").allowed()).isFalse();
+        assertThat(check("GET", "/api/v1/logs/search", "1.1.1.1", "bob").allowed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("맞는 규칙이 없는 요청은 제한하지 않는다")
+    void ignoresUnmatchedRequests() {
+        assertThat(rateLimiter.check("GET", "/api/v1/logs/1", "1.1.1.1", null)).isNull();
+        assertThat(rateLimiter.check("GET", "/api/v1/logs/login", "1.1.1.1", null)).isNull();
+    }
+
+    private RateLimiter.Decision check(String method, String path, String ip, String username) {
+        return rateLimiter.check(method, path, ip, username);
+    }
+}
@@ -0,0 +1,95 @@
+package com.study.myspringstudydiary.global.security.config;
+
+import com.study.myspringstudydiary.auth.dto.KakaoUserResponse;
+import com.study.myspringstudydiary.auth.stub.KakaoStubServer;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KakaoApiConfigTest {
+
+    private KakaoStubServer stub;
+    private CloseableHttpClient httpClient;
+    private RestClient authClient;
+    private RestClient apiClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stub = KakaoStubServer.start(0, 0);
+        KakaoApiConfig config = new KakaoApiConfig();
+        httpClient = config.kakaoHttpClient(10, 10, Duration.ofSeconds(1), Duration.ofSeconds(2),
+                Duration.ofSeconds(1), Duration.ofSeconds(30), 2, Duration.ofMillis(10));
+        String baseUrl = "http://localhost:" + stub.getPort();
+        authClient = config.kakaoAuthClient(httpClient, baseUrl);
+        apiClient = config.kakaoApiClient(httpClient, baseUrl);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        httpClient.close();
+        stub.stop();
+    }
+
+    @Test
+    @DisplayName("여러 번 호출해도 keep-alive로 커넥션 하나를 재사용한다")
+    void reusesConnection() {
+        for (int i = 0; i < 5; i++) {
+            KakaoUserResponse user = getUser("token-" + i);
+            assertThat(user.getId()).isNotNull();
+        }
+        authClient.post()
+                .uri("/oauth/token")
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .body("grant_type=authorization_code&code=abc")
+                .retrieve()
+                .toBodilessEntity();
+
+        assertThat(stub.getRequestCount()).isEqualTo(6);
+        assertThat(stub.getConnectionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("GET은 503 응답 후 백오프하여 재시도한다")
+    void retriesIdempotentRequests() {
+        stub.failNext(2);
+
+        KakaoUserResponse user = getUser("token");
+
+        assertThat(user.getId()).isNotNull();
+        assertThat(stub.getRequestCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("전송된 토큰 요청(POST)은 재시도하지 않는다")
+    void doesNotRetrySentPost() {
+        stub.failNext(1);
+
+        assertThatThrownBy(() -> authClient.post()
+                .uri("/oauth/token")
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .body("grant_type=authorization_code&code=abc")
+                .retrieve()
+                .toBodilessEntity())
+                .isInstanceOf(HttpServerErrorException.class);
+        assertThat(stub.getRequestCount()).isEqualTo(1);
+    }
+
+    private KakaoUserResponse getUser(String token) {
+        return apiClient.get()
+                .uri("/v2/user/me")
+                .header("Authorization", "Bearer " + token)
+                .retrieve()
+                .body(KakaoUserResponse.class);
+    }
+}
@@ -0,0 +1,94 @@
+package com.study.myspringstudydiary.global.security.crypto;
+
+import com.study.myspringstudydiary.auth.exception.PasswordHashingUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedPasswordEncoderTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch started = new CountDownLatch(1);
+    private SimpleMeterRegistry meterRegistry;
+    private BoundedPasswordEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        encoder = new BoundedPasswordEncoder(new BlockingEncoder(), 1, 1, Duration.ofSeconds(2), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        encoder.destroy();
+    }
+
+    @Test
+    @DisplayName("전용 풀에서 해시하고 결과를 그대로 돌려준다")
+    void encodesOnPool() {
+        release.countDown();
+
+        assertThat(encoder.encode("pw")).isEqualTo("hashed:pw");
+        assertThat(encoder.matches("pw", "hashed:pw")).isTrue();
+        assertThat(meterRegistry.get("password.hash").tag("operation", "encode").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("풀과 대기열이 가득 차면 기다리지 않고 503용 예외를 던진다")
+    void rejectsWhenSaturated() throws Exception {
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("b"));
+        waitUntilQueued();
+
+        assertThatThrownBy(() -> encoder.encode("c"))
+                .isInstanceOf(PasswordHashingUnavailableException.class)
+                .satisfies(e -> assertThat(((PasswordHashingUnavailableException) e).getRetryAfter())
+                        .isEqualTo(Duration.ofSeconds(2)));
+        assertThat(meterRegistry.get("password.hash.rejected").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(1, TimeUnit.SECONDS)).isEqualTo("hashed:a");
+        assertThat(queued.get(1, TimeUnit.SECONDS)).isEqualTo("hashed:b");
+    }
+
+    private void waitUntilQueued() throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            if (meterRegistry.get("password.hash.queue.size").gauge().value() == 1) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private class BlockingEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "hashed:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encodedPassword.equals(encode(rawPassword));
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.study.myspringstudydiary.global.security.crypto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PasswordHashCalibratorTest {
+
+    @Test
+    @DisplayName("budget이 넉넉하면 최대 strength를 고른다")
+    void picksMaxWithinLargeBudget() {
+        assertThat(PasswordHashCalibrator.calibrateBCryptStrength(Duration.ofSeconds(10), 4, 6)).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("budget 안에 드는 단계가 없어도 최소 strength 아래로 내려가지 않는다")
+    void neverBelowMinimum() {
+        assertThat(PasswordHashCalibrator.calibrateBCryptStrength(Duration.ZERO, 4, 6)).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("저장된 해시의 strength가 목표보다 낮거나 높으면 재해시 대상이다")
+    void upgradeEncodingWhenOffTarget() {
+        TargetStrengthBCryptPasswordEncoder encoder = new TargetStrengthBCryptPasswordEncoder(5);
+
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("pw"))).isTrue();
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("pw"))).isTrue();
+        assertThat(encoder.upgradeEncoding(encoder.encode("pw"))).isFalse();
+    }
+}
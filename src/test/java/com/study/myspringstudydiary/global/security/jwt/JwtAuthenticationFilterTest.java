@@ -0,0 +1,107 @@
+package com.study.myspringstudydiary.global.security.jwt;
+
+import com.study.myspringstudydiary.auth.exception.InvalidTokenException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET_KEY = "test-secret-key-for-jwt-token-generation-must-be-longer-than-256-bits";
+
+    private JwtTokenProvider tokenProvider;
+    private JwtAuthenticator authenticator;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        tokenProvider = spy(new JwtTokenProvider(SECRET_KEY, 1800, 604800));
+        authenticator = new JwtAuthenticator(tokenProvider, 100);
+        filter = new JwtAuthenticationFilter(authenticator);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Bearer 토큰의 클레임으로 인증 정보를 만든다")
+    void authenticatesFromClaims() throws Exception {
+        String token = tokenProvider.createAccessToken("tester", "USER");
+
+        Authentication authentication = doFilter("Bearer " + token);
+
+        assertThat(authentication).isNotNull();
+        assertThat(authentication.getName()).isEqualTo("tester");
+        assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_USER");
+    }
+
+    @Test
+    @DisplayName("한 번 검증한 토큰은 캐시에서 꺼내 다시 파싱하지 않는다")
+    void cachesVerifiedToken() throws Exception {
+        String token = tokenProvider.createAccessToken("tester", "USER");
+
+        doFilter("Bearer " + token);
+        doFilter("Bearer " + token);
+        doFilter("Bearer " + token);
+
+        verify(tokenProvider, times(1)).parseClaims(token);
+        assertThat(authenticator.cachedTokenCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 토큰이면 인증 없이 통과하고 실패 사유를 남긴다")
+    void invalidTokenLeavesContextEmpty() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer not-a-jwt");
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        assertThat(request.getAttribute(JwtAuthenticationFilter.ERROR_ATTRIBUTE)).isNotNull();
+        assertThat(authenticator.cachedTokenCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("토큰이 없으면 인증 없이 통과한다")
+    void noTokenPassesThrough() throws Exception {
+        assertThat(doFilter(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰으로는 인증할 수 없다")
+    void rejectsRefreshToken() {
+        String refreshToken = tokenProvider.createRefreshToken("tester");
+
+        assertThatThrownBy(() -> authenticator.authenticate(refreshToken))
+                .isInstanceOf(InvalidTokenException.class);
+    }
+
+    private Authentication doFilter(String authorization) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        if (authorization != null) {
+            request.addHeader("Authorization", authorization);
+        }
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
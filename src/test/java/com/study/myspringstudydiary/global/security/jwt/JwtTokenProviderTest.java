@@ -1,9 +1,14 @@
 package com.study.myspringstudydiary.global.security.jwt;
 
+import com.study.myspringstudydiary.auth.exception.ExpiredTokenException;
+import com.study.myspringstudydiary.auth.exception.InvalidTokenException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
 public class JwtTokenProviderTest {
     private JwtTokenProvider tokenProvider;
     private final String SECRET_KEY = "test-secret-key-for-jwt-token-generation-must-be-longer-than-256-bits";
@@ -24,8 +29,8 @@ public class JwtTokenProviderTest {
         String token = tokenProvider.createAccessToken(username, role);
 
         // Then
-        // TODO: token이 null이 아닌지 검증하세요
-        // assertThat(token)...
+        assertThat(token).isNotBlank();
+        assertThat(tokenProvider.validateToken(token)).isTrue();
     }
 
     @Test
@@ -39,18 +44,29 @@ public class JwtTokenProviderTest {
         String extracted = tokenProvider.extractUsername(token);
 
         // Then
-        // TODO: 추출한 username이 원본과 같은지 검증하세요
+        assertThat(extracted).isEqualTo(username);
     }
 
     @Test
     @DisplayName("만료된 토큰은 유효하지 않다")
     void validateToken_expired() {
-        // TODO: 만료 시간이 0인 TokenProvider를 생성하고 토큰 검증 테스트
+        JwtTokenProvider expiredProvider = new JwtTokenProvider(SECRET_KEY, 0, 0);
+        String token = expiredProvider.createAccessToken("testuser", "ROLE_USER");
+
+        assertThat(tokenProvider.validateToken(token)).isFalse();
+        assertThatThrownBy(() -> tokenProvider.parseClaims(token))
+                .isInstanceOf(ExpiredTokenException.class);
     }
 
     @Test
     @DisplayName("잘못된 시그니처의 토큰은 유효하지 않다")
     void validateToken_invalidSignature() {
-        // TODO: 다른 secret key로 생성된 토큰 검증 시 예외 발생 테스트
+        JwtTokenProvider otherProvider =
+                new JwtTokenProvider("another-secret-key-for-jwt-token-generation-longer-than-256-bits", 1800, 604800);
+        String token = otherProvider.createAccessToken("testuser", "ROLE_USER");
+
+        assertThat(tokenProvider.validateToken(token)).isFalse();
+        assertThatThrownBy(() -> tokenProvider.extractUsername(token))
+                .isInstanceOf(InvalidTokenException.class);
     }
 }
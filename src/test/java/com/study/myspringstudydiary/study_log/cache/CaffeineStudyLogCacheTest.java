@@ -0,0 +1,78 @@
+package com.study.myspringstudydiary.study_log.cache;
+
+import com.study.myspringstudydiary.study_log.entity.Category;
+import com.study.myspringstudydiary.study_log.entity.StudyLog;
+import com.study.myspringstudydiary.study_log.entity.Understanding;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CaffeineStudyLogCacheTest {
+
+    private CaffeineStudyLogCache cache;
+    private AtomicInteger loads;
+    private StudyLog stored;
+    private Function<Long, Optional<StudyLog>> loader;
+
+    @BeforeEach
+    void setUp() {
+        cache = new CaffeineStudyLogCache(100, Duration.ofMinutes(1));
+        loads = new AtomicInteger();
+        stored = new StudyLog(1L, "Spring", "content", Category.SPRING,
+                Understanding.GOOD, 60, LocalDate.of(2026, 1, 1));
+        loader = id -> {
+            loads.incrementAndGet();
+            return id.equals(stored.getId()) ? Optional.of(stored.copy()) : Optional.empty();
+        };
+    }
+
+    @Test
+    @DisplayName("두 번째 조회는 캐시에서 반환되고 통계에 적중으로 집계된다")
+    void get_readThrough() {
+        cache.get(1L, loader);
+        cache.get(1L, loader);
+
+        assertThat(loads.get()).isEqualTo(1);
+        StudyLogCacheStats stats = cache.stats();
+        assertThat(stats.getHitCount()).isEqualTo(1);
+        assertThat(stats.getMissCount()).isEqualTo(1);
+        assertThat(stats.getSize()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("반환된 엔티티를 수정해도 캐시 내용은 바뀌지 않는다")
+    void get_returnsCopy() {
+        cache.get(1L, loader).orElseThrow().update("changed", null, null, null, null, null);
+
+        assertThat(cache.get(1L, loader).orElseThrow().getTitle()).isEqualTo("Spring");
+    }
+
+    @Test
+    @DisplayName("무효화 후에는 다시 loader로 조회한다")
+    void invalidate_reloads() {
+        cache.get(1L, loader);
+        stored.update("updated", null, null, null, null, null);
+        cache.invalidate(1L);
+
+        assertThat(cache.get(1L, loader).orElseThrow().getTitle()).isEqualTo("updated");
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 id는 캐시에 남기지 않는다")
+    void get_missingIsNotCached() {
+        assertThat(cache.get(2L, loader)).isEmpty();
+        assertThat(cache.get(2L, loader)).isEmpty();
+
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(cache.stats().getSize()).isZero();
+    }
+}
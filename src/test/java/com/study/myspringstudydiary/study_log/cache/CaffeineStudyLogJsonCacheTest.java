@@ -0,0 +1,105 @@
+package com.study.myspringstudydiary.study_log.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.myspringstudydiary.common.Page;
+import com.study.myspringstudydiary.study_log.dto.response.StudyLogJson;
+import com.study.myspringstudydiary.study_log.dto.response.StudyLogResponse;
+import com.study.myspringstudydiary.study_log.entity.Category;
+import com.study.myspringstudydiary.study_log.entity.StudyLog;
+import com.study.myspringstudydiary.study_log.entity.Understanding;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CaffeineStudyLogJsonCacheTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2026, 1, 27, 10, 30, 15, 123_456_000);
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private CaffeineStudyLogJsonCache cache;
+    private StudyLog stored;
+
+    @BeforeEach
+    void setUp() {
+        cache = new CaffeineStudyLogJsonCache(objectMapper, 1024, 100, Duration.ofMinutes(1));
+        stored = new StudyLog(1L, "Spring 트랜잭션", "전파 속성과 격리 수준을 학습했습니다.", Category.SPRING,
+                Understanding.GOOD, 60, LocalDate.of(2026, 1, 1));
+        stored.setUpdatedAt(UPDATED_AT);
+    }
+
+    @Test
+    @DisplayName("캐시된 바이트는 StudyLogResponse를 직접 직렬화한 결과와 같다")
+    void get_matchesJacksonOutput() throws Exception {
+        StudyLogJson json = cache.get(stored);
+
+        assertThat(json.getJson()).isEqualTo(objectMapper.writeValueAsBytes(StudyLogResponse.from(stored)));
+        assertThat(json.getId()).isEqualTo(1L);
+        assertThat(json.getUpdatedAt()).isEqualTo(UPDATED_AT);
+    }
+
+    @Test
+    @DisplayName("같은 (id, updatedAt)은 다시 직렬화하지 않고, updatedAt이 바뀌면 새로 직렬화한다")
+    void get_keyedByIdAndUpdatedAt() {
+        StudyLogJson first = cache.get(stored);
+        assertThat(cache.get(stored.copy())).isSameAs(first);
+
+        StudyLog updated = stored.copy();
+        updated.update("Spring 트랜잭션 심화", null, null, null, null, null);
+        updated.setUpdatedAt(UPDATED_AT.plusNanos(1_000));
+        StudyLogJson second = cache.get(updated);
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(new String(second.getJson())).contains("Spring 트랜잭션 심화");
+    }
+
+    @Test
+    @DisplayName("updatedAt이 없으면 캐시하지 않고 매번 직렬화한다")
+    void get_withoutUpdatedAt_notCached() {
+        stored.setUpdatedAt(null);
+
+        assertThat(cache.get(stored)).isNotSameAs(cache.get(stored));
+    }
+
+    @Test
+    @DisplayName("페이지 안의 JSON 바이트는 응답 DTO 페이지를 직렬화한 것과 같은 JSON으로 출력된다")
+    void page_serializesRawBytes() throws Exception {
+        StudyLog other = new StudyLog(2L, "Java \"Stream\"", "줄바꿈\n포함", Category.JAVA,
+                Understanding.NORMAL, 30, LocalDate.of(2026, 1, 2));
+        other.setUpdatedAt(UPDATED_AT);
+
+        Page<StudyLog> page = new Page<>(List.of(stored, other), 0, 10, 2);
+        String expected = objectMapper.writeValueAsString(page.map(StudyLogResponse::from));
+
+        assertThat(objectMapper.writeValueAsBytes(page.map(cache::get))).asString().isEqualTo(expected);
+        // 문자 기반 출력(Writer)에서도 같은 결과
+        assertThat(objectMapper.writeValueAsString(page.map(cache::get))).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("gzip 변형은 최소 크기 이상일 때만 만들어지고 한 번만 압축된다")
+    void gzipped_onlyAboveMinSize() throws IOException {
+        assertThat(cache.get(stored).getGzipped()).isNull();
+
+        stored.setContent("학습 내용 ".repeat(200));
+        stored.setUpdatedAt(UPDATED_AT.plusSeconds(1));
+        StudyLogJson large = cache.get(stored);
+
+        byte[] gzipped = large.getGzipped();
+        assertThat(gzipped.length).isLessThan(large.getJson().length);
+        assertThat(large.getGzipped()).isSameAs(gzipped);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            assertThat(in.readAllBytes()).isEqualTo(large.getJson());
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.study.myspringstudydiary.study_log.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 Redis 대체 저장소 (TTL은 무시)
+ * down = true이면 Redis 연결 장애처럼 모든 호출이 예외를 던집니다.
+ */
+class FakeSharedCacheStore implements SharedCacheStore {
+
+    final Map<String, String> values = new ConcurrentHashMap<>();
+    final AtomicInteger calls = new AtomicInteger();
+    volatile boolean down = false;
+
+    @Override
+    public String get(String key) {
+        check();
+        return values.get(key);
+    }
+
+    @Override
+    public void set(String key, String value, Duration ttl) {
+        check();
+        values.put(key, value);
+    }
+
+    @Override
+    public boolean setIfUnchanged(String key, String expected, String value, Duration ttl) {
+        check();
+        synchronized (values) {
+            if (!Objects.equals(values.get(key), expected)) {
+                return false;
+            }
+            values.put(key, value);
+            return true;
+        }
+    }
+
+    @Override
+    public long increment(String key) {
+        check();
+        return Long.parseLong(values.merge(key, "1", (old, one) -> String.valueOf(Long.parseLong(old) + 1)));
+    }
+
+    @Override
+    public void delete(String key) {
+        check();
+        values.remove(key);
+    }
+
+    private void check() {
+        calls.incrementAndGet();
+        if (down) {
+            throw new IllegalStateException("Unable to connect to Redis");
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.study.myspringstudydiary.study_log.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.myspringstudydiary.common.Page;
+import com.study.myspringstudydiary.study_log.entity.Category;
+import com.study.myspringstudydiary.study_log.entity.StudyLog;
+import com.study.myspringstudydiary.study_log.entity.Understanding;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GenerationalStudyLogPageCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private FakeSharedCacheStore store;
+    private AtomicInteger loads;
+    private Supplier<Page<StudyLog>> loader;
+
+    @BeforeEach
+    void setUp() {
+        store = new FakeSharedCacheStore();
+        loads = new AtomicInteger();
+        loader = () -> {
+            loads.incrementAndGet();
+            StudyLog log = new StudyLog(1L, "Spring", "content", Category.SPRING,
+                    Understanding.GOOD, 60, LocalDate.of(2026, 1, 1));
+            return new Page<>(List.of(log), 0, 10, 1, "cursor");
+        };
+    }
+
+    @Test
+    @DisplayName("같은 키의 두 번째 조회는 저장소에서 복원되며 페이지 정보가 유지된다")
+    void get_restoresPage() {
+        GenerationalStudyLogPageCache cache = cache(Duration.ofSeconds(30));
+
+        cache.get("all:0:10", loader);
+        Page<StudyLog> cached = cache.get("all:0:10", loader);
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cached.getTotalElements()).isEqualTo(1);
+        assertThat(cached.isLast()).isTrue();
+        assertThat(cached.getContent().get(0).getCategory()).isEqualTo(Category.SPRING);
+        assertThat(cached.getContent().get(0).getStudyDate()).isEqualTo(LocalDate.of(2026, 1, 1));
+    }
+
+    @Test
+    @DisplayName("SLICE 페이지는 전체 개수 없이 복원된다")
+    void get_restoresSlice() {
+        GenerationalStudyLogPageCache cache = cache(Duration.ofSeconds(30));
+        Supplier<Page<StudyLog>> sliceLoader = () -> Page.ofSlice(List.of(), 1, 10, true, "next");
+
+        cache.get("slice", sliceLoader);
+        Page<StudyLog> cached = cache.get("slice", sliceLoader);
+
+        assertThat(cached.getTotalElements()).isNull();
+        assertThat(cached.isHasNext()).isTrue();
+        assertThat(cached.getNextCursor()).isEqualTo("next");
+    }
+
+    @Test
+    @DisplayName("무효화하면 세대가 올라가 다음 조회는 DB에서 다시 읽는다")
+    void invalidateAll_bumpsGeneration() {
+        GenerationalStudyLogPageCache cache = cache(Duration.ofSeconds(30));
+
+        cache.get("all:0:10", loader);
+        cache.invalidateAll();
+        cache.get("all:0:10", loader);
+
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(store.values).containsEntry(GenerationalStudyLogPageCache.GENERATION_KEY, "1");
+    }
+
+    @Test
+    @DisplayName("저장소 장애 시 DB로 조회하고 재시도 간격 동안은 저장소를 호출하지 않는다")
+    void get_degradesWhenStoreIsDown() {
+        GenerationalStudyLogPageCache cache = cache(Duration.ofMinutes(1));
+        store.down = true;
+
+        assertThat(cache.get("all:0:10", loader).getContent()).hasSize(1);
+        int callsAfterFailure = store.calls.get();
+        cache.get("all:0:10", loader);
+
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(store.calls.get()).isEqualTo(callsAfterFailure);
+    }
+
+    @Test
+    @DisplayName("장애 중 놓친 무효화는 복구 후 첫 조회에서 반영된다")
+    void invalidateAll_replayedAfterRecovery() {
+        GenerationalStudyLogPageCache cache = cache(Duration.ZERO);
+        cache.get("all:0:10", loader);
+
+        store.down = true;
+        cache.invalidateAll();
+        store.down = false;
+        cache.get("all:0:10", loader);
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    private GenerationalStudyLogPageCache cache(Duration retryInterval) {
+        return new GenerationalStudyLogPageCache(store, objectMapper, Duration.ofMinutes(5),
+                retryInterval, Clock.systemUTC());
+    }
+}
@@ -0,0 +1,174 @@
+package com.study.myspringstudydiary.study_log.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.myspringstudydiary.study_log.entity.Category;
+import com.study.myspringstudydiary.study_log.entity.StudyLog;
+import com.study.myspringstudydiary.study_log.entity.Understanding;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NearStudyLogCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private FakeSharedCacheStore l2;
+    private LocalBus bus;
+    private StudyLog stored;
+    private AtomicInteger dbLoads;
+    private Function<Long, Optional<StudyLog>> loader;
+
+    @BeforeEach
+    void setUp() {
+        l2 = new FakeSharedCacheStore();
+        bus = new LocalBus();
+        stored = new StudyLog(1L, "Spring", "content", Category.SPRING,
+                Understanding.GOOD, 60, LocalDate.of(2026, 1, 1));
+        dbLoads = new AtomicInteger();
+        loader = id -> {
+            dbLoads.incrementAndGet();
+            return Optional.of(stored.copy());
+        };
+    }
+
+    @Test
+    @DisplayName("다른 노드가 DB에서 읽은 값은 L2에서 가져온다")
+    void get_sharesL2BetweenNodes() {
+        NearStudyLogCache nodeA = node();
+        NearStudyLogCache nodeB = node();
+
+        nodeA.get(1L, loader);
+        StudyLog fromB = nodeB.get(1L, loader).orElseThrow();
+
+        assertThat(dbLoads.get()).isEqualTo(1);
+        assertThat(fromB.getStudyDate()).isEqualTo(LocalDate.of(2026, 1, 1));
+        assertThat(nodeB.stats().getL2HitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("한 노드에서 무효화하면 다른 노드의 L1도 제거된다")
+    void invalidate_propagatesToOtherNodes() {
+        NearStudyLogCache nodeA = node();
+        NearStudyLogCache nodeB = node();
+        nodeB.get(1L, loader);
+
+        stored.update("updated", null, null, null, null, null);
+        nodeA.invalidate(1L);
+
+        assertThat(nodeB.get(1L, loader).orElseThrow().getTitle()).isEqualTo("updated");
+        assertThat(nodeB.stats().getInvalidationsReceived()).isEqualTo(1);
+        assertThat(nodeA.stats().getInvalidationsReceived()).isZero();
+    }
+
+    @Test
+    @DisplayName("L2 장애 시에도 L1과 DB로 조회한다")
+    void get_worksWithoutL2() {
+        NearStudyLogCache nodeA = node();
+        l2.down = true;
+
+        assertThat(nodeA.get(1L, loader)).isPresent();
+        assertThat(nodeA.get(1L, loader)).isPresent();
+        assertThat(dbLoads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("DB를 읽는 동안 다른 노드가 무효화하면 읽은 값(수정 전 행)을 L2에 적재하지 않는다")
+    void get_doesNotStoreRowReadBeforeConcurrentInvalidation() {
+        NearStudyLogCache nodeA = node(new LocalBus());
+        NearStudyLogCache nodeB = node();
+        NearStudyLogCache nodeC = node();
+
+        // 노드 A가 수정 전 행을 읽은 직후, 노드 B가 수정을 커밋하고 무효화
+        nodeA.get(1L, id -> {
+            StudyLog before = stored.copy();
+            stored.update("updated", null, null, null, null, null);
+            nodeB.invalidate(1L);
+            return Optional.of(before);
+        });
+
+        assertThat(nodeC.get(1L, loader).orElseThrow().getTitle()).isEqualTo("updated");
+        assertThat(nodeC.stats().getL2HitCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("무효화 이후에 읽은 값은 L2에 적재되어 다른 노드가 공유한다")
+    void get_storesRowReadAfterInvalidation() {
+        NearStudyLogCache nodeA = node();
+        NearStudyLogCache nodeB = node();
+        nodeA.invalidate(1L);
+
+        nodeA.get(1L, loader);
+        nodeB.get(1L, loader);
+
+        assertThat(dbLoads.get()).isEqualTo(1);
+        assertThat(nodeB.stats().getL2HitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("전체 무효화는 L2 항목도 버린다")
+    void invalidateAll_discardsL2Entries() {
+        NearStudyLogCache nodeA = node();
+        nodeA.get(1L, loader);
+
+        stored.update("updated", null, null, null, null, null);
+        nodeA.invalidateAll();
+
+        assertThat(node().get(1L, loader).orElseThrow().getTitle()).isEqualTo("updated");
+        assertThat(dbLoads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("L2 장애 중에도 무효화 메시지는 발행되어 다른 노드의 L1이 제거된다")
+    void invalidate_publishesWhileL2Down() {
+        NearStudyLogCache nodeA = node();
+        NearStudyLogCache nodeB = node();
+        nodeB.get(1L, loader);
+
+        l2.down = true;
+        nodeA.get(2L, loader);   // L2 장애 감지 → 이후 L2 호출 생략
+        stored.update("updated", null, null, null, null, null);
+        nodeA.invalidate(1L);
+
+        assertThat(nodeB.stats().getInvalidationsReceived()).isEqualTo(1);
+        assertThat(nodeB.get(1L, loader).orElseThrow().getTitle()).isEqualTo("updated");
+    }
+
+    private NearStudyLogCache node() {
+        return node(bus);
+    }
+
+    private NearStudyLogCache node(InvalidationBus bus) {
+        return new NearStudyLogCache(new CaffeineStudyLogCache(100, Duration.ofMinutes(1)), l2, bus,
+                objectMapper, Duration.ofMinutes(5), Duration.ofSeconds(30), Clock.systemUTC());
+    }
+
+    /**
+     * 같은 JVM 안의 노드들에게 동기적으로 메시지를 전달하는 테스트용 버스
+     */
+    private static class LocalBus implements InvalidationBus {
+
+        private final List<Consumer<CacheInvalidationMessage>> listeners = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void publish(CacheInvalidationMessage message) {
+            listeners.forEach(listener -> listener.accept(message));
+        }
+
+        @Override
+        public void subscribe(Consumer<CacheInvalidationMessage> listener) {
+            listeners.add(listener);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.study.myspringstudydiary.study_log.cache;
+
+import com.study.myspringstudydiary.study_log.dao.InMemoryStudyLogDao;
+import com.study.myspringstudydiary.study_log.entity.Category;
+import com.study.myspringstudydiary.study_log.entity.StudyLog;
+import com.study.myspringstudydiary.study_log.entity.Understanding;
+import com.study.myspringstudydiary.study_log.event.StudyLogChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StudyLogCacheInvalidatorTest {
+
+    private InMemoryStudyLogDao studyLogDao;
+    private CaffeineStudyLogCache cache;
+
+    @BeforeEach
+    void setUp() {
+        AtomicReference<StudyLogCacheInvalidator> holder = new AtomicReference<>();
+        studyLogDao = new InMemoryStudyLogDao(event -> holder.get().onChanged((StudyLogChangedEvent) event));
+        cache = new CaffeineStudyLogCache(100, Duration.ofMinutes(1));
+        holder.set(new StudyLogCacheInvalidator(cache, studyLogDao));
+    }
+
+    @Test
+    @DisplayName("DAO로 수정하면 캐시된 이전 값을 무효화한다")
+    void update_invalidatesEntry() {
+        StudyLog saved = studyLogDao.save(log("Spring"));
+        cache.get(saved.getId(), studyLogDao::findById);
+
+        saved.update("Spring Boot", null, null, null, null, null);
+        studyLogDao.update(saved);
+
+        assertThat(cache.get(saved.getId(), studyLogDao::findById))
+                .hasValueSatisfying(found -> assertThat(found.getTitle()).isEqualTo("Spring Boot"));
+    }
+
+    @Test
+    @DisplayName("전체 삭제 후 다시 쓰이는 id는 삭제된 일지의 캐시 값을 돌려주지 않는다")
+    void deleteAll_invalidatesReusedIds() {
+        StudyLog deleted = studyLogDao.save(log("삭제될 일지"));
+        cache.get(deleted.getId(), studyLogDao::findById);
+
+        studyLogDao.deleteAll();
+        StudyLog reused = studyLogDao.save(log("새 일지"));
+
+        assertThat(reused.getId()).isEqualTo(deleted.getId());
+        assertThat(cache.get(reused.getId(), studyLogDao::findById))
+                .hasValueSatisfying(found -> assertThat(found.getTitle()).isEqualTo("새 일지"));
+    }
+
+    @Test
+    @DisplayName("주입받지 않은 DAO의 이벤트는 무시한다")
+    void ignoresOtherDao() {
+        StudyLog saved = studyLogDao.save(log("Spring"));
+        cache.get(saved.getId(), studyLogDao::findById);
+
+        new StudyLogCacheInvalidator(cache, studyLogDao)
+                .onChanged(StudyLogChangedEvent.cleared(new InMemoryStudyLogDao()));
+
+        // 캐시에 남아 있으므로 loader를 호출하지 않음
+        assertThat(cache.get(saved.getId(), id -> {
+            throw new AssertionError("캐시가 무효화되었습니다.");
+        })).isPresent();
+    }
+
+    private static StudyLog log(String title) {
+        return new StudyLog(null, title, "내용", Category.SPRING, Understanding.GOOD, 60, LocalDate.of(2026, 1, 1));
+    }
+}
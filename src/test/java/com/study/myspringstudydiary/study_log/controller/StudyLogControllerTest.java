@@ -1,11 +1,59 @@
 package com.study.myspringstudydiary.study_log.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.myspringstudydiary.common.Page;
+import com.study.myspringstudydiary.common.PagingMode;
+import com.study.myspringstudydiary.common.ResourceVersion;
+import com.study.myspringstudydiary.study_log.dao.StudyLogField;
+import com.study.myspringstudydiary.study_log.dto.response.StudyLogJson;
+import com.study.myspringstudydiary.study_log.dto.response.StudyLogResponse;
+import com.study.myspringstudydiary.study_log.service.StudyLogService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 class StudyLogControllerTest {
 
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2026, 1, 27, 10, 30, 15, 123_456_000);
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().findAndRegisterModules();
+
+    private StudyLogService studyLogService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        studyLogService = mock(StudyLogService.class);
+        mockMvc = MockMvcBuilders.standaloneSetup(new StudyLogController(studyLogService)).build();
+    }
+
     @Test
     void getAllStudyLogs() {
     }
@@ -13,4 +61,192 @@ class StudyLogControllerTest {
     @Test
     void getStudyLogById() {
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("단건 조회 응답에 updated_at 기반 ETag와 Last-Modified가 포함된다")
+    void getStudyLogById_setsVersionHeaders() throws Exception {
+        when(studyLogService.getStudyLogJsonById(1L)).thenReturn(json(response(1L), StudyLogJson.NO_GZIP));
+        ResourceVersion version = ResourceVersion.of(1L, UPDATED_AT);
+
+        mockMvc.perform(get("/api/v1/logs/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, version.eTag()))
+                .andExpect(header().dateValue(HttpHeaders.LAST_MODIFIED, version.lastModified() / 1000 * 1000))
+                .andExpect(jsonPath("$.id").value(1));
+
+        // 조건부 헤더가 없으면 버전 확인 쿼리를 추가로 실행하지 않음
+        verify(studyLogService, never()).getStudyLogVersion(anyLong());
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 현재 ETag와 같으면 본문을 읽지 않고 304를 반환한다")
+    void getStudyLogById_ifNoneMatch_notModified() throws Exception {
+        ResourceVersion version = ResourceVersion.of(1L, UPDATED_AT);
+        when(studyLogService.getStudyLogVersion(1L)).thenReturn(Optional.of(version));
+
+        mockMvc.perform(get("/api/v1/logs/1").header(HttpHeaders.IF_NONE_MATCH, version.eTag()))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, version.eTag()));
+
+        verify(studyLogService, never()).getStudyLogJsonById(anyLong());
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 이전 ETag면 본문과 새 ETag를 반환한다")
+    void getStudyLogById_staleETag_returnsBody() throws Exception {
+        ResourceVersion stale = ResourceVersion.of(1L, UPDATED_AT.minusSeconds(1));
+        when(studyLogService.getStudyLogVersion(1L)).thenReturn(Optional.of(ResourceVersion.of(1L, UPDATED_AT)));
+        when(studyLogService.getStudyLogJsonById(1L)).thenReturn(json(response(1L), StudyLogJson.NO_GZIP));
+
+        mockMvc.perform(get("/api/v1/logs/1").header(HttpHeaders.IF_NONE_MATCH, stale.eTag()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, ResourceVersion.of(1L, UPDATED_AT).eTag()));
+    }
+
+    @Test
+    @DisplayName("If-Modified-Since가 수정 시각 이후면 304를 반환한다")
+    void getStudyLogById_ifModifiedSince_notModified() throws Exception {
+        ResourceVersion version = ResourceVersion.of(1L, UPDATED_AT);
+        when(studyLogService.getStudyLogVersion(1L)).thenReturn(Optional.of(version));
+
+        mockMvc.perform(get("/api/v1/logs/1").header(HttpHeaders.IF_MODIFIED_SINCE,
+                        HttpHeaders.formatDate(version.lastModified() + 1000)))
+                .andExpect(status().isNotModified());
+
+        verify(studyLogService, never()).getStudyLogJsonById(anyLong());
+    }
+
+    @Test
+    @DisplayName("목록 버전이 같으면 페이지를 조회하지 않고 304를 반환한다")
+    void getStudyLogsPage_ifNoneMatch_notModified() throws Exception {
+        ResourceVersion version = ResourceVersion.ofCollection("/api/v1/logs/page?page=0&size=2", 3, UPDATED_AT);
+        when(studyLogService.getStudyLogsVersion(isNull(), isNull(), isNull(), isNull(),
+                eq("/api/v1/logs/page?page=0&size=2"))).thenReturn(version);
+
+        mockMvc.perform(get("/api/v1/logs/page?page=0&size=2").header(HttpHeaders.IF_NONE_MATCH, version.eTag()))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, version.eTag()));
+
+        verify(studyLogService, never()).getStudyLogsWithPaging(anyInt(), anyInt(), any(), anySet());
+    }
+
+    @Test
+    @DisplayName("조건부 헤더가 없으면 페이지를 읽기 전에 조회한 목록 버전을 ETag로 보낸다")
+    void getStudyLogsPage_withoutConditional_usesVersionETag() throws Exception {
+        ResourceVersion version = ResourceVersion.ofCollection("/api/v1/logs/page", 1, UPDATED_AT);
+        when(studyLogService.getStudyLogsVersion(isNull(), isNull(), isNull(), isNull(), eq("/api/v1/logs/page")))
+                .thenReturn(version);
+        when(studyLogService.getStudyLogsWithPaging(eq(0), eq(10), eq(PagingMode.TOTAL), eq(StudyLogField.ALL)))
+                .thenReturn(new Page<>(List.of(json(response(1L), StudyLogJson.NO_GZIP)), 0, 10, 1));
+
+        mockMvc.perform(get("/api/v1/logs/page"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, version.eTag()))
+                .andExpect(jsonPath("$.content[0].id").value(1));
+
+        // 같은 ETag로 재검증하면 304 (200과 304가 같은 버전 값을 사용)
+        mockMvc.perform(get("/api/v1/logs/page").header(HttpHeaders.IF_NONE_MATCH, version.eTag()))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("목록 ETag는 페이지 조건과 목록 버전이 모두 같을 때만 같다")
+    void collectionETag_dependsOnRequestAndVersion() {
+        String key = "/api/v1/logs/page?page=0&size=2";
+        ResourceVersion base = ResourceVersion.ofCollection(key, 3, UPDATED_AT);
+
+        assertEquals(base, ResourceVersion.ofCollection(key, 3, UPDATED_AT));
+        assertNotEquals(base.eTag(), ResourceVersion.ofCollection(key, 2, UPDATED_AT).eTag());
+        assertNotEquals(base.eTag(), ResourceVersion.ofCollection(key, 3, UPDATED_AT.plusNanos(1_000)).eTag());
+        assertNotEquals(base.eTag(),
+                ResourceVersion.ofCollection("/api/v1/logs/page?page=1&size=2", 3, UPDATED_AT).eTag());
+        assertEquals(-1, base.lastModified());
+    }
+
+    @Test
+    @DisplayName("목록 버전이 바뀌면 페이지 본문과 새 ETag를 반환한다")
+    void getStudyLogsPage_changed_returnsBody() throws Exception {
+        ResourceVersion version = ResourceVersion.ofCollection("/api/v1/logs/page", 1, UPDATED_AT);
+        when(studyLogService.getStudyLogsVersion(isNull(), isNull(), isNull(), isNull(), eq("/api/v1/logs/page")))
+                .thenReturn(version);
+        when(studyLogService.getStudyLogsWithPaging(eq(0), eq(10), eq(PagingMode.TOTAL), eq(StudyLogField.ALL)))
+                .thenReturn(new Page<>(List.of(json(response(1L), StudyLogJson.NO_GZIP)), 0, 10, 1));
+
+        mockMvc.perform(get("/api/v1/logs/page").header(HttpHeaders.IF_NONE_MATCH, "\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, version.eTag()))
+                .andExpect(header().doesNotExist(HttpHeaders.LAST_MODIFIED))
+                .andExpect(jsonPath("$.content[0].id").value(1));
+    }
+
+    @Test
+    @DisplayName("Accept-Encoding: gzip이면 미리 압축한 본문과 gzip 전용 ETag를 반환한다")
+    void getStudyLogById_acceptsGzip_returnsPreCompressedBody() throws Exception {
+        StudyLogJson json = json(response(1L, "학습 내용 ".repeat(200)), 1024);
+        when(studyLogService.getStudyLogJsonById(1L)).thenReturn(json);
+        ResourceVersion gzipVersion = ResourceVersion.of(1L, UPDATED_AT).gzipVariant();
+
+        byte[] body = mockMvc.perform(get("/api/v1/logs/1").header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andExpect(header().string(HttpHeaders.ETAG, gzipVersion.eTag()))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertArrayEquals(json.getJson(), gunzip(body));
+    }
+
+    @Test
+    @DisplayName("gzip 본문의 ETag로 재검증해도 변경이 없으면 304를 반환한다")
+    void getStudyLogById_gzipETag_notModified() throws Exception {
+        ResourceVersion version = ResourceVersion.of(1L, UPDATED_AT);
+        when(studyLogService.getStudyLogVersion(1L)).thenReturn(Optional.of(version));
+
+        mockMvc.perform(get("/api/v1/logs/1").header(HttpHeaders.IF_NONE_MATCH, version.gzipVariant().eTag()))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, version.gzipVariant().eTag()));
+
+        verify(studyLogService, never()).getStudyLogJsonById(anyLong());
+    }
+
+    @Test
+    @DisplayName("작은 본문은 gzip을 허용해도 압축하지 않고 그대로 보낸다")
+    void getStudyLogById_smallBody_notCompressed() throws Exception {
+        StudyLogJson json = json(response(1L), 1024);
+        when(studyLogService.getStudyLogJsonById(1L)).thenReturn(json);
+
+        byte[] body = mockMvc.perform(get("/api/v1/logs/1").header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(header().string(HttpHeaders.ETAG, ResourceVersion.of(1L, UPDATED_AT).eTag()))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertArrayEquals(json.getJson(), body);
+    }
+
+    private static StudyLogJson json(StudyLogResponse response, int gzipMinSize) {
+        return StudyLogJson.serialize(OBJECT_MAPPER, response, gzipMinSize);
+    }
+
+    private static byte[] gunzip(byte[] compressed) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static StudyLogResponse response(Long id) {
+        return response(id, "Spring Boot 프로젝트 생성과 기본 설정");
+    }
+
+    private static StudyLogResponse response(Long id, String content) {
+        return StudyLogResponse.builder()
+                .id(id)
+                .title("Spring Boot 시작하기")
+                .content(content)
+                .category("SPRING")
+                .studyDate(LocalDate.of(2026, 1, 27))
+                .createdAt(UPDATED_AT)
+                .updatedAt(UPDATED_AT)
+                .build();
+    }
+}
@@ -0,0 +1,197 @@
+package com.study.myspringstudydiary.study_log.dao;
+
+import com.study.myspringstudydiary.common.Page;
+import com.study.myspringstudydiary.common.PagingMode;
+import com.study.myspringstudydiary.study_log.entity.Category;
+import com.study.myspringstudydiary.study_log.entity.StudyLog;
+import com.study.myspringstudydiary.study_log.entity.Understanding;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryStudyLogDaoTest {
+
+    private static final LocalDate BASE_DATE = LocalDate.of(2026, 1, 1);
+
+    private InMemoryStudyLogDao dao;
+
+    @BeforeEach
+    void setUp() {
+        dao = new InMemoryStudyLogDao();
+    }
+
+    @Test
+    @DisplayName("카테고리를 변경하면 보조 인덱스와 개수가 함께 갱신된다")
+    void update_movesCategoryIndex() {
+        StudyLog saved = dao.save(log("Spring", Category.SPRING, BASE_DATE));
+
+        // Service처럼 조회한 엔티티를 수정한 뒤 update 호출
+        StudyLog found = dao.findById(saved.getId()).orElseThrow();
+        found.update(null, null, Category.JAVA, null, null, BASE_DATE.plusDays(1));
+        dao.update(found);
+
+        assertThat(dao.countByCategory("SPRING")).isZero();
+        assertThat(dao.countByCategory("JAVA")).isEqualTo(1);
+        assertThat(dao.findByStudyDate(BASE_DATE)).isEmpty();
+        assertThat(dao.findByStudyDate(BASE_DATE.plusDays(1))).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("날짜 범위 검색은 최신 순으로 페이징된다")
+    void searchWithPaging_dateRange() {
+        for (int i = 0; i < 10; i++) {
+            dao.save(log("Log " + i, i % 2 == 0 ? Category.SPRING : Category.JAVA, BASE_DATE.plusDays(i)));
+        }
+
+        Page<StudyLog> page = dao.searchWithPaging(
+                null, "SPRING", BASE_DATE.plusDays(2), BASE_DATE.plusDays(8), 0, 2, PagingMode.TOTAL, StudyLogField.ALL);
+
+        assertThat(page.getTotalElements()).isEqualTo(4);
+        assertThat(page.getContent()).extracting(StudyLog::getTitle)
+                .containsExactly("Log 8", "Log 6");
+    }
+
+    @Test
+    @DisplayName("커서 검색은 인덱스에서 커서 다음 위치부터 이어서 조회하고, 전체 개수는 커서와 무관하다")
+    void searchAfter_seeksFromCursor() {
+        for (int i = 0; i < 10; i++) {
+            dao.save(log("Log " + i, i % 2 == 0 ? Category.SPRING : Category.JAVA, BASE_DATE.plusDays(i)));
+        }
+        // id 9 = "Log 8"
+        StudyLogCursor after = StudyLogCursor.of(dao.findById(9L).orElseThrow());
+
+        Page<StudyLog> byCategory = dao.searchAfter(
+                null, "SPRING", null, null, after, 2, PagingMode.TOTAL, StudyLogField.ALL);
+        Page<StudyLog> byDate = dao.searchAfter(
+                null, null, BASE_DATE.plusDays(2), BASE_DATE.plusDays(8), after, 3, PagingMode.TOTAL, StudyLogField.ALL);
+        Page<StudyLog> byKeyword = dao.searchAfter(
+                "Log 1", null, null, null, after, 2, PagingMode.SLICE, StudyLogField.ALL);
+
+        assertThat(byCategory.getContent()).extracting(StudyLog::getTitle).containsExactly("Log 6", "Log 4");
+        assertThat(byCategory.getTotalElements()).isEqualTo(5);
+        assertThat(byCategory.isHasNext()).isTrue();
+        assertThat(byDate.getContent()).extracting(StudyLog::getTitle).containsExactly("Log 7", "Log 6", "Log 5");
+        assertThat(byDate.getTotalElements()).isEqualTo(7);
+        assertThat(byKeyword.getContent()).extracting(StudyLog::getTitle).containsExactly("Log 1");
+        assertThat(byKeyword.isHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("SLICE 모드는 전체 개수 없이 다음 페이지 여부만 계산한다")
+    void findAllWithPaging_slice() {
+        for (int i = 0; i < 5; i++) {
+            dao.save(log("Log " + i, Category.JAVA, BASE_DATE));
+        }
+
+        Page<StudyLog> first = dao.findAllWithPaging(0, 2, PagingMode.SLICE, StudyLogField.ALL);
+        Page<StudyLog> last = dao.findAllWithPaging(2, 2, PagingMode.SLICE, StudyLogField.ALL);
+
+        assertThat(first.getTotalElements()).isNull();
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(first.getNextCursor()).isNotNull();
+        assertThat(last.getContent()).hasSize(1);
+        assertThat(last.isHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("동시 저장 시에도 개수와 인덱스가 일치한다")
+    void save_concurrently() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 1000; i++) {
+            int n = i;
+            executor.submit(() -> dao.save(log("Log " + n, Category.values()[n % 3], BASE_DATE)));
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        List<StudyLog> all = dao.findAll();
+        assertThat(dao.count()).isEqualTo(1000);
+        assertThat(all).hasSize(1000);
+        assertThat(all.get(0).getId()).isEqualTo(1000L);
+        assertThat(dao.findAllWithPaging(99, 10, PagingMode.TOTAL, StudyLogField.ALL).getContent()).hasSize(10);
+    }
+
+    @Test
+    @DisplayName("일괄 저장 시 입력 순서대로 ID가 부여되고 인덱스가 갱신된다")
+    void saveAll_assignsIdsInOrder() {
+        List<StudyLog> saved = dao.saveAll(List.of(
+                log("A", Category.SPRING, BASE_DATE),
+                log("B", Category.JAVA, BASE_DATE),
+                log("C", Category.SPRING, BASE_DATE.plusDays(1))));
+
+        assertThat(saved).extracting(StudyLog::getId).containsExactly(1L, 2L, 3L);
+        assertThat(dao.count()).isEqualTo(3);
+        assertThat(dao.countByCategory("SPRING")).isEqualTo(2);
+        assertThat(dao.findByStudyDate(BASE_DATE)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("스트리밍 조회는 검색 조건에 맞는 행만 최신 순으로 전달한다")
+    void streamSearch_filtersInOrder() {
+        dao.save(log("Spring A", Category.SPRING, BASE_DATE));
+        dao.save(log("Java", Category.JAVA, BASE_DATE));
+        dao.save(log("Spring B", Category.SPRING, BASE_DATE.plusDays(1)));
+
+        List<String> titles = new ArrayList<>();
+        dao.streamSearch("Spring", "SPRING", null, null, StudyLogField.ALL,
+                studyLog -> titles.add(studyLog.getTitle()));
+
+        assertThat(titles).containsExactly("Spring B", "Spring A");
+    }
+
+    @Test
+    @DisplayName("수정 시각 조회는 수정하면 바뀌고, 삭제되면 비어 있다")
+    void findUpdatedAtById_followsWrites() throws InterruptedException {
+        StudyLog saved = dao.save(log("Spring", Category.SPRING, BASE_DATE));
+        LocalDateTime initial = dao.findUpdatedAtById(saved.getId()).orElseThrow();
+
+        Thread.sleep(2);
+        StudyLog found = dao.findById(saved.getId()).orElseThrow();
+        found.update("Spring Boot", null, null, null, null, null);
+        dao.update(found);
+        assertThat(dao.findUpdatedAtById(saved.getId())).hasValueSatisfying(
+                updatedAt -> assertThat(updatedAt).isAfter(initial));
+
+        dao.deleteById(saved.getId());
+        assertThat(dao.findUpdatedAtById(saved.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("목록 버전은 추가, 수정, 삭제, 전체 삭제 시 바뀌고 조회만으로는 바뀌지 않는다")
+    void findVersion_changesOnEveryWrite() {
+        StudyLog first = dao.save(log("Spring", Category.SPRING, BASE_DATE));
+        StudyLogVersion initial = dao.findVersion(null, null, null, null);
+
+        dao.findAll();
+        assertThat(dao.findVersion(null, "SPRING", null, null)).isEqualTo(initial);
+
+        StudyLog found = dao.findById(first.getId()).orElseThrow();
+        found.update("Spring Boot", null, null, null, null, null);
+        dao.update(found);
+        StudyLogVersion updated = dao.findVersion(null, null, null, null);
+        assertThat(updated.lastModified()).isAfter(initial.lastModified());
+
+        dao.deleteById(first.getId());
+        StudyLogVersion deleted = dao.findVersion(null, null, null, null);
+        assertThat(deleted.count()).isZero();
+        assertThat(deleted.lastModified()).isAfter(updated.lastModified());
+
+        dao.deleteAll();
+        assertThat(dao.findVersion(null, null, null, null).lastModified()).isAfter(deleted.lastModified());
+    }
+
+    private StudyLog log(String title, Category category, LocalDate date) {
+        return new StudyLog(null, title, "content for " + title, category,
+                Understanding.GOOD, 60, date);
+    }
+}
@@ -0,0 +1,224 @@
+package com.study.myspringstudydiary.study_log.dao;
+
+import com.study.myspringstudydiary.study_log.entity.Category;
+import com.study.myspringstudydiary.study_log.entity.StudyLog;
+import com.study.myspringstudydiary.study_log.entity.StudyLogDailyStats;
+import com.study.myspringstudydiary.study_log.entity.Understanding;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MySQLStudyLogDaoImpl 일별 통계 롤업 테스트 (H2, MySQL 모드)
+ *
+ * 쓰기마다 study_log_daily_stats가 study_logs를 GROUP BY로 다시 집계한 결과와 같은지 확인합니다.
+ */
+class MySQLStudyLogDaoImplTest {
+
+    private static final LocalDate DAY_1 = LocalDate.of(2026, 1, 1);
+    private static final LocalDate DAY_2 = LocalDate.of(2026, 1, 2);
+
+    private JdbcTemplate jdbcTemplate;
+    private MySQLStudyLogDaoImpl dao;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:study_logs;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        dataSource.setDriverClassName("org.h2.Driver");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        dropTables();
+        jdbcTemplate.execute("""
+                CREATE TABLE study_logs (
+                    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                    title VARCHAR(100) NOT NULL,
+                    content TEXT NOT NULL,
+                    category VARCHAR(50) NOT NULL,
+                    understanding VARCHAR(20) NOT NULL,
+                    study_time INT NOT NULL,
+                    study_date DATE NOT NULL,
+                    created_at TIMESTAMP(6) DEFAULT CURRENT_TIMESTAMP(6),
+                    updated_at TIMESTAMP(6) DEFAULT CURRENT_TIMESTAMP(6)
+                )""");
+        jdbcTemplate.execute("""
+                CREATE TABLE study_log_daily_stats (
+                    study_date DATE NOT NULL,
+                    category VARCHAR(50) NOT NULL,
+                    log_count INT NOT NULL DEFAULT 0,
+                    total_study_time BIGINT NOT NULL DEFAULT 0,
+                    very_good_count INT NOT NULL DEFAULT 0,
+                    good_count INT NOT NULL DEFAULT 0,
+                    normal_count INT NOT NULL DEFAULT 0,
+                    bad_count INT NOT NULL DEFAULT 0,
+                    very_bad_count INT NOT NULL DEFAULT 0,
+                    PRIMARY KEY (study_date, category)
+                )""");
+        dao = new MySQLStudyLogDaoImpl(jdbcTemplate, event -> { });
+    }
+
+    @AfterEach
+    void tearDown() {
+        dropTables();
+    }
+
+    @Test
+    @DisplayName("단건 저장은 (날짜, 카테고리) 롤업 행을 만들거나 더한다")
+    void save_updatesRollup() {
+        dao.save(studyLog(Category.SPRING, Understanding.GOOD, 60, DAY_1));
+        dao.save(studyLog(Category.SPRING, Understanding.BAD, 30, DAY_1));
+        dao.save(studyLog(Category.JAVA, Understanding.GOOD, 45, DAY_2));
+
+        assertRollupMatchesStudyLogs();
+        assertThat(rollupRow(DAY_1, Category.SPRING)).isEqualTo(DAY_1 + "|SPRING|2|90|0|1|0|1|0");
+        assertThat(dao.count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("배치 저장은 같은 (날짜, 카테고리)를 합산해 반영한다")
+    void saveAll_mergesDeltasPerBucket() {
+        dao.save(studyLog(Category.SPRING, Understanding.NORMAL, 10, DAY_1));
+
+        dao.saveAll(List.of(
+                studyLog(Category.SPRING, Understanding.GOOD, 60, DAY_1),
+                studyLog(Category.SPRING, Understanding.GOOD, 20, DAY_1),
+                studyLog(Category.SPRING, Understanding.VERY_GOOD, 40, DAY_1),
+                studyLog(Category.DATABASE, Understanding.VERY_BAD, 15, DAY_1),
+                studyLog(Category.SPRING, Understanding.BAD, 25, DAY_2)));
+
+        assertRollupMatchesStudyLogs();
+        assertThat(rollupRow(DAY_1, Category.SPRING)).isEqualTo(DAY_1 + "|SPRING|4|130|1|2|1|0|0");
+        assertThat(dao.count()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("날짜와 카테고리를 바꾸는 수정은 이전 롤업 행에서 빼고 새 롤업 행에 더한다")
+    void update_movesBetweenBuckets() {
+        StudyLog moved = dao.save(studyLog(Category.SPRING, Understanding.GOOD, 60, DAY_1));
+        dao.save(studyLog(Category.SPRING, Understanding.NORMAL, 30, DAY_1));
+        dao.save(studyLog(Category.JAVA, Understanding.BAD, 20, DAY_2));
+
+        moved.update(null, null, Category.JAVA, Understanding.VERY_GOOD, 90, DAY_2);
+        dao.update(moved);
+
+        assertRollupMatchesStudyLogs();
+        assertThat(rollupRow(DAY_1, Category.SPRING)).isEqualTo(DAY_1 + "|SPRING|1|30|0|0|1|0|0");
+        assertThat(rollupRow(DAY_2, Category.JAVA)).isEqualTo(DAY_2 + "|JAVA|2|110|1|0|0|1|0");
+    }
+
+    @Test
+    @DisplayName("제목만 바꾸는 수정은 롤업을 바꾸지 않는다")
+    void update_titleOnly_keepsRollup() {
+        StudyLog saved = dao.save(studyLog(Category.NETWORK, Understanding.GOOD, 60, DAY_1));
+
+        saved.update("제목 변경", null, null, null, null, null);
+        dao.update(saved);
+
+        assertRollupMatchesStudyLogs();
+        assertThat(rollupRow(DAY_1, Category.NETWORK)).isEqualTo(DAY_1 + "|NETWORK|1|60|0|1|0|0|0");
+    }
+
+    @Test
+    @DisplayName("삭제는 해당 롤업 행에서 빼고, 없는 ID는 롤업을 바꾸지 않는다")
+    void deleteById_decrementsRollup() {
+        StudyLog deleted = dao.save(studyLog(Category.ALGORITHM, Understanding.BAD, 50, DAY_1));
+        dao.save(studyLog(Category.ALGORITHM, Understanding.GOOD, 40, DAY_1));
+
+        assertThat(dao.deleteById(deleted.getId())).isTrue();
+        assertThat(dao.deleteById(deleted.getId())).isFalse();
+
+        assertRollupMatchesStudyLogs();
+        assertThat(rollupRow(DAY_1, Category.ALGORITHM)).isEqualTo(DAY_1 + "|ALGORITHM|1|40|0|1|0|0|0");
+        assertThat(dao.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("전체 삭제는 롤업도 비운다")
+    void deleteAll_clearsRollup() {
+        dao.saveAll(List.of(
+                studyLog(Category.SPRING, Understanding.GOOD, 60, DAY_1),
+                studyLog(Category.ETC, Understanding.NORMAL, 10, DAY_2)));
+
+        dao.deleteAll();
+
+        assertRollupMatchesStudyLogs();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM study_log_daily_stats", Long.class))
+                .isZero();
+        assertThat(dao.count()).isZero();
+    }
+
+    // ========== PRIVATE METHODS ==========
+
+    private static StudyLog studyLog(Category category, Understanding understanding, int studyTime, LocalDate date) {
+        return new StudyLog(null, "제목", "내용", category, understanding, studyTime, date);
+    }
+
+    /**
+     * 롤업 테이블이 원본 테이블을 다시 집계한 결과와 같은지 확인
+     * (모든 값이 0이 된 롤업 행은 집계 결과에 없으므로 제외)
+     */
+    private void assertRollupMatchesStudyLogs() {
+        StringJoiner nonZero = new StringJoiner(" OR ");
+        for (String column : counterColumns()) {
+            nonZero.add(column + " <> 0");
+        }
+        List<String> rollup = jdbcTemplate.query(
+                "SELECT * FROM study_log_daily_stats WHERE " + nonZero + " ORDER BY study_date, category",
+                (rs, rowNum) -> rowString(rs));
+
+        StringJoiner aggregates = new StringJoiner(", ");
+        aggregates.add("COUNT(*) AS log_count").add("SUM(study_time) AS total_study_time");
+        for (Understanding understanding : Understanding.values()) {
+            aggregates.add("SUM(CASE WHEN understanding = '" + understanding.name() + "' THEN 1 ELSE 0 END) AS "
+                    + StudyLogDailyStats.understandingColumn(understanding));
+        }
+        List<String> recomputed = jdbcTemplate.query(
+                "SELECT study_date, category, " + aggregates + " FROM study_logs"
+                        + " GROUP BY study_date, category ORDER BY study_date, category",
+                (rs, rowNum) -> rowString(rs));
+
+        assertThat(rollup).isEqualTo(recomputed);
+    }
+
+    private String rollupRow(LocalDate date, Category category) {
+        return jdbcTemplate.queryForObject(
+                "SELECT * FROM study_log_daily_stats WHERE study_date = ? AND category = ?",
+                (rs, rowNum) -> rowString(rs), date, category.name());
+    }
+
+    private static String rowString(ResultSet rs) throws SQLException {
+        StringJoiner row = new StringJoiner("|");
+        row.add(rs.getDate("study_date").toLocalDate().toString());
+        row.add(rs.getString("category"));
+        for (String column : counterColumns()) {
+            row.add(String.valueOf(rs.getLong(column)));
+        }
+        return row.toString();
+    }
+
+    private static List<String> counterColumns() {
+        List<String> columns = new ArrayList<>();
+        columns.add("log_count");
+        columns.add("total_study_time");
+        for (Understanding understanding : Understanding.values()) {
+            columns.add(StudyLogDailyStats.understandingColumn(understanding));
+        }
+        return columns;
+    }
+
+    private void dropTables() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS study_log_daily_stats");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS study_logs");
+    }
+}
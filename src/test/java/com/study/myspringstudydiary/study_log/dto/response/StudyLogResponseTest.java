@@ -0,0 +1,56 @@
+package com.study.myspringstudydiary.study_log.dto.response;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.myspringstudydiary.study_log.dao.StudyLogField;
+import com.study.myspringstudydiary.study_log.entity.Category;
+import com.study.myspringstudydiary.study_log.entity.StudyLog;
+import com.study.myspringstudydiary.study_log.entity.Understanding;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StudyLogResponseTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private final StudyLog studyLog = new StudyLog(1L, "Spring 트랜잭션", "전파 속성을 학습했습니다.",
+            Category.SPRING, Understanding.GOOD, 60, LocalDate.of(2026, 1, 1));
+
+    @Test
+    @DisplayName("전체 필드 응답은 null 값도 키를 유지한다")
+    void fullResponse_keepsNullKeys() throws Exception {
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(StudyLogResponse.from(studyLog)));
+
+        assertThat(json.has("createdAt")).isTrue();
+        assertThat(json.get("createdAt").isNull()).isTrue();
+        assertThat(json.has("updatedAt")).isTrue();
+    }
+
+    @Test
+    @DisplayName("일부 필드 응답은 projectionMapper로 직렬화하면 요청하지 않은 필드가 생략된다")
+    void projectedResponse_omitsUnrequestedFields() throws Exception {
+        ObjectMapper projectionMapper = StudyLogResponse.projectionMapper(objectMapper);
+        StudyLogResponse projected = StudyLogResponse.from(studyLog,
+                EnumSet.of(StudyLogField.ID, StudyLogField.TITLE, StudyLogField.CATEGORY));
+
+        JsonNode json = objectMapper.readTree(projectionMapper.writeValueAsString(projected));
+
+        assertThat(json.fieldNames()).toIterable()
+                .containsExactlyInAnyOrder("id", "title", "category", "categoryIcon");
+    }
+
+    @Test
+    @DisplayName("projectionMapper를 만들어도 원래 ObjectMapper의 출력은 바뀌지 않는다")
+    void projectionMapper_doesNotAffectOriginal() throws Exception {
+        StudyLogResponse.projectionMapper(objectMapper);
+
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(StudyLogResponse.from(studyLog)));
+
+        assertThat(json.has("createdAt")).isTrue();
+    }
+}
@@ -0,0 +1,59 @@
+package com.study.myspringstudydiary.study_log.exception;
+
+import com.study.myspringstudydiary.global.jdbc.ConnectionLimitingDataSource;
+import com.study.myspringstudydiary.study_log.dto.response.ApiResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    @Test
+    @DisplayName("트랜잭션 시작 시 커넥션 제한에 걸리면 503과 Retry-After로 응답한다")
+    void transactionalPath_connectionLimit_returns503() throws SQLException {
+        DriverManagerDataSource h2 = new DriverManagerDataSource(
+                "jdbc:h2:mem:exception_handler;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        h2.setDriverClassName("org.h2.Driver");
+        ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(h2, 1, Duration.ofMillis(50));
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        CannotCreateTransactionException e;
+        try (Connection held = dataSource.getConnection()) {
+            e = catchThrowableOfType(
+                    () -> transactionTemplate.executeWithoutResult(status -> { }),
+                    CannotCreateTransactionException.class);
+        }
+
+        ResponseEntity<ApiResponse<Void>> response = handler.handleCannotCreateTransaction(e);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(response.getBody().getErrorCode()).isEqualTo("SERVICE_UNAVAILABLE");
+    }
+
+    @Test
+    @DisplayName("커넥션 포화가 아닌 트랜잭션 시작 실패는 500으로 응답한다")
+    void otherTransactionFailure_returns500() {
+        CannotCreateTransactionException e = new CannotCreateTransactionException(
+                "Could not open JDBC Connection", new SQLException("Access denied"));
+
+        ResponseEntity<ApiResponse<Void>> response = handler.handleCannotCreateTransaction(e);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+}
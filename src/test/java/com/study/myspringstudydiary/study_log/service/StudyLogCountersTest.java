@@ -0,0 +1,177 @@
+package com.study.myspringstudydiary.study_log.service;
+
+import com.study.myspringstudydiary.study_log.dao.InMemoryStudyLogDao;
+import com.study.myspringstudydiary.study_log.dao.StudyLogField;
+import com.study.myspringstudydiary.study_log.dao.StudyLogStatsDao;
+import com.study.myspringstudydiary.study_log.entity.Category;
+import com.study.myspringstudydiary.study_log.entity.StudyLog;
+import com.study.myspringstudydiary.study_log.entity.StudyLogDailyStats;
+import com.study.myspringstudydiary.study_log.entity.Understanding;
+import com.study.myspringstudydiary.study_log.event.StudyLogChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StudyLogCountersTest {
+
+    private InMemoryStudyLogDao studyLogDao;
+    private StudyLogCounters counters;
+
+    @BeforeEach
+    void setUp() {
+        AtomicReference<StudyLogCounters> holder = new AtomicReference<>();
+        studyLogDao = new InMemoryStudyLogDao(event -> holder.get().onChanged((StudyLogChangedEvent) event));
+        studyLogDao.save(log(null, Category.JAVA, Understanding.GOOD, 60));
+        studyLogDao.save(log(null, Category.SPRING, Understanding.BAD, 30));
+
+        counters = new StudyLogCounters(studyLogDao, rollupOf(studyLogDao));
+        holder.set(counters);
+        counters.seed();
+    }
+
+    @Test
+    @DisplayName("시작 시 롤업의 카테고리별 합계로 카운터를 채운다")
+    void seed() {
+        assertThat(counters.getTotalCount()).isEqualTo(2);
+        assertThat(counters.getTotalStudyTime()).isEqualTo(90);
+        assertThat(counters.getCategoryCount(Category.JAVA)).isEqualTo(1);
+        assertThat(counters.getUnderstandingCount(Understanding.BAD)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("생성 / 수정 / 삭제가 카운터에 반영된다")
+    void createUpdateDelete() {
+        StudyLog created = studyLogDao.save(log(null, Category.JPA, Understanding.NORMAL, 45));
+        studyLogDao.update(log(created.getId(), Category.DATABASE, Understanding.VERY_GOOD, 15));
+        studyLogDao.deleteById(1L);
+
+        assertThat(counters.getTotalCount()).isEqualTo(2);
+        assertThat(counters.getTotalStudyTime()).isEqualTo(45);
+        assertThat(counters.getCategoryCount(Category.JAVA)).isZero();
+        assertThat(counters.getCategoryCount(Category.JPA)).isZero();
+        assertThat(counters.getCategoryCount(Category.DATABASE)).isEqualTo(1);
+        assertThat(counters.getUnderstandingCount(Understanding.VERY_GOOD)).isEqualTo(1);
+        assertThat(counters.getUnderstandingCount(Understanding.NORMAL)).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 일지의 카테고리를 동시에 바꿔도 카운터 합계가 어긋나지 않는다")
+    void concurrentCategoryChange() throws Exception {
+        Category[] categories = Category.values();
+        int threads = 8;
+        int iterations = 2_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int t = 0; t < threads; t++) {
+                int offset = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < iterations; i++) {
+                        Category category = categories[(offset + i) % categories.length];
+                        studyLogDao.update(log(1L, category, Understanding.GOOD, 60));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Category current = studyLogDao.findById(1L).orElseThrow().getCategory();
+        long sum = 0;
+        for (Category category : categories) {
+            long expected = (category == current ? 1 : 0) + (category == Category.SPRING ? 1 : 0);
+            assertThat(counters.getCategoryCount(category)).as(category.name()).isEqualTo(expected);
+            sum += counters.getCategoryCount(category);
+        }
+        assertThat(sum).isEqualTo(counters.getTotalCount()).isEqualTo(2);
+        assertThat(counters.getTotalStudyTime()).isEqualTo(90);
+    }
+
+    @Test
+    @DisplayName("전체 삭제 시 카운터를 0으로 초기화한다")
+    void deleteAll() {
+        studyLogDao.deleteAll();
+
+        assertThat(counters.snapshot().getTotalCount()).isZero();
+        assertThat(counters.snapshot().getCategories()).containsEntry("JAVA", 0L);
+    }
+
+    @Test
+    @DisplayName("이벤트로 받지 못한 쓰기(다른 인스턴스)는 재시드하면 반영된다")
+    void seed_picksUpWritesWithoutEvents() {
+        // 이벤트를 발행하지 않는 DAO = 다른 인스턴스가 같은 DB에 쓰는 상황
+        InMemoryStudyLogDao sharedDao = new InMemoryStudyLogDao(event -> { });
+        sharedDao.save(log(null, Category.JAVA, Understanding.GOOD, 60));
+        StudyLogStatsDao statsDao = rollupOf(sharedDao);
+        StudyLogCounters nodeCounters = new StudyLogCounters(sharedDao, statsDao);
+        nodeCounters.seed();
+
+        sharedDao.save(log(null, Category.NETWORK, Understanding.BAD, 30));
+        assertThat(nodeCounters.getTotalCount()).isEqualTo(1);
+
+        nodeCounters.seed();
+
+        assertThat(nodeCounters.getTotalCount()).isEqualTo(2);
+        assertThat(nodeCounters.getCategoryCount(Category.NETWORK)).isEqualTo(1);
+        assertThat(nodeCounters.getTotalStudyTime()).isEqualTo(90);
+        // 원본을 스캔하지 않고 롤업 합계 조회 한 번으로 시드
+        verify(statsDao, times(2)).sumByCategory(null, null);
+    }
+
+    // ========== PRIVATE METHODS ==========
+
+    /**
+     * MySQL DAO가 원본과 같은 트랜잭션에서 갱신하는 롤업을 흉내 내어,
+     * 호출 시점의 DAO 내용을 카테고리별로 합산해 돌려주는 StatsDao
+     */
+    private static StudyLogStatsDao rollupOf(InMemoryStudyLogDao dao) {
+        StudyLogStatsDao statsDao = mock(StudyLogStatsDao.class);
+        when(statsDao.sumByCategory(null, null)).thenAnswer(invocation -> {
+            Map<Category, List<StudyLog>> byCategory = new EnumMap<>(Category.class);
+            for (StudyLog studyLog : dao.findAll(StudyLogField.ALL)) {
+                byCategory.computeIfAbsent(studyLog.getCategory(), key -> new ArrayList<>()).add(studyLog);
+            }
+            List<StudyLogDailyStats> rows = new ArrayList<>();
+            byCategory.forEach((category, logs) -> {
+                EnumMap<Understanding, Long> understandingCounts = new EnumMap<>(Understanding.class);
+                logs.forEach(studyLog -> understandingCounts.merge(studyLog.getUnderstanding(), 1L, Long::sum));
+                rows.add(StudyLogDailyStats.builder()
+                        .category(category)
+                        .logCount(logs.size())
+                        .totalStudyTime(logs.stream().mapToLong(StudyLog::getStudyTime).sum())
+                        .understandingCounts(understandingCounts)
+                        .build());
+            });
+            return rows;
+        });
+        return statsDao;
+    }
+
+    private static StudyLog log(Long id, Category category, Understanding understanding, int studyTime) {
+        return new StudyLog(id, "title", "content", category, understanding, studyTime, LocalDate.of(2026, 1, 5));
+    }
+}
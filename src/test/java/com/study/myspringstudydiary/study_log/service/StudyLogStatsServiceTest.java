@@ -0,0 +1,72 @@
+package com.study.myspringstudydiary.study_log.service;
+
+import com.study.myspringstudydiary.study_log.dao.StudyLogStatsDao;
+import com.study.myspringstudydiary.study_log.dto.response.StudyLogStatsResponse;
+import com.study.myspringstudydiary.study_log.entity.Category;
+import com.study.myspringstudydiary.study_log.entity.StudyLogDailyStats;
+import com.study.myspringstudydiary.study_log.entity.Understanding;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class StudyLogStatsServiceTest {
+
+    private StudyLogStatsDao studyLogStatsDao;
+    private StudyLogStatsService studyLogStatsService;
+
+    @BeforeEach
+    void setUp() {
+        studyLogStatsDao = mock(StudyLogStatsDao.class);
+        studyLogStatsService = new StudyLogStatsService(studyLogStatsDao);
+    }
+
+    @Test
+    @DisplayName("일별 롤업을 주(월요일 시작) 단위로 합산한다")
+    void getWeeklyStats_groupsByMonday() {
+        // 2026-01-05(월), 2026-01-11(일)은 같은 주, 2026-01-12(월)은 다음 주
+        when(studyLogStatsDao.findDaily(null, null, "SPRING")).thenReturn(List.of(
+                daily(LocalDate.of(2026, 1, 5), 2, 120, Understanding.GOOD),
+                daily(LocalDate.of(2026, 1, 11), 1, 30, Understanding.BAD),
+                daily(LocalDate.of(2026, 1, 12), 1, 60, Understanding.GOOD)));
+
+        List<StudyLogStatsResponse> weekly = studyLogStatsService.getWeeklyStats(null, null, "spring");
+
+        assertThat(weekly).hasSize(2);
+        assertThat(weekly.get(0).getPeriodStart()).isEqualTo(LocalDate.of(2026, 1, 5));
+        assertThat(weekly.get(0).getCount()).isEqualTo(3);
+        assertThat(weekly.get(0).getTotalStudyTime()).isEqualTo(150);
+        assertThat(weekly.get(0).getUnderstanding())
+                .containsEntry("GOOD", 2L)
+                .containsEntry("BAD", 1L);
+        assertThat(weekly.get(1).getPeriodStart()).isEqualTo(LocalDate.of(2026, 1, 12));
+    }
+
+    @Test
+    @DisplayName("시작 날짜가 종료 날짜보다 늦으면 예외가 발생한다")
+    void getMonthlyStats_invalidRange() {
+        assertThatThrownBy(() -> studyLogStatsService.getMonthlyStats(
+                LocalDate.of(2026, 2, 1), LocalDate.of(2026, 1, 1), null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private StudyLogDailyStats daily(LocalDate date, long count, long studyTime, Understanding understanding) {
+        EnumMap<Understanding, Long> counts = new EnumMap<>(Understanding.class);
+        counts.put(understanding, count);
+        return StudyLogDailyStats.builder()
+                .studyDate(date)
+                .category(Category.SPRING)
+                .logCount(count)
+                .totalStudyTime(studyTime)
+                .understandingCounts(counts)
+                .build();
+    }
+}